@@ -0,0 +1,25 @@
+package com.gabia.bshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("idempotency")
+public class IdempotencyProperties {
+
+	// 처리가 끝난 응답을 보관하는 시간
+	private long expiredTime = 86_400_000L;
+
+	// 처리 중 표시를 보관하는 시간. 처리하던 노드가 죽어도 이 시간이 지나면 같은 키로 다시 처리할 수 있다
+	private long processingExpiredTime = 30_000L;
+
+	// 같은 키로 처리 중인 요청의 결과를 기다리는 최대 시간
+	private long waitTimeout = 5_000L;
+
+	private long pollInterval = 50L;
+}
@@ -0,0 +1,29 @@
+package com.gabia.bshop.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("item-cache")
+public class ItemCacheProperties {
+
+	private boolean enabled = true;
+
+	// 노드마다 메모리에 보관하는 상품 수
+	private int localMaxSize = 1000;
+
+	// 무효화 메시지를 놓쳐도 이 시간이 지나면 공유 캐시에서 다시 읽는다
+	private Duration localTtl = Duration.ofSeconds(30);
+
+	private Duration redisTtl = Duration.ofMinutes(10);
+
+	// 노드마다 메모리에 보관하는 장바구니 표시용 상품 옵션 수
+	private int cartLocalMaxSize = 10000;
+}
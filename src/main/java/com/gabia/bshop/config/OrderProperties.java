@@ -0,0 +1,152 @@
+package com.gabia.bshop.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("order")
+public class OrderProperties {
+
+	// Redis 재고 카운터로 주문을 먼저 거르는지 여부
+	private boolean stockGate;
+
+	// DB 재고 차감 방식
+	private StockStrategy stockStrategy = StockStrategy.PESSIMISTIC_LOCK;
+
+	private final Batch batch = new Batch();
+
+	private final Ticket ticket = new Ticket();
+
+	private final FlashSale flashSale = new FlashSale();
+
+	private final Archive archive = new Archive();
+
+	private final Event event = new Event();
+
+	private final StatusUpdate statusUpdate = new StatusUpdate();
+
+	public enum StockStrategy {
+		PESSIMISTIC_LOCK, // SELECT ... FOR UPDATE 후 더티 체킹으로 차감
+		CONDITIONAL_UPDATE // UPDATE ... WHERE stock_quantity >= ? 한 번으로 차감
+	}
+
+	/**
+	 * 동시에 들어온 주문을 모아 한 트랜잭션으로 처리하는 설정.
+	 * 배치는 옵션 행을 한 번에 잠그고 검증하므로 stock-strategy 가 PESSIMISTIC_LOCK 일 때만 켤 수 있다.
+	 */
+	@Getter
+	@Setter
+	public static class Batch {
+
+		private boolean enabled;
+
+		// 한 트랜잭션에 담을 최대 주문 수
+		private int maxSize = 100;
+
+		// 첫 주문 이후 다음 주문을 기다리는 최대 시간
+		private long windowMillis = 5;
+
+		// 요청 스레드가 배치 결과를 기다리는 최대 시간. 그때까지 배치에 들어가지 못한 주문은 만들지 않는다
+		private long resultTimeoutMillis = 10000;
+	}
+
+	/**
+	 * 202로 먼저 응답하고 나중에 주문을 만드는 비동기 접수 설정
+	 */
+	@Getter
+	@Setter
+	public static class Ticket {
+
+		private boolean enabled;
+
+		// 주문을 만드는 컨슈머 스레드 수 (이 노드에서 주문 생성에 쓰는 DB 커넥션 수의 상한)
+		private int consumerCount = 4;
+
+		// 컨슈머가 처리하지 못하고 쌓아 둘 수 있는 티켓 수
+		private int queueCapacity = 100;
+
+		// 한 번의 폴링에서 가져오는 대기 티켓 수
+		private int fetchSize = 50;
+
+		// 대기 티켓을 조회하는 주기
+		private long pollDelayMillis = 200;
+
+		// 락 타임아웃 같은 일시적인 오류로 이 횟수만큼 실패하면 티켓을 실패 처리한다
+		private int maxAttemptCount = 5;
+
+		// 일시적인 오류 뒤 다시 시도하기까지 기다리는 시간. 실패할 때마다 두 배로 늘어난다
+		private long retryBackoffMillis = 1000;
+	}
+
+	/**
+	 * 예약 상품 오픈 직전에 재고를 Redis 에 올려 두고 오픈 시각에 바로 판매를 시작하는 설정
+	 */
+	@Getter
+	@Setter
+	public static class FlashSale {
+
+		private boolean enabled;
+
+		// openAt 이 이 시간 안으로 다가온 예약 상품을 미리 준비한다
+		private Duration prepareLead = Duration.ofMinutes(1);
+
+		// 오픈 후 재고 게이트를 강제로 적용하는 시간
+		private Duration activeDuration = Duration.ofHours(1);
+	}
+
+	/**
+	 * 오래된 주문을 orders_archive 로 옮기는 설정. 켜면 주문 목록 조회도 보관 테이블을 함께 본다.
+	 */
+	@Getter
+	@Setter
+	public static class Archive {
+
+		private boolean enabled;
+
+		// 생성된 지 이 기간이 지난 주문을 옮긴다
+		private Duration horizon = Duration.ofDays(365);
+
+		// 한 트랜잭션에서 옮기는 주문 수
+		private int chunkSize = 500;
+	}
+
+	/**
+	 * 주문 이벤트 아웃박스(order_event)를 리스너로 발행하는 디스패처 설정
+	 */
+	@Getter
+	@Setter
+	public static class Event {
+
+		private boolean enabled = true;
+
+		// 한 번의 폴링에서 가져오는 대기 이벤트 수
+		private int batchSize = 100;
+
+		// 대기 이벤트를 조회하는 주기
+		private long pollDelayMillis = 500;
+
+		// 리스너가 이 횟수만큼 실패하면 더 이상 발행하지 않는다
+		private int maxAttemptCount = 5;
+
+		// 주문 생성 이벤트로 주문한 상품을 장바구니에서 지울지 여부. 장바구니 주문(checkout)은 이 설정과 관계없이 지운다
+		private boolean cartCleanup;
+	}
+
+	/**
+	 * 관리자 주문 상태 일괄 변경 설정
+	 */
+	@Getter
+	@Setter
+	public static class StatusUpdate {
+
+		// 한 트랜잭션에서 잠그고 변경하는 주문 수
+		private int chunkSize = 500;
+	}
+}
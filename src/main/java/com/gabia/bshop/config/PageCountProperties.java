@@ -0,0 +1,34 @@
+package com.gabia.bshop.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("page-count")
+public class PageCountProperties {
+
+	// 목록 이름별 전체 개수 계산 방식. 설정하지 않은 목록은 EXACT
+	private Map<String, CountMode> modes = new HashMap<>();
+
+	// CACHED 방식에서 같은 검색 조건의 개수를 재사용하는 시간
+	private Duration cachedTtl = Duration.ofSeconds(10);
+
+	public CountMode getMode(final String listName) {
+		return modes.getOrDefault(listName, CountMode.EXACT);
+	}
+
+	public enum CountMode {
+		EXACT, // 매 요청마다 count 쿼리
+		CACHED, // 검색 조건별로 count 결과를 잠시 재사용
+		ESTIMATED // 조건이 없는 목록은 테이블 통계의 행 수를 사용. 조건이 있으면 CACHED 로 동작
+	}
+}
@@ -0,0 +1,17 @@
+package com.gabia.bshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("sales-rollup")
+public class SalesRollupProperties {
+
+	// 야간 재생성 작업이 어제부터 거슬러 올라가며 다시 만드는 일 수
+	private int rebuildDays = 7;
+}
@@ -8,17 +8,23 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.request.CartBulkCreateRequest;
 import com.gabia.bshop.dto.request.CartCreateRequest;
 import com.gabia.bshop.dto.request.CartDeleteRequest;
+import com.gabia.bshop.dto.response.CartBulkCreateResponse;
+import com.gabia.bshop.dto.response.CartCheckoutResponse;
 import com.gabia.bshop.dto.response.CartResponse;
 import com.gabia.bshop.mapper.CartMapper;
 import com.gabia.bshop.security.CurrentMember;
 import com.gabia.bshop.security.Login;
 import com.gabia.bshop.security.MemberPayload;
 import com.gabia.bshop.service.CartService;
+import com.gabia.bshop.service.IdempotencyService;
+import com.gabia.bshop.service.OrderFacade;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +33,11 @@ import lombok.RequiredArgsConstructor;
 @RestController
 public class CartController {
 
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
 	private final CartService cartService;
+	private final IdempotencyService idempotencyService;
+	private final OrderFacade orderFacade;
 
 	@Login
 	@GetMapping("/carts")
@@ -38,10 +48,41 @@ public class CartController {
 	@Login
 	@PostMapping("/carts")
 	public ResponseEntity<CartDto> createCart(@CurrentMember MemberPayload memberPayload,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
 		@RequestBody @Valid CartCreateRequest cartCreateRequest) {
 		final CartDto cartDto = CartMapper.INSTANCE.cartCreateRequestToCartDto(cartCreateRequest);
 		return ResponseEntity.status(HttpStatus.CREATED)
-			.body(cartService.createCart(memberPayload.id(), cartDto));
+			.body(idempotencyService.execute(memberPayload.id(), "carts", idempotencyKey, cartDto, CartDto.class,
+				() -> cartService.createCart(memberPayload.id(), cartDto)));
+	}
+
+	/**
+	 * 여러 상품을 한 번에 담는다. 하나라도 담을 수 없으면 아무것도 담지 않는다.
+	 */
+	@Login
+	@PostMapping("/carts/bulk")
+	public ResponseEntity<CartBulkCreateResponse> createCartList(@CurrentMember MemberPayload memberPayload,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+		@RequestBody @Valid CartBulkCreateRequest cartBulkCreateRequest) {
+		final List<CartDto> cartDtoList = cartBulkCreateRequest.cartCreateRequestList().stream()
+			.map(CartMapper.INSTANCE::cartCreateRequestToCartDto)
+			.toList();
+		return ResponseEntity.status(HttpStatus.CREATED)
+			.body(idempotencyService.execute(memberPayload.id(), "carts-bulk", idempotencyKey, cartBulkCreateRequest,
+				CartBulkCreateResponse.class,
+				() -> new CartBulkCreateResponse(cartService.createCartList(memberPayload.id(), cartDtoList))));
+	}
+
+	/**
+	 * 장바구니에 담긴 상품을 주문하고 주문한 상품을 장바구니에서 지운다. 주문하지 못한 상품은 줄마다 이유를 돌려준다.
+	 */
+	@Login
+	@PostMapping("/carts/checkout")
+	public ResponseEntity<CartCheckoutResponse> checkoutCart(@CurrentMember MemberPayload memberPayload,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		return ResponseEntity.status(HttpStatus.CREATED)
+			.body(idempotencyService.execute(memberPayload.id(), "carts-checkout", idempotencyKey, memberPayload.id(),
+				CartCheckoutResponse.class, () -> orderFacade.checkoutCart(memberPayload.id())));
 	}
 
 	/**
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,11 +15,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.gabia.bshop.dto.CatalogSnapshot;
 import com.gabia.bshop.dto.CategoryDto;
 import com.gabia.bshop.dto.request.CategoryCreateRequest;
 import com.gabia.bshop.dto.request.CategoryUpdateRequest;
 import com.gabia.bshop.dto.response.CategoryAllInfoResponse;
 import com.gabia.bshop.security.Login;
+import com.gabia.bshop.service.CatalogSnapshotService;
 import com.gabia.bshop.service.CategoryService;
 import com.gabia.bshop.util.validator.LimitedSizePagination;
 
@@ -30,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 public class CategoryController {
 
 	private final CategoryService categoryService;
+	private final CatalogSnapshotService catalogSnapshotService;
 
 	@Login
 	@GetMapping("/categories/{categoryId}")
@@ -79,6 +83,10 @@ public class CategoryController {
 
 	@GetMapping("/category-names")
 	public ResponseEntity<List<String>> findCategoryNames() {
-		return ResponseEntity.ok(categoryService.findCategoryNames());
+		final CatalogSnapshot catalogSnapshot = catalogSnapshotService.getCatalogSnapshot();
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.eTag(catalogSnapshot.eTag())
+			.body(catalogSnapshot.categoryNameList());
 	}
 }
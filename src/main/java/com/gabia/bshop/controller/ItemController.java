@@ -4,6 +4,8 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,15 +13,23 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.gabia.bshop.dto.CatalogSnapshot;
+import com.gabia.bshop.dto.request.CursorPageRequest;
 import com.gabia.bshop.dto.request.ItemCreateRequest;
+import com.gabia.bshop.dto.request.ItemSortKey;
 import com.gabia.bshop.dto.request.ItemUpdateRequest;
+import com.gabia.bshop.dto.response.CursorPageResponse;
 import com.gabia.bshop.dto.response.ItemAllInfoResponse;
+import com.gabia.bshop.dto.response.ItemFacetSearchResponse;
 import com.gabia.bshop.dto.response.ItemPageResponse;
 import com.gabia.bshop.dto.response.ItemResponse;
 import com.gabia.bshop.dto.searchConditions.ItemSearchConditions;
 import com.gabia.bshop.security.Login;
+import com.gabia.bshop.service.CatalogSnapshotService;
+import com.gabia.bshop.service.ItemFacade;
 import com.gabia.bshop.service.ItemService;
 import com.gabia.bshop.util.validator.LimitedSizePagination;
 
@@ -31,11 +41,13 @@ import lombok.RequiredArgsConstructor;
 public class ItemController {
 
 	private final ItemService itemService;
+	private final ItemFacade itemFacade;
+	private final CatalogSnapshotService catalogSnapshotService;
 
 	@Login
 	@GetMapping("/items/{id}")
 	public ResponseEntity<ItemResponse> findItem(@PathVariable final Long id) {
-		return ResponseEntity.ok(itemService.findItem(id));
+		return ResponseEntity.ok(itemFacade.findItem(id));
 	}
 
 	@Login
@@ -45,6 +57,23 @@ public class ItemController {
 		return ResponseEntity.ok(itemService.findItemListByItemSearchConditions(pageable, itemSearchConditions));
 	}
 
+	@Login
+	@GetMapping("/items/cursor")
+	public ResponseEntity<CursorPageResponse<ItemPageResponse>> findItemCursorList(
+		@Valid final CursorPageRequest cursorPageRequest, final ItemSearchConditions itemSearchConditions,
+		@RequestParam(defaultValue = "ID") final ItemSortKey sortKey,
+		@RequestParam(defaultValue = "ASC") final Sort.Direction direction) {
+		return ResponseEntity.ok(
+			itemService.findItemCursorList(itemSearchConditions, sortKey, direction, cursorPageRequest));
+	}
+
+	@Login
+	@GetMapping("/items/facets")
+	public ResponseEntity<ItemFacetSearchResponse> findItemFacetSearch(@LimitedSizePagination final Pageable pageable,
+		final ItemSearchConditions itemSearchConditions) {
+		return ResponseEntity.ok(itemService.findItemFacetSearch(pageable, itemSearchConditions));
+	}
+
 	@Login(admin = true)
 	@GetMapping("/admin/items/{id}")
 	public ResponseEntity<ItemAllInfoResponse> findItemWithDeleted(@PathVariable final Long id) {
@@ -58,6 +87,23 @@ public class ItemController {
 		return ResponseEntity.ok(itemService.findItemListWithDeleted(pageable, itemSearchConditions));
 	}
 
+	@Login(admin = true)
+	@GetMapping("/admin/items/cursor")
+	public ResponseEntity<CursorPageResponse<ItemAllInfoResponse>> findItemCursorListWithDeleted(
+		@Valid final CursorPageRequest cursorPageRequest, final ItemSearchConditions itemSearchConditions,
+		@RequestParam(defaultValue = "ID") final ItemSortKey sortKey,
+		@RequestParam(defaultValue = "ASC") final Sort.Direction direction) {
+		return ResponseEntity.ok(
+			itemService.findItemCursorListWithDeleted(itemSearchConditions, sortKey, direction, cursorPageRequest));
+	}
+
+	@Login(admin = true)
+	@PostMapping("/admin/item-listings/rebuild")
+	public ResponseEntity<Void> rebuildItemListing() {
+		itemFacade.rebuildItemListing();
+		return ResponseEntity.noContent().build();
+	}
+
 	@Login(admin = true)
 	@PostMapping("/items")
 	public ResponseEntity<ItemResponse> createItem(@RequestBody @Valid final ItemCreateRequest itemCreateRequest) {
@@ -80,6 +126,10 @@ public class ItemController {
 	@Login
 	@GetMapping("/item-years")
 	public ResponseEntity<List<Integer>> findYears() {
-		return ResponseEntity.ok(itemService.findItemYears());
+		final CatalogSnapshot catalogSnapshot = catalogSnapshotService.getCatalogSnapshot();
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache())
+			.eTag(catalogSnapshot.eTag())
+			.body(catalogSnapshot.itemYearList());
 	}
 }
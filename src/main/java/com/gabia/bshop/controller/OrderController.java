@@ -1,8 +1,13 @@
 package com.gabia.bshop.controller;
 
+import java.net.URI;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,19 +15,32 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.gabia.bshop.dto.request.CursorPageRequest;
+import com.gabia.bshop.dto.request.OrderBulkUpdateStatusRequest;
 import com.gabia.bshop.dto.request.OrderCreateRequest;
+import com.gabia.bshop.dto.request.OrderExportFormat;
 import com.gabia.bshop.dto.request.OrderUpdateStatusRequest;
+import com.gabia.bshop.dto.response.CursorPageResponse;
+import com.gabia.bshop.dto.response.OrderBulkUpdateStatusResponse;
 import com.gabia.bshop.dto.response.OrderCreateResponse;
 import com.gabia.bshop.dto.response.OrderInfoPageResponse;
 import com.gabia.bshop.dto.response.OrderInfoResponse;
+import com.gabia.bshop.dto.response.OrderTicketResponse;
 import com.gabia.bshop.dto.response.OrderUpdateStatusResponse;
 import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
 import com.gabia.bshop.security.CurrentMember;
 import com.gabia.bshop.security.Login;
 import com.gabia.bshop.security.MemberPayload;
+import com.gabia.bshop.service.IdempotencyService;
+import com.gabia.bshop.service.OrderExportService;
+import com.gabia.bshop.service.OrderFacade;
 import com.gabia.bshop.service.OrderService;
+import com.gabia.bshop.service.OrderTicketService;
 import com.gabia.bshop.util.validator.LimitedSizePagination;
 
 import jakarta.validation.Valid;
@@ -32,7 +50,13 @@ import lombok.RequiredArgsConstructor;
 @RestController
 public class OrderController {
 
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
 	private final OrderService orderService;
+	private final OrderFacade orderFacade;
+	private final OrderTicketService orderTicketService;
+	private final IdempotencyService idempotencyService;
+	private final OrderExportService orderExportService;
 
 	@Login
 	@GetMapping("/orders")
@@ -42,6 +66,15 @@ public class OrderController {
 		return ResponseEntity.ok(orderService.findOrderInfoList(pageable, memberPayload.id(), orderSearchConditions));
 	}
 
+	@Login
+	@GetMapping("/orders/cursor")
+	public ResponseEntity<CursorPageResponse<OrderInfoPageResponse>> findOrderInfoCursorList(
+		@CurrentMember final MemberPayload memberPayload, @Valid final CursorPageRequest cursorPageRequest,
+		final OrderSearchConditions orderSearchConditions) {
+		return ResponseEntity.ok(
+			orderService.findOrderInfoCursorList(memberPayload.id(), orderSearchConditions, cursorPageRequest));
+	}
+
 	@Login
 	@GetMapping("/orders/{orderId}")
 	public ResponseEntity<OrderInfoResponse> findOrderInfo(@CurrentMember final MemberPayload memberPayload,
@@ -56,20 +89,60 @@ public class OrderController {
 		return ResponseEntity.ok(orderService.findAllOrderInfoList(orderSearchConditions, pageable));
 	}
 
+	@Login(admin = true)
+	@GetMapping("/admin/orders/cursor")
+	public ResponseEntity<CursorPageResponse<OrderInfoPageResponse>> findAllOrderInfoCursorList(
+		@Valid final CursorPageRequest cursorPageRequest, final OrderSearchConditions orderSearchConditions) {
+		return ResponseEntity.ok(orderService.findOrderInfoCursorList(null, orderSearchConditions, cursorPageRequest));
+	}
+
+	@Login(admin = true)
+	@GetMapping("/admin/orders/export")
+	public ResponseEntity<StreamingResponseBody> exportOrders(
+		@RequestParam(defaultValue = "CSV") final OrderExportFormat format,
+		final OrderSearchConditions orderSearchConditions) {
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(format.getContentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+				ContentDisposition.attachment().filename("orders." + format.getExtension()).build().toString())
+			.body(outputStream -> orderExportService.export(orderSearchConditions, format, outputStream));
+	}
+
 	@Login
 	@PostMapping("/orders")
 	public ResponseEntity<OrderCreateResponse> createOrder(
 		@CurrentMember final MemberPayload memberPayload,
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
 		@RequestBody @Valid final OrderCreateRequest orderCreateRequest) {
 		return ResponseEntity.status(HttpStatus.CREATED)
-			.body(orderService.createOrder(memberPayload.id(), orderCreateRequest));
+			.body(idempotencyService.execute(memberPayload.id(), "orders", idempotencyKey, orderCreateRequest,
+				OrderCreateResponse.class, () -> orderFacade.createOrder(memberPayload.id(), orderCreateRequest)));
+	}
+
+	@Login
+	@PostMapping("/orders/tickets")
+	public ResponseEntity<OrderTicketResponse> createOrderTicket(
+		@CurrentMember final MemberPayload memberPayload,
+		@RequestBody @Valid final OrderCreateRequest orderCreateRequest) {
+		final OrderTicketResponse orderTicketResponse = orderFacade.createOrderTicket(memberPayload.id(),
+			orderCreateRequest);
+		return ResponseEntity.accepted()
+			.location(URI.create("/orders/tickets/" + orderTicketResponse.id()))
+			.body(orderTicketResponse);
+	}
+
+	@Login
+	@GetMapping("/orders/tickets/{orderTicketId}")
+	public ResponseEntity<OrderTicketResponse> findOrderTicket(@CurrentMember final MemberPayload memberPayload,
+		@PathVariable("orderTicketId") final Long orderTicketId) {
+		return ResponseEntity.ok(orderTicketService.findOrderTicket(memberPayload.id(), orderTicketId));
 	}
 
 	@Login
 	@DeleteMapping("/orders/{orderId}")
 	public ResponseEntity<Void> cancelOrder(@CurrentMember final MemberPayload memberPayload,
 		@PathVariable final Long orderId) {
-		orderService.cancelOrder(memberPayload.id(), orderId);
+		orderFacade.cancelOrder(memberPayload.id(), orderId);
 		return ResponseEntity.noContent().build();
 	}
 
@@ -79,4 +152,11 @@ public class OrderController {
 		@RequestBody @Valid final OrderUpdateStatusRequest orderUpdateStatusRequest) {
 		return ResponseEntity.ok(orderService.updateOrderStatus(orderUpdateStatusRequest));
 	}
+
+	@Login(admin = true)
+	@PatchMapping("/admin/orders")
+	public ResponseEntity<OrderBulkUpdateStatusResponse> updateOrderStatusList(
+		@RequestBody @Valid final OrderBulkUpdateStatusRequest orderBulkUpdateStatusRequest) {
+		return ResponseEntity.ok(orderFacade.updateOrderStatusList(orderBulkUpdateStatusRequest));
+	}
 }
@@ -0,0 +1,60 @@
+package com.gabia.bshop.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gabia.bshop.dto.response.DailySalesResponse;
+import com.gabia.bshop.dto.response.SalesResponse;
+import com.gabia.bshop.dto.searchConditions.SalesSearchConditions;
+import com.gabia.bshop.security.Login;
+import com.gabia.bshop.service.SalesRollupService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RestController
+public class SalesController {
+
+	private final SalesRollupService salesRollupService;
+
+	@Login(admin = true)
+	@GetMapping("/admin/sales/items")
+	public ResponseEntity<List<SalesResponse>> findItemSalesList(
+		@Valid final SalesSearchConditions salesSearchConditions) {
+		return ResponseEntity.ok(salesRollupService.findItemSalesList(salesSearchConditions));
+	}
+
+	@Login(admin = true)
+	@GetMapping("/admin/sales/items/{itemId}/daily")
+	public ResponseEntity<List<DailySalesResponse>> findItemDailySalesList(@PathVariable final Long itemId,
+		@Valid final SalesSearchConditions salesSearchConditions) {
+		return ResponseEntity.ok(salesRollupService.findItemDailySalesList(itemId, salesSearchConditions));
+	}
+
+	@Login(admin = true)
+	@GetMapping("/admin/sales/items/{itemId}/options")
+	public ResponseEntity<List<SalesResponse>> findOptionSalesList(@PathVariable final Long itemId,
+		@Valid final SalesSearchConditions salesSearchConditions) {
+		return ResponseEntity.ok(salesRollupService.findOptionSalesList(itemId, salesSearchConditions));
+	}
+
+	@Login(admin = true)
+	@GetMapping("/admin/sales/categories")
+	public ResponseEntity<List<SalesResponse>> findCategorySalesList(
+		@Valid final SalesSearchConditions salesSearchConditions) {
+		return ResponseEntity.ok(salesRollupService.findCategorySalesList(salesSearchConditions));
+	}
+
+	@Login(admin = true)
+	@PostMapping("/admin/sales/rebuild")
+	public ResponseEntity<Void> rebuild(@Valid final SalesSearchConditions salesSearchConditions) {
+		salesRollupService.rebuild(salesSearchConditions);
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -0,0 +1,16 @@
+package com.gabia.bshop.dto;
+
+/**
+ * 장바구니 화면에 보여 주는 상품 옵션 정보 중 자주 바뀌지 않는 부분. 수량과 재고는 담지 않는다.
+ */
+public record CartItemDisplay(
+	Long itemId,
+	Long itemOptionId,
+	String itemOptionDescription,
+	String itemName,
+	int basePrice,
+	int optionPrice,
+	String category,
+	String itemThumbnailUrl
+) {
+}
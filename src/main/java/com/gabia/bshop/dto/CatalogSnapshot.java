@@ -0,0 +1,27 @@
+package com.gabia.bshop.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 카테고리 이름과 상품 연도 목록을 한 번에 읽어 둔 변하지 않는 스냅샷
+ * @param version 카탈로그가 바뀔 때마다 올라가는 번호. 스냅샷을 만들기 전에 읽은 번호다.
+ */
+public record CatalogSnapshot(
+	long version,
+	List<String> categoryNameList,
+	List<Integer> itemYearList
+) {
+
+	public CatalogSnapshot {
+		categoryNameList = List.copyOf(categoryNameList);
+		itemYearList = List.copyOf(itemYearList);
+	}
+
+	/**
+	 * 버전 카운터가 초기화되어도 내용이 다르면 ETag 가 겹치지 않도록 내용의 해시를 함께 쓴다.
+	 */
+	public String eTag() {
+		return "\"" + version + "-" + Integer.toHexString(Objects.hash(categoryNameList, itemYearList)) + "\"";
+	}
+}
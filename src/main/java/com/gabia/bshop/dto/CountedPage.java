@@ -0,0 +1,31 @@
+package com.gabia.bshop.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import lombok.Getter;
+
+/**
+ * 전체 개수가 캐시나 테이블 통계에서 온 값인지 함께 알려주는 페이지.
+ * map 으로 응답 DTO 로 바꿔도 approximateTotal 값이 유지된다.
+ */
+@Getter
+public class CountedPage<T> extends PageImpl<T> {
+
+	private final boolean approximateTotal;
+
+	public CountedPage(final List<T> content, final Pageable pageable, final long total,
+		final boolean approximateTotal) {
+		super(content, pageable, total);
+		this.approximateTotal = approximateTotal;
+	}
+
+	@Override
+	public <U> Page<U> map(final Function<? super T, ? extends U> converter) {
+		return new CountedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), approximateTotal);
+	}
+}
@@ -0,0 +1,15 @@
+package com.gabia.bshop.dto;
+
+/**
+ * @param requestHash 같은 키로 다른 요청을 보냈는지 확인하기 위한 요청 본문 해시
+ * @param response 처리가 끝난 응답 JSON. 처리 중이면 null
+ */
+public record IdempotencyRecord(
+	String requestHash,
+	String response
+) {
+
+	public boolean isProcessing() {
+		return response == null;
+	}
+}
@@ -0,0 +1,17 @@
+package com.gabia.bshop.dto;
+
+import com.gabia.bshop.dto.response.ItemResponse;
+
+/**
+ * @param generation 상품이 무효화될 때마다 올라가는 번호. 저장된 번호가 현재 번호와 다르면 지난 데이터다.
+ * @param itemResponse 현재 번호로 저장된 상품 상세. 없으면 null
+ */
+public record ItemCacheEntry(
+	long generation,
+	ItemResponse itemResponse
+) {
+
+	public boolean isHit() {
+		return itemResponse != null;
+	}
+}
@@ -0,0 +1,65 @@
+package com.gabia.bshop.dto;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.data.domain.Sort;
+
+import com.gabia.bshop.dto.request.ItemSortKey;
+import com.gabia.bshop.entity.Item;
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.util.CursorCodec;
+
+/**
+ * 상품 목록의 정렬 키 (정렬 값, id) 에서 마지막으로 내려준 위치
+ * 정렬 키와 방향도 커서에 담아서, 다른 정렬로 받은 커서를 이어 쓰지 못하게 한다.
+ * @param openAt sortKey 가 OPEN_AT 일 때만 채워진다
+ * @param basePrice sortKey 가 BASE_PRICE 일 때만 채워진다
+ */
+public record ItemCursor(
+	ItemSortKey sortKey,
+	Sort.Direction direction,
+	LocalDateTime openAt,
+	Integer basePrice,
+	Long id
+) {
+
+	public static ItemCursor from(final Item item, final ItemSortKey sortKey, final Sort.Direction direction) {
+		return new ItemCursor(sortKey, direction,
+			sortKey == ItemSortKey.OPEN_AT ? item.getOpenAt() : null,
+			sortKey == ItemSortKey.BASE_PRICE ? item.getBasePrice() : null,
+			item.getId());
+	}
+
+	public static ItemCursor decode(final String cursor, final ItemSortKey sortKey, final Sort.Direction direction) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		final String[] values = CursorCodec.decode(cursor, 4);
+		if (!sortKey.name().equals(values[0]) || !direction.name().equals(values[1])) {
+			throw new BadRequestException(INVALID_CURSOR_EXCEPTION);
+		}
+		try {
+			return switch (sortKey) {
+				case ID -> new ItemCursor(sortKey, direction, null, null, Long.valueOf(values[3]));
+				case OPEN_AT -> new ItemCursor(sortKey, direction, LocalDateTime.parse(values[2]), null,
+					Long.valueOf(values[3]));
+				case BASE_PRICE -> new ItemCursor(sortKey, direction, null, Integer.valueOf(values[2]),
+					Long.valueOf(values[3]));
+			};
+		} catch (DateTimeParseException | NumberFormatException e) {
+			throw new BadRequestException(INVALID_CURSOR_EXCEPTION);
+		}
+	}
+
+	public String encode() {
+		final String sortValue = switch (sortKey) {
+			case ID -> "";
+			case OPEN_AT -> openAt.toString();
+			case BASE_PRICE -> basePrice.toString();
+		};
+		return CursorCodec.encode(sortKey.name(), direction.name(), sortValue, id.toString());
+	}
+}
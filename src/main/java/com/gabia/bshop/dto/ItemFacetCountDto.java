@@ -0,0 +1,12 @@
+package com.gabia.bshop.dto;
+
+/**
+ * 상품 검색 결과를 카테고리와 연도별로 묶은 상품 수
+ */
+public record ItemFacetCountDto(
+	Long categoryId,
+	String categoryName,
+	int year,
+	long count
+) {
+}
@@ -0,0 +1,29 @@
+package com.gabia.bshop.dto;
+
+import java.time.LocalDateTime;
+
+import com.gabia.bshop.entity.enumtype.ItemStatus;
+
+/**
+ * item_listing 한 행을 만들기 위해 상품, 카테고리, 옵션을 한 번에 읽은 값
+ * @param minOptionPrice 옵션이 없으면 null
+ * @param maxOptionPrice 옵션이 없으면 null
+ * @param maxStockQuantity 옵션이 없으면 null
+ */
+public record ItemListingSourceDto(
+	Long itemId,
+	Long categoryId,
+	String categoryName,
+	String name,
+	String description,
+	int basePrice,
+	String thumbnail,
+	ItemStatus itemStatus,
+	int year,
+	LocalDateTime openAt,
+	boolean deleted,
+	Integer minOptionPrice,
+	Integer maxOptionPrice,
+	Integer maxStockQuantity
+) {
+}
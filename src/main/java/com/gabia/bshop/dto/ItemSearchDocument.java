@@ -0,0 +1,11 @@
+package com.gabia.bshop.dto;
+
+/**
+ * 상품 검색 색인에 넣는 상품 이름과 설명
+ */
+public record ItemSearchDocument(
+	Long id,
+	String name,
+	String description
+) {
+}
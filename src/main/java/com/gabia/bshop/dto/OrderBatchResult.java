@@ -0,0 +1,22 @@
+package com.gabia.bshop.dto;
+
+import com.gabia.bshop.dto.response.OrderCreateResponse;
+import com.gabia.bshop.exception.ApplicationException;
+
+public record OrderBatchResult(
+	OrderCreateResponse orderCreateResponse,
+	ApplicationException exception
+) {
+
+	public static OrderBatchResult success(final OrderCreateResponse orderCreateResponse) {
+		return new OrderBatchResult(orderCreateResponse, null);
+	}
+
+	public static OrderBatchResult fail(final ApplicationException exception) {
+		return new OrderBatchResult(null, exception);
+	}
+
+	public boolean isSuccess() {
+		return exception == null;
+	}
+}
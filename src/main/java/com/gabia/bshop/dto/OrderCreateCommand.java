@@ -0,0 +1,9 @@
+package com.gabia.bshop.dto;
+
+import com.gabia.bshop.dto.request.OrderCreateRequest;
+
+public record OrderCreateCommand(
+	Long memberId,
+	OrderCreateRequest orderCreateRequest
+) {
+}
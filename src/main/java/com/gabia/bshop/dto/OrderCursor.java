@@ -0,0 +1,38 @@
+package com.gabia.bshop.dto;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.util.CursorCodec;
+
+/**
+ * 주문 목록의 정렬 키 (createdAt desc, id desc) 에서 마지막으로 내려준 위치
+ */
+public record OrderCursor(
+	LocalDateTime createdAt,
+	Long id
+) {
+
+	public static OrderCursor from(final OrderSummaryDto orderSummaryDto) {
+		return new OrderCursor(orderSummaryDto.createdAt(), orderSummaryDto.id());
+	}
+
+	public static OrderCursor decode(final String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		final String[] values = CursorCodec.decode(cursor, 2);
+		try {
+			return new OrderCursor(LocalDateTime.parse(values[0]), Long.valueOf(values[1]));
+		} catch (DateTimeParseException | NumberFormatException e) {
+			throw new BadRequestException(INVALID_CURSOR_EXCEPTION);
+		}
+	}
+
+	public String encode() {
+		return CursorCodec.encode(createdAt.toString(), id.toString());
+	}
+}
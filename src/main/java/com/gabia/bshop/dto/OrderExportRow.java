@@ -0,0 +1,21 @@
+package com.gabia.bshop.dto;
+
+import java.time.LocalDateTime;
+
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+/**
+ * 주문 내보내기의 한 행. 주문 상품 하나가 한 행이다.
+ */
+public record OrderExportRow(
+	Long orderId,
+	Long memberId,
+	OrderStatus status,
+	long totalPrice,
+	LocalDateTime createdAt,
+	Long itemId,
+	Long optionId,
+	int orderCount,
+	long price
+) {
+}
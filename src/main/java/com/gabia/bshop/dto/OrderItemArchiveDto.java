@@ -0,0 +1,16 @@
+package com.gabia.bshop.dto;
+
+/**
+ * 보관된 주문의 단건 조회용 주문 상품 프로젝션. 상품명, 옵션 설명, 썸네일은 item, item_option 조인으로 함께 읽는다.
+ */
+public record OrderItemArchiveDto(
+	Long orderItemId,
+	Long itemId,
+	Long itemOptionId,
+	String itemName,
+	String itemOptionDescription,
+	int orderCount,
+	long price,
+	String itemThumbnail
+) {
+}
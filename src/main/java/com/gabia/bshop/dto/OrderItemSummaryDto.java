@@ -0,0 +1,14 @@
+package com.gabia.bshop.dto;
+
+/**
+ * 주문 목록 조회용 주문 상품 프로젝션. 상품명과 썸네일은 item 조인으로 함께 읽는다.
+ */
+public record OrderItemSummaryDto(
+	Long orderId,
+	Long itemId,
+	Long itemOptionId,
+	int orderCount,
+	String itemName,
+	String itemThumbnail
+) {
+}
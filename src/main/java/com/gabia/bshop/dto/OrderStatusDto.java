@@ -0,0 +1,13 @@
+package com.gabia.bshop.dto;
+
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+/**
+ * 주문 상태 일괄 변경에서 잠근 주문의 현재 상태
+ */
+public record OrderStatusDto(
+	Long id,
+	Long memberId,
+	OrderStatus status
+) {
+}
@@ -0,0 +1,16 @@
+package com.gabia.bshop.dto;
+
+import java.time.LocalDateTime;
+
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+/**
+ * 주문 목록 조회용 프로젝션. 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽는다.
+ */
+public record OrderSummaryDto(
+	Long id,
+	OrderStatus status,
+	long totalPrice,
+	LocalDateTime createdAt
+) {
+}
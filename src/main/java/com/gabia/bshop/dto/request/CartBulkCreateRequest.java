@@ -0,0 +1,15 @@
+package com.gabia.bshop.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CartBulkCreateRequest(
+	@Valid
+	@NotNull(message = "장바구니에 담을 상품은 필수값입니다.")
+	@Size(min = 1, max = 100, message = "장바구니에는 한 번에 1개 이상 100개 이하의 상품을 담을 수 있습니다.")
+	List<CartCreateRequest> cartCreateRequestList
+) {
+}
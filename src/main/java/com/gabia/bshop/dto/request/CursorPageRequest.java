@@ -0,0 +1,27 @@
+package com.gabia.bshop.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * @param cursor 이전 응답의 nextCursor. 없으면 첫 페이지
+ * @param withCount true 이면 전체 개수를 함께 조회한다. 기본은 count 쿼리를 생략한다.
+ */
+public record CursorPageRequest(
+	String cursor,
+	@Positive(message = "페이지 크기는 양수만 허용합니다.")
+	@Max(value = 100, message = "한 페이지의 최대 100개까지 조회가 가능합니다.")
+	Integer size,
+	Boolean withCount
+) {
+
+	private static final int DEFAULT_SIZE = 20;
+
+	public int pageSize() {
+		return size == null ? DEFAULT_SIZE : size;
+	}
+
+	public boolean isCountRequired() {
+		return Boolean.TRUE.equals(withCount);
+	}
+}
@@ -0,0 +1,10 @@
+package com.gabia.bshop.dto.request;
+
+/**
+ * 상품 목록 커서 페이지네이션의 정렬 키. 같은 값이 있으면 상품 ID 로 순서를 정한다.
+ */
+public enum ItemSortKey {
+	ID,
+	OPEN_AT,
+	BASE_PRICE
+}
@@ -0,0 +1,35 @@
+package com.gabia.bshop.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+/**
+ * 주문 ID 목록을 주거나, 비워 두고 생성 기간(과 현재 상태)으로 대상 주문을 고른다.
+ * 기간으로 고를 때도 한 번에 {@link #MAX_ORDER_COUNT}개까지만 변경하고, 남은 주문은 lastOrderId 로 이어서 변경한다.
+ *
+ * @param lastOrderId 이전 응답의 nextLastOrderId. 이 ID 다음 주문부터 변경한다
+ */
+@Builder
+public record OrderBulkUpdateStatusRequest(
+	@Size(max = OrderBulkUpdateStatusRequest.MAX_ORDER_COUNT, message = "주문 ID는 한 번에 {max}개까지 변경할 수 있습니다.")
+	List<@NotNull(message = "주문 ID는 필수값입니다.") Long> orderIdList,
+	LocalDateTime startDate,
+	LocalDateTime endDate,
+	OrderStatus currentStatus,
+	Long lastOrderId,
+	@NotNull(message = "주문 상태는 필수값입니다.")
+	OrderStatus status
+) {
+
+	public static final int MAX_ORDER_COUNT = 10000;
+
+	public boolean hasOrderIdList() {
+		return orderIdList != null && !orderIdList.isEmpty();
+	}
+}
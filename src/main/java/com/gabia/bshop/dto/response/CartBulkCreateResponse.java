@@ -0,0 +1,10 @@
+package com.gabia.bshop.dto.response;
+
+import java.util.List;
+
+import com.gabia.bshop.dto.CartDto;
+
+public record CartBulkCreateResponse(
+	List<CartDto> cartDtoList
+) {
+}
@@ -0,0 +1,31 @@
+package com.gabia.bshop.dto.response;
+
+import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.OrderItemDto;
+
+public record CartCheckoutLineResult(
+	Long itemId,
+	Long itemOptionId,
+	int orderCount,
+	Result result
+) {
+
+	public enum Result {
+		ORDERED,
+		ITEM_OPTION_NOT_FOUND, // 삭제된 상품이나 옵션, 상품과 맞지 않는 옵션
+		ITEM_NOT_PUBLIC,
+		OUT_OF_STOCK
+	}
+
+	public static CartCheckoutLineResult of(final CartDto cartDto, final Result result) {
+		return new CartCheckoutLineResult(cartDto.itemId(), cartDto.itemOptionId(), cartDto.orderCount(), result);
+	}
+
+	public boolean isOrdered() {
+		return result == Result.ORDERED;
+	}
+
+	public OrderItemDto toOrderItemDto() {
+		return new OrderItemDto(itemId, itemOptionId, orderCount);
+	}
+}
@@ -0,0 +1,9 @@
+package com.gabia.bshop.dto.response;
+
+import java.util.List;
+
+public record CartCheckoutResponse(
+	OrderCreateResponse order, // 주문할 수 있는 줄이 하나도 없으면 null
+	List<CartCheckoutLineResult> lineResultList
+) {
+}
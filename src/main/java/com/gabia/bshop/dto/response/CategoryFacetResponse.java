@@ -0,0 +1,8 @@
+package com.gabia.bshop.dto.response;
+
+public record CategoryFacetResponse(
+	Long categoryId,
+	String categoryName,
+	long count
+) {
+}
@@ -0,0 +1,15 @@
+package com.gabia.bshop.dto.response;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지를 조회할 때 넘길 커서. 마지막 페이지면 null
+ * @param totalCount 요청한 경우에만 채워지는 전체 개수
+ */
+public record CursorPageResponse<T>(
+	List<T> contents,
+	String nextCursor,
+	boolean hasNext,
+	Long totalCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.gabia.bshop.dto.response;
+
+import java.time.LocalDate;
+
+public record DailySalesResponse(
+	LocalDate salesDate,
+	long orderCount,
+	long revenue
+) {
+}
@@ -0,0 +1,16 @@
+package com.gabia.bshop.dto.response;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * 상품 목록 한 페이지와 검색 필터 사이드바에 쓰는 카테고리, 연도별 상품 수
+ * 카테고리별 수에는 카테고리 조건을, 연도별 수에는 연도 조건을 빼고 나머지 조건만 적용한다.
+ */
+public record ItemFacetSearchResponse(
+	Page<ItemPageResponse> itemPage,
+	List<CategoryFacetResponse> categoryFacetList,
+	List<YearFacetResponse> yearFacetList
+) {
+}
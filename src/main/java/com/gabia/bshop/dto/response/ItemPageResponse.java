@@ -5,6 +5,11 @@ import java.time.LocalDateTime;
 import com.gabia.bshop.dto.CategoryDto;
 import com.gabia.bshop.entity.enumtype.ItemStatus;
 
+/**
+ * @param minOptionPrice 상품 목록(item_listing)에서 읽을 때만 채워지는 옵션 가격의 최솟값
+ * @param maxOptionPrice 상품 목록(item_listing)에서 읽을 때만 채워지는 옵션 가격의 최댓값
+ * @param available 상품 목록(item_listing)에서 읽을 때만 채워지는 재고가 남은 옵션이 있는지 여부
+ */
 public record ItemPageResponse(
 	Long itemId,
 	CategoryDto categoryDto,
@@ -14,6 +19,9 @@ public record ItemPageResponse(
 	String thumbnail,
 	ItemStatus itemStatus,
 	Integer year,
-	LocalDateTime openAt
+	LocalDateTime openAt,
+	Integer minOptionPrice,
+	Integer maxOptionPrice,
+	Boolean available
 ) {
 }
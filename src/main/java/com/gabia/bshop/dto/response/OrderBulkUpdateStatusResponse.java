@@ -0,0 +1,24 @@
+package com.gabia.bshop.dto.response;
+
+import java.util.List;
+
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+/**
+ * @param nextLastOrderId 기간으로 고른 주문이 더 남아 있으면 다음 요청의 lastOrderId 로 넘길 값. 없으면 null
+ */
+public record OrderBulkUpdateStatusResponse(
+	OrderStatus status,
+	long updatedCount,
+	List<OrderStatusUpdateResult> resultList,
+	Long nextLastOrderId
+) {
+
+	public static OrderBulkUpdateStatusResponse of(final OrderStatus status,
+		final List<OrderStatusUpdateResult> resultList, final Long nextLastOrderId) {
+		return new OrderBulkUpdateStatusResponse(status,
+			resultList.stream().filter(OrderStatusUpdateResult::isUpdated).count(),
+			resultList,
+			nextLastOrderId);
+	}
+}
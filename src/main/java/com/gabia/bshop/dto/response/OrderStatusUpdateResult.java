@@ -0,0 +1,17 @@
+package com.gabia.bshop.dto.response;
+
+public record OrderStatusUpdateResult(
+	Long orderId,
+	Result result
+) {
+
+	public enum Result {
+		UPDATED,
+		ALREADY_UPDATED, // 이미 변경하려는 상태라서 건너뛴 주문
+		NOT_FOUND
+	}
+
+	public boolean isUpdated() {
+		return result == Result.UPDATED;
+	}
+}
@@ -0,0 +1,14 @@
+package com.gabia.bshop.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.gabia.bshop.entity.enumtype.OrderTicketStatus;
+
+public record OrderTicketResponse(
+	Long id,
+	OrderTicketStatus status,
+	Long orderId,
+	String failureMessage,
+	LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.gabia.bshop.dto.response;
+
+/**
+ * @param id         상품, 옵션 또는 카테고리 ID
+ * @param orderCount 판매 수량
+ * @param revenue    판매 금액
+ */
+public record SalesResponse(
+	Long id,
+	long orderCount,
+	long revenue
+) {
+}
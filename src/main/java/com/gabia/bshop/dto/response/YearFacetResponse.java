@@ -0,0 +1,7 @@
+package com.gabia.bshop.dto.response;
+
+public record YearFacetResponse(
+	int year,
+	long count
+) {
+}
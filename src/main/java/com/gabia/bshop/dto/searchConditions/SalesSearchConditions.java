@@ -0,0 +1,19 @@
+package com.gabia.bshop.dto.searchConditions;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.NotNull;
+
+public record SalesSearchConditions(
+
+	@NotNull
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate startDate,
+
+	@NotNull
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	LocalDate endDate
+) {
+}
@@ -21,6 +21,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -38,7 +39,10 @@ import lombok.ToString;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
 	name = "item",
-	indexes = {})
+	indexes = {
+		@Index(name = "idx_item_open_at_id", columnList = "open_at, id"),
+		@Index(name = "idx_item_base_price_id", columnList = "base_price, id")
+	})
 @Entity
 public class Item extends BaseEntity {
 
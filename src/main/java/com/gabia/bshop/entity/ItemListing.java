@@ -0,0 +1,117 @@
+package com.gabia.bshop.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import com.gabia.bshop.dto.ItemListingSourceDto;
+import com.gabia.bshop.entity.enumtype.ItemStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록(ItemPageResponse)을 조인 없이 읽기 위한 읽기 모델.
+ * 상품, 옵션, 이미지, 카테고리가 바뀌는 트랜잭션 안에서 ItemListingService 가 원본 테이블을 다시 읽어 갱신한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "item_listing",
+	indexes = {
+		@Index(name = "idx_item_listing_category_name_item_id", columnList = "category_name, item_id"),
+		@Index(name = "idx_item_listing_year_item_id", columnList = "year, item_id")
+	})
+@Entity
+public class ItemListing {
+
+	@Id
+	private Long itemId;
+
+	@Column(nullable = false)
+	private Long categoryId;
+
+	@Column(nullable = false)
+	private String categoryName;
+
+	@Column(columnDefinition = "varchar(255)", nullable = false)
+	private String name;
+
+	@Column(columnDefinition = "text", nullable = false)
+	private String description;
+
+	@Column(nullable = false)
+	private int basePrice;
+
+	@Column(nullable = false)
+	private String thumbnail;
+
+	@Enumerated(value = EnumType.STRING)
+	@Column(columnDefinition = "char(8)", nullable = false)
+	private ItemStatus itemStatus;
+
+	@Column(columnDefinition = "smallint", nullable = false)
+	private int year;
+
+	@Column(nullable = false)
+	private LocalDateTime openAt;
+
+	@Column(nullable = false)
+	private boolean deleted;
+
+	// 옵션 가격의 최솟값, 최댓값. 옵션이 없으면 null
+	private Integer minOptionPrice;
+
+	private Integer maxOptionPrice;
+
+	// 재고가 남은 옵션이 하나라도 있는지
+	@Column(nullable = false)
+	private boolean available;
+
+	public static ItemListing from(final ItemListingSourceDto itemListingSourceDto) {
+		final ItemListing itemListing = new ItemListing();
+		itemListing.itemId = itemListingSourceDto.itemId();
+		itemListing.update(itemListingSourceDto);
+		return itemListing;
+	}
+
+	public void update(final ItemListingSourceDto itemListingSourceDto) {
+		this.categoryId = itemListingSourceDto.categoryId();
+		this.categoryName = itemListingSourceDto.categoryName();
+		this.name = itemListingSourceDto.name();
+		this.description = itemListingSourceDto.description();
+		this.basePrice = itemListingSourceDto.basePrice();
+		this.thumbnail = itemListingSourceDto.thumbnail();
+		this.itemStatus = itemListingSourceDto.itemStatus();
+		this.year = itemListingSourceDto.year();
+		this.openAt = itemListingSourceDto.openAt();
+		this.deleted = itemListingSourceDto.deleted();
+		this.minOptionPrice = itemListingSourceDto.minOptionPrice();
+		this.maxOptionPrice = itemListingSourceDto.maxOptionPrice();
+		this.available = itemListingSourceDto.maxStockQuantity() != null && itemListingSourceDto.maxStockQuantity() > 0;
+	}
+
+	@Override
+	public boolean equals(final Object that) {
+		if (this == that) {
+			return true;
+		}
+		if (that == null || getClass() != that.getClass()) {
+			return false;
+		}
+		final ItemListing itemListing = (ItemListing)that;
+		return getItemId().equals(itemListing.getItemId());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(getItemId());
+	}
+}
@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -29,7 +30,10 @@ import lombok.ToString;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
 	name = "orders",
-	indexes = {})
+	indexes = {
+		@Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+		@Index(name = "idx_orders_member_id_created_at_id", columnList = "member_id, created_at, id")
+	})
 @Entity
 public class Order extends BaseEntity {
 
@@ -0,0 +1,69 @@
+package com.gabia.bshop.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지나 orders 에서 옮겨진 주문. 조회 전용이며 행은 OrderArchiveRepository 가 INSERT ... SELECT 로 옮긴다.
+ * 외래 키 없이 원래 id 와 생성 시각을 그대로 유지한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "orders_archive",
+	indexes = {
+		@Index(name = "idx_orders_archive_created_at_id", columnList = "created_at, id"),
+		@Index(name = "idx_orders_archive_member_id_created_at_id", columnList = "member_id, created_at, id")
+	})
+@Entity
+public class OrderArchive {
+
+	@Id
+	private Long id;
+
+	@Column(nullable = false)
+	private Long memberId;
+
+	@Enumerated(value = EnumType.STRING)
+	@Column(columnDefinition = "char(9)", nullable = false)
+	private OrderStatus status;
+
+	@Column(nullable = false)
+	private long totalPrice;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	@Override
+	public boolean equals(final Object that) {
+		if (this == that) {
+			return true;
+		}
+		if (that == null || getClass() != that.getClass()) {
+			return false;
+		}
+		final OrderArchive orderArchive = (OrderArchive)that;
+		return getId().equals(orderArchive.getId());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(getId());
+	}
+}
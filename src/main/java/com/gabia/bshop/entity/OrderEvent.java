@@ -0,0 +1,114 @@
+package com.gabia.bshop.entity;
+
+import java.util.Objects;
+
+import com.gabia.bshop.entity.enumtype.OrderEventStatus;
+import com.gabia.bshop.entity.enumtype.OrderEventType;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 변경과 같은 트랜잭션에서 쌓는 아웃박스 행.
+ * 주문이 커밋되면 이벤트도 반드시 남고, 디스패처가 꺼내서 애플리케이션 리스너로 발행한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "order_event",
+	indexes = {
+		@Index(name = "idx_order_event_status_id", columnList = "status, id")
+	})
+@Entity
+public class OrderEvent extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long orderId;
+
+	@Column(nullable = false)
+	private Long memberId;
+
+	@Enumerated(value = EnumType.STRING)
+	@Column(columnDefinition = "char(14)", nullable = false)
+	private OrderEventType eventType;
+
+	@Enumerated(value = EnumType.STRING)
+	@Column(columnDefinition = "char(9)")
+	private OrderStatus previousOrderStatus;
+
+	@Enumerated(value = EnumType.STRING)
+	@Column(columnDefinition = "char(9)", nullable = false)
+	private OrderStatus orderStatus;
+
+	// 주문 상품 목록 (OrderItemDto 목록의 JSON)
+	@Column(columnDefinition = "text", nullable = false)
+	private String payload;
+
+	@Enumerated(value = EnumType.STRING)
+	@Column(columnDefinition = "char(9)", nullable = false)
+	private OrderEventStatus status;
+
+	@Column(nullable = false)
+	private int attemptCount;
+
+	@Builder
+	private OrderEvent(final Long id, final Long orderId, final Long memberId, final OrderEventType eventType,
+		final OrderStatus previousOrderStatus, final OrderStatus orderStatus, final String payload) {
+		this.id = id;
+		this.orderId = orderId;
+		this.memberId = memberId;
+		this.eventType = eventType;
+		this.previousOrderStatus = previousOrderStatus;
+		this.orderStatus = orderStatus;
+		this.payload = payload;
+		this.status = OrderEventStatus.PENDING;
+	}
+
+	public void publish() {
+		this.status = OrderEventStatus.PUBLISHED;
+	}
+
+	public void fail(final int maxAttemptCount) {
+		this.attemptCount++;
+		if (this.attemptCount >= maxAttemptCount) {
+			this.status = OrderEventStatus.FAILED;
+		}
+	}
+
+	public boolean isPending() {
+		return this.status == OrderEventStatus.PENDING;
+	}
+
+	@Override
+	public boolean equals(final Object that) {
+		if (this == that) {
+			return true;
+		}
+		if (that == null || getClass() != that.getClass()) {
+			return false;
+		}
+		final OrderEvent orderEvent = (OrderEvent)that;
+		return getId().equals(orderEvent.getId());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(getId());
+	}
+}
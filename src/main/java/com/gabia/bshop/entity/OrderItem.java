@@ -65,6 +65,17 @@ public class OrderItem extends BaseEntity {
 	}
 
 	public static OrderItem createOrderItem(final ItemOption itemOption,
+		final Order order, final int count) {
+		final OrderItem orderItem = createOrderItemWithoutStockDecrease(itemOption, order, count);
+		itemOption.decreaseStockQuantity(count);
+
+		return orderItem;
+	}
+
+	/**
+	 * 재고가 이미 UPDATE 문으로 차감된 경우에 사용한다.
+	 */
+	public static OrderItem createOrderItemWithoutStockDecrease(final ItemOption itemOption,
 		final Order order, final int count) {
 		OrderItem orderItem = OrderItem.builder()
 			.item(itemOption.getItem())
@@ -74,7 +85,6 @@ public class OrderItem extends BaseEntity {
 			.price((itemOption.getItem().getBasePrice() + itemOption.getOptionPrice()))
 			.build();
 
-		itemOption.decreaseStockQuantity(count);
 		order.calculateTotalPrice(orderItem, count);
 
 		return orderItem;
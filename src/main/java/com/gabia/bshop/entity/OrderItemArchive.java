@@ -0,0 +1,68 @@
+package com.gabia.bshop.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * orders_archive 로 옮겨진 주문의 주문 상품.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "order_item_archive",
+	indexes = {
+		@Index(name = "idx_order_item_archive_order_id", columnList = "order_id")
+	})
+@Entity
+public class OrderItemArchive {
+
+	@Id
+	private Long id;
+
+	@Column(nullable = false)
+	private Long itemId;
+
+	@Column(nullable = false)
+	private Long orderId;
+
+	@Column(nullable = false)
+	private Long optionId;
+
+	@Column(nullable = false)
+	private int orderCount;
+
+	@Column(nullable = false)
+	private long price;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	@Override
+	public boolean equals(final Object that) {
+		if (this == that) {
+			return true;
+		}
+		if (that == null || getClass() != that.getClass()) {
+			return false;
+		}
+		final OrderItemArchive orderItemArchive = (OrderItemArchive)that;
+		return getId().equals(orderItemArchive.getId());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(getId());
+	}
+}
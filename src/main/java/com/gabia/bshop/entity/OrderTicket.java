@@ -0,0 +1,113 @@
+package com.gabia.bshop.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import com.gabia.bshop.entity.enumtype.OrderTicketStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기로 접수된 주문 요청.
+ * 접수 시점의 주문 요청을 그대로 저장해 두고, 컨슈머가 꺼내서 실제 주문을 만든다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "order_ticket",
+	indexes = {
+		@Index(name = "idx_order_ticket_status_id", columnList = "status, id")
+	})
+@Entity
+public class OrderTicket extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long memberId;
+
+	@Column(columnDefinition = "text", nullable = false)
+	private String payload;
+
+	@Enumerated(value = EnumType.STRING)
+	@Column(columnDefinition = "char(9)", nullable = false)
+	private OrderTicketStatus status;
+
+	private Long orderId;
+
+	private String failureMessage;
+
+	@Column(nullable = false)
+	private int attemptCount;
+
+	// 일시적인 오류로 실패한 티켓을 다시 꺼낼 수 있는 시각
+	private LocalDateTime nextAttemptAt;
+
+	@Builder
+	private OrderTicket(final Long id, final Long memberId, final String payload) {
+		this.id = id;
+		this.memberId = memberId;
+		this.payload = payload;
+		this.status = OrderTicketStatus.WAITING;
+	}
+
+	public void complete(final Long orderId) {
+		this.status = OrderTicketStatus.COMPLETED;
+		this.orderId = orderId;
+	}
+
+	public void fail(final String failureMessage) {
+		this.status = OrderTicketStatus.FAILED;
+		this.failureMessage = failureMessage;
+	}
+
+	/**
+	 * 일시적인 오류로 실패한 횟수를 올리고, 다음 시도는 backoff 를 실패할 때마다 두 배로 늘려서 미룬다.
+	 * maxAttemptCount 에 이르면 실패 처리한다.
+	 */
+	public void retry(final int maxAttemptCount, final Duration backoff, final String failureMessage,
+		final LocalDateTime now) {
+		this.attemptCount++;
+		if (this.attemptCount >= maxAttemptCount) {
+			fail(failureMessage);
+			return;
+		}
+		this.nextAttemptAt = now.plus(backoff.multipliedBy(1L << (this.attemptCount - 1)));
+	}
+
+	public boolean isWaiting() {
+		return this.status == OrderTicketStatus.WAITING;
+	}
+
+	@Override
+	public boolean equals(final Object that) {
+		if (this == that) {
+			return true;
+		}
+		if (that == null || getClass() != that.getClass()) {
+			return false;
+		}
+		final OrderTicket orderTicket = (OrderTicket)that;
+		return getId().equals(orderTicket.getId());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(getId());
+	}
+}
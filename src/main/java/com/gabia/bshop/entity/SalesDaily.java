@@ -0,0 +1,76 @@
+package com.gabia.bshop.entity;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 옵션별 일 판매 집계. 상품별, 카테고리별 집계는 이 행들을 다시 합쳐서 구한다.
+ * 행은 SalesDailyRepository 의 upsert 로만 쓰고, 취소된 주문은 포함하지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "sales_daily",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_sales_daily_sales_date_option_id", columnNames = {"sales_date", "option_id"})
+	},
+	indexes = {
+		@Index(name = "idx_sales_daily_item_id_sales_date", columnList = "item_id, sales_date"),
+		@Index(name = "idx_sales_daily_category_id_sales_date", columnList = "category_id, sales_date")
+	})
+@Entity
+public class SalesDaily {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private LocalDate salesDate;
+
+	@Column(nullable = false)
+	private Long categoryId;
+
+	@Column(nullable = false)
+	private Long itemId;
+
+	@Column(nullable = false)
+	private Long optionId;
+
+	// 판매 수량
+	@Column(nullable = false)
+	private long orderCount;
+
+	// 판매 금액
+	@Column(nullable = false)
+	private long revenue;
+
+	@Override
+	public boolean equals(final Object that) {
+		if (this == that) {
+			return true;
+		}
+		if (that == null || getClass() != that.getClass()) {
+			return false;
+		}
+		final SalesDaily salesDaily = (SalesDaily)that;
+		return getId().equals(salesDaily.getId());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(getId());
+	}
+}
@@ -0,0 +1,7 @@
+package com.gabia.bshop.entity.enumtype;
+
+public enum OrderEventStatus {
+	PENDING, // 발행 대기
+	PUBLISHED, // 리스너 처리 완료
+	FAILED // 재시도 횟수 초과
+}
@@ -0,0 +1,7 @@
+package com.gabia.bshop.entity.enumtype;
+
+public enum OrderEventType {
+	CREATED, // 주문 생성
+	CANCELLED, // 사용자 주문 취소
+	STATUS_CHANGED // 관리자 주문 상태 변경
+}
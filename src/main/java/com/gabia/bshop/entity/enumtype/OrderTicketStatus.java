@@ -0,0 +1,7 @@
+package com.gabia.bshop.entity.enumtype;
+
+public enum OrderTicketStatus {
+	WAITING, // 처리 대기
+	COMPLETED, // 주문 생성됨
+	FAILED // 주문 생성 실패
+}
@@ -0,0 +1,31 @@
+package com.gabia.bshop.event;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.entity.enumtype.OrderEventType;
+import com.gabia.bshop.service.CartService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문한 상품을 장바구니에서 지운다. 주문한 뒤 수량을 바꾼 줄은 남겨 둔다.
+ * 일반 주문에도 장바구니가 바뀌므로 order.event.cart-cleanup 을 켰을 때만 동작한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartCleanupEventListener {
+
+	private final CartService cartService;
+	private final OrderProperties orderProperties;
+
+	@EventListener
+	public void handle(final OrderChangedEvent orderChangedEvent) {
+		if (!orderProperties.getEvent().isCartCleanup()
+			|| orderChangedEvent.eventType() != OrderEventType.CREATED) {
+			return;
+		}
+		cartService.deleteOrderedCartList(orderChangedEvent.memberId(), orderChangedEvent.orderItemDtoList());
+	}
+}
@@ -0,0 +1,9 @@
+package com.gabia.bshop.event;
+
+/**
+ * 카테고리 이름이나 상품 연도 목록이 바뀌었을 수 있음을 알린다.
+ */
+public record CatalogChangedEvent() {
+
+	public static final CatalogChangedEvent INSTANCE = new CatalogChangedEvent();
+}
@@ -0,0 +1,24 @@
+package com.gabia.bshop.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gabia.bshop.service.CatalogSnapshotService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카탈로그 변경이 커밋된 뒤에 버전을 올린다. 커밋 전에 올리면 다른 노드가 변경 전 데이터로 새 버전을 만들 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotEventListener {
+
+	private final CatalogSnapshotService catalogSnapshotService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(final CatalogChangedEvent catalogChangedEvent) {
+		catalogSnapshotService.invalidate();
+	}
+}
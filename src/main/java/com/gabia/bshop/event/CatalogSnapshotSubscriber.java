@@ -0,0 +1,35 @@
+package com.gabia.bshop.event;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.repository.CatalogVersionRepository;
+import com.gabia.bshop.service.CatalogSnapshotService;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카탈로그 버전이 올라가면 이 노드의 스냅샷을 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotSubscriber implements MessageListener {
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final CatalogSnapshotService catalogSnapshotService;
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this,
+			new ChannelTopic(CatalogVersionRepository.CHANGE_CHANNEL));
+	}
+
+	@Override
+	public void onMessage(final Message message, final byte[] pattern) {
+		catalogSnapshotService.refresh();
+	}
+}
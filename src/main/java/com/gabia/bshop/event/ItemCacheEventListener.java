@@ -0,0 +1,30 @@
+package com.gabia.bshop.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gabia.bshop.service.CartItemDisplayCache;
+import com.gabia.bshop.service.ItemFacade;
+import com.gabia.bshop.service.ItemSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 변경이 커밋된 뒤에 상품 캐시를 비우고 이 노드의 검색 색인을 고친다. 커밋 전에 비우면 그 사이 다른 요청이 지난 데이터를 다시 채울 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemCacheEventListener {
+
+	private final ItemFacade itemFacade;
+	private final CartItemDisplayCache cartItemDisplayCache;
+	private final ItemSearchService itemSearchService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(final ItemChangedEvent itemChangedEvent) {
+		itemChangedEvent.itemIdList().forEach(itemFacade::evictItem);
+		itemChangedEvent.itemIdList().forEach(cartItemDisplayCache::evictItem);
+		itemChangedEvent.itemIdList().forEach(itemSearchService::refreshItem);
+	}
+}
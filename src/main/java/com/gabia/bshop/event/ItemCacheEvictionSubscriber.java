@@ -0,0 +1,44 @@
+package com.gabia.bshop.event;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.repository.ItemCacheRepository;
+import com.gabia.bshop.service.CartItemDisplayCache;
+import com.gabia.bshop.service.ItemFacade;
+import com.gabia.bshop.service.ItemSearchService;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 노드에서 바뀐 상품을 이 노드의 로컬 캐시와 장바구니 표시 캐시에서 지우고 검색 색인도 고친다.
+ * 메시지를 놓쳐도 검색 색인은 ItemSearchIndexScheduler 가 주기적으로 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemCacheEvictionSubscriber implements MessageListener {
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ItemFacade itemFacade;
+	private final ItemSearchService itemSearchService;
+	private final CartItemDisplayCache cartItemDisplayCache;
+
+	@PostConstruct
+	public void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ItemCacheRepository.EVICTION_CHANNEL));
+	}
+
+	@Override
+	public void onMessage(final Message message, final byte[] pattern) {
+		final Long itemId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+		itemFacade.evictLocalItem(itemId);
+		cartItemDisplayCache.evictItem(itemId);
+		itemSearchService.refreshItem(itemId);
+	}
+}
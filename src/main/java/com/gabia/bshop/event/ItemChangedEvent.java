@@ -0,0 +1,15 @@
+package com.gabia.bshop.event;
+
+import java.util.List;
+
+/**
+ * 상품 상세(ItemResponse)에 담기는 상품, 옵션, 이미지, 예약 정보가 바뀌었음을 알린다.
+ */
+public record ItemChangedEvent(
+	List<Long> itemIdList
+) {
+
+	public static ItemChangedEvent of(final Long itemId) {
+		return new ItemChangedEvent(List.of(itemId));
+	}
+}
@@ -0,0 +1,35 @@
+package com.gabia.bshop.event;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.service.ItemListingService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 목록 읽기 모델을 원본과 같은 트랜잭션에서 갱신한다.
+ * 주문으로 바뀌는 재고는 주문 트랜잭션이 아니라 아웃박스 디스패처에서 반영해서, 인기 상품의 목록 행이 주문마다 잠기지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemListingEventListener {
+
+	private final ItemListingService itemListingService;
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	public void handle(final ItemChangedEvent itemChangedEvent) {
+		itemListingService.refreshItemListing(itemChangedEvent.itemIdList());
+	}
+
+	@EventListener
+	public void handle(final OrderChangedEvent orderChangedEvent) {
+		itemListingService.refreshItemListing(orderChangedEvent.orderItemDtoList().stream()
+			.map(OrderItemDto::itemId)
+			.distinct()
+			.toList());
+	}
+}
@@ -0,0 +1,9 @@
+package com.gabia.bshop.event;
+
+/**
+ * 관리자가 옵션 재고를 바꾸거나 옵션을 지워서 Redis 재고 카운터를 다시 읽어야 함을 알린다.
+ */
+public record ItemOptionStockChangedEvent(
+	Long itemOptionId
+) {
+}
@@ -0,0 +1,38 @@
+package com.gabia.bshop.event;
+
+import java.util.List;
+
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.entity.enumtype.OrderEventType;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+/**
+ * 아웃박스(order_event)에서 꺼내 애플리케이션 리스너로 발행하는 주문 변경 이벤트.
+ * 리스너는 디스패처의 트랜잭션 안에서 실행되고, 예외를 던지면 이벤트는 다음 폴링에서 다시 발행된다.
+ */
+public record OrderChangedEvent(
+	Long orderEventId,
+	Long orderId,
+	Long memberId,
+	OrderEventType eventType,
+	OrderStatus previousOrderStatus,
+	OrderStatus orderStatus,
+	List<OrderItemDto> orderItemDtoList
+) {
+
+	/**
+	 * 판매 집계는 취소되지 않은 주문만 포함하므로, 주문이 생기거나 CANCELLED 에서 나오면 1, 들어가면 -1 이다.
+	 */
+	public int salesSign() {
+		return switch (eventType) {
+			case CREATED -> 1;
+			case CANCELLED -> -1;
+			case STATUS_CHANGED -> {
+				if (orderStatus == OrderStatus.CANCELLED) {
+					yield -1;
+				}
+				yield previousOrderStatus == OrderStatus.CANCELLED ? 1 : 0;
+			}
+		};
+	}
+}
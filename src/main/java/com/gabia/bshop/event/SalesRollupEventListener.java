@@ -0,0 +1,23 @@
+package com.gabia.bshop.event;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.service.SalesRollupService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 변경을 판매 집계에 반영한다. 디스패처와 같은 트랜잭션에서 실행되므로 이벤트 발행 완료와 집계 반영이 함께 커밋된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupEventListener {
+
+	private final SalesRollupService salesRollupService;
+
+	@EventListener
+	public void handle(final OrderChangedEvent orderChangedEvent) {
+		salesRollupService.applyOrderSales(orderChangedEvent);
+	}
+}
@@ -0,0 +1,24 @@
+package com.gabia.bshop.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gabia.bshop.service.StockGateService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 변경이 커밋된 뒤에 재고 카운터를 지운다. 커밋 전에 지우면 그 사이 주문이 DB의 지난 재고로 카운터를 다시 채울 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockGateEventListener {
+
+	private final StockGateService stockGateService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(final ItemOptionStockChangedEvent itemOptionStockChangedEvent) {
+		stockGateService.evict(itemOptionStockChangedEvent.itemOptionId());
+	}
+}
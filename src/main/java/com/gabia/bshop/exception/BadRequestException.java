@@ -8,4 +8,8 @@ public class BadRequestException extends ApplicationException {
 	public BadRequestException(final ErrorCode errorCode) {
 		super(errorCode);
 	}
+
+	public BadRequestException(final ErrorCode errorCode, final Object... parameter) {
+		super(errorCode, parameter);
+	}
 }
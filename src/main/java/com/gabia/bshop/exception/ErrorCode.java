@@ -16,6 +16,11 @@ public enum ErrorCode {
 	NOT_ACCEPTED_FILE_FORMAT_EXCEPTION(BAD_REQUEST, "유효하지 않는 파일 형식 입니다."),
 	NO_FILE_EXCEPTION(BAD_REQUEST, "지정된 파일이 없습니다."),
 	INVALID_ITEM_OPTION_NOT_FOUND_EXCEPTION(BAD_REQUEST, "유효하지 않은 상품이 존재합니다."),
+	INVALID_CURSOR_EXCEPTION(BAD_REQUEST, "유효하지 않은 커서입니다."),
+	INVALID_IDEMPOTENCY_KEY_EXCEPTION(BAD_REQUEST, "Idempotency-Key는 1자 이상 {0}자 이하여야 합니다."),
+	INVALID_SALES_DATE_RANGE_EXCEPTION(BAD_REQUEST, "조회 시작일({0})이 종료일({1})보다 늦을 수 없습니다."),
+	INVALID_ORDER_BULK_UPDATE_TARGET_EXCEPTION(BAD_REQUEST, "주문 ID 목록이나 올바른 주문 기간(시작일, 종료일)이 필요합니다."),
+	CART_EMPTY_EXCEPTION(BAD_REQUEST, "장바구니가 비어 있습니다."),
 
 	// 401(Unauthorized)
 	TOKEN_INVALID_FORMAT_EXCEPTION(UNAUTHORIZED, "토큰이 잘못된 형식입니다."),
@@ -40,11 +45,14 @@ public enum ErrorCode {
 	ITEM_IMAGE_NOT_FOUND_EXCEPTION(NOT_FOUND, "itemId: {0}의 imageId: {1} 를 찾을 수 없습니다."),
 	GRADE_NOT_FOUND_EXCEPTION(NOT_FOUND, "gradeId: {0}는 존재하지 않는 회원등급 입니다."),
 	ITEM_RESERVATION_NOT_FOUND_EXCEPTION(NOT_FOUND, "itemId : {0}에 대한 상품예약을 찾을 수 없습니다."),
+	ORDER_TICKET_NOT_FOUND_EXCEPTION(NOT_FOUND, "orderTicketId: {0}는 존재하지 않는 주문 접수 ID 입니다."),
 
 	// 409(Conflict)
 	ITEM_OPTION_OUT_OF_STOCK_EXCEPTION(CONFLICT, "itemOptionId: {0} 상품의 재고가 부족합니다.(현재 재고:{1})"),
+	ITEM_OPTION_SOLD_OUT_EXCEPTION(CONFLICT, "itemOptionId: {0} 상품의 재고가 소진됐습니다."),
 	ORDER_STATUS_ALREADY_CANCELLED_EXCEPTION(CONFLICT, "상품의 상태가 이미 취소된 상태입니다."),
 	ORDER_STATUS_ALREADY_UPDATED_EXCEPTION(CONFLICT, "상품의 상태가 이미 {0} 상태입니다."),
+	ORDER_ARCHIVED_EXCEPTION(CONFLICT, "orderId: {0}는 보관된 주문이라 변경할 수 없습니다."),
 	MAX_PAGE_ELEMENT_REQUEST_SIZE_EXCEPTION(CONFLICT, "한 페이지의 최대 {0}개까지 조회가 가능합니다."),
 	MAX_FILE_UPLOAD_REQUEST_EXCEPTION(CONFLICT, "한번에 최대 {0}개의 파일만 업로드 가능합니다"),
 	ITEM_STATUS_NOT_PUBLIC_EXCEPTION(CONFLICT, "현재 판매하지 않는 상품이 존재합니다."),
@@ -53,6 +61,8 @@ public enum ErrorCode {
 	CATEGORY_NAME_UNIQUE_EXCEPTION(CONFLICT, "categoryName: {0}인 카테고리가 존재합니다."),
 	MAX_ITEM_OPTION_LIMITATION_EXCEPTION(CONFLICT, "최대로 등록할 수 있는 상품 옵션의 수는 {0}개 입니다."),
 	MAX_ITEM_IMAGE_LIMITATION_EXCEPTION(CONFLICT, "최대로 등록할 수 있는 상품 이미지의 수는 {0}개 입니다."),
+	IDEMPOTENCY_KEY_REUSED_EXCEPTION(CONFLICT, "Idempotency-Key: {0} 는 다른 요청에 이미 사용되었습니다."),
+	IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION(CONFLICT, "Idempotency-Key: {0} 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
 
 	// 500(Internal Server Error)
 	OAUTH_PROCESSING_EXCEPTION(INTERNAL_SERVER_ERROR, "Oauth 진행 중 예상치 못한 문제가 생겼습니다."),
@@ -60,9 +70,16 @@ public enum ErrorCode {
 	MINIO_UPLOAD_EXCEPTION(INTERNAL_SERVER_ERROR, "데이터 업로드 과정 중 문제가 발생했습니다."),
 	MINIO_EXCEPTION(INTERNAL_SERVER_ERROR, "데이터 검색 과정에서 문제가 발생했습니다"),
 	REDIS_JSON_PARSING_EXCEPTION(INTERNAL_SERVER_ERROR, "Redis Value의 데이터 파싱에 실패했습니다."),
+	ORDER_TICKET_JSON_PARSING_EXCEPTION(INTERNAL_SERVER_ERROR, "접수된 주문 요청의 데이터 파싱에 실패했습니다."),
+	ORDER_EXPORT_EXCEPTION(INTERNAL_SERVER_ERROR, "주문 내보내기 중 문제가 발생했습니다."),
+	ORDER_EVENT_JSON_PARSING_EXCEPTION(INTERNAL_SERVER_ERROR, "주문 이벤트의 데이터 파싱에 실패했습니다."),
 
 	// 503(Service Temporarily Unavailable)
-	HIWORKS_SERVER_ERROR_EXCEPTION(SERVICE_UNAVAILABLE, "하이웍스 서버에 문제가 있습니다.");
+	HIWORKS_SERVER_ERROR_EXCEPTION(SERVICE_UNAVAILABLE, "하이웍스 서버에 문제가 있습니다."),
+	ORDER_BATCH_STOPPED_EXCEPTION(SERVICE_UNAVAILABLE, "주문 처리가 중단되어 주문을 접수할 수 없습니다."),
+	ORDER_BATCH_TIMEOUT_EXCEPTION(SERVICE_UNAVAILABLE, "주문 처리가 지연되고 있습니다. 주문 목록을 확인한 뒤 다시 시도해주세요."),
+	ORDER_TICKET_DISABLED_EXCEPTION(SERVICE_UNAVAILABLE, "현재 비동기 주문 접수를 사용할 수 없습니다."),
+	ORDER_TICKET_RETRY_EXHAUSTED_EXCEPTION(SERVICE_UNAVAILABLE, "일시적인 오류가 반복되어 주문을 만들지 못했습니다. 다시 주문해주세요.");
 
 	private final HttpStatus httpStatus;
 	private final String message;
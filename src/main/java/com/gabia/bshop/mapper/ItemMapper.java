@@ -5,14 +5,16 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
 import org.mapstruct.factory.Mappers;
 
+import com.gabia.bshop.dto.CategoryDto;
 import com.gabia.bshop.dto.request.ItemCreateRequest;
 import com.gabia.bshop.dto.request.ItemUpdateRequest;
 import com.gabia.bshop.dto.response.ItemAllInfoResponse;
 import com.gabia.bshop.dto.response.ItemPageResponse;
 import com.gabia.bshop.dto.response.ItemResponse;
 import com.gabia.bshop.entity.Item;
+import com.gabia.bshop.entity.ItemListing;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = CategoryDto.class)
 public abstract class ItemMapper extends MapperSupporter {
 
 	public static final ItemMapper INSTANCE = Mappers.getMapper(ItemMapper.class);
@@ -42,10 +44,20 @@ public abstract class ItemMapper extends MapperSupporter {
 	@Mappings({
 		@Mapping(source = "id", target = "itemId"),
 		@Mapping(source = "category", target = "categoryDto"),
-		@Mapping(target = "thumbnail", expression = "java(addPrefixToThumbnail(item))")
+		@Mapping(target = "thumbnail", expression = "java(addPrefixToThumbnail(item))"),
+		@Mapping(target = "minOptionPrice", ignore = true),
+		@Mapping(target = "maxOptionPrice", ignore = true),
+		@Mapping(target = "available", ignore = true)
 	})
 	public abstract ItemPageResponse itemToItemPageResponse(Item item);
 
+	@Mappings({
+		@Mapping(target = "categoryDto",
+			expression = "java(new CategoryDto(itemListing.getCategoryId(), itemListing.getCategoryName()))"),
+		@Mapping(target = "thumbnail", expression = "java(addPrefixToThumbnail(itemListing))")
+	})
+	public abstract ItemPageResponse itemListingToItemPageResponse(ItemListing itemListing);
+
 	@Mappings({
 		@Mapping(source = "id", target = "itemId"),
 		@Mapping(source = "category", target = "categoryDto"),
@@ -6,8 +6,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 import com.gabia.bshop.dto.ItemImageDto;
+import com.gabia.bshop.dto.OrderItemArchiveDto;
+import com.gabia.bshop.dto.OrderItemSummaryDto;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.ItemImage;
+import com.gabia.bshop.entity.ItemListing;
 import com.gabia.bshop.entity.Member;
 
 public class MapperSupporter {
@@ -39,6 +42,27 @@ public class MapperSupporter {
 		return addPrefixToString(item.getThumbnail());
 	}
 
+	public String addPrefixToThumbnail(ItemListing itemListing) {
+		if (itemListing == null) {
+			return null;
+		}
+		return addPrefixToString(itemListing.getThumbnail());
+	}
+
+	public String addPrefixToThumbnail(OrderItemSummaryDto orderItemSummaryDto) {
+		if (orderItemSummaryDto == null) {
+			return null;
+		}
+		return addPrefixToString(orderItemSummaryDto.itemThumbnail());
+	}
+
+	public String addPrefixToThumbnail(OrderItemArchiveDto orderItemArchiveDto) {
+		if (orderItemArchiveDto == null) {
+			return null;
+		}
+		return addPrefixToString(orderItemArchiveDto.itemThumbnail());
+	}
+
 	public String addPrefixToImageUrl(ItemImage itemImage) {
 		if (itemImage == null) {
 			return null;
@@ -8,7 +8,10 @@ import org.mapstruct.Mappings;
 import org.mapstruct.Named;
 import org.mapstruct.factory.Mappers;
 
+import com.gabia.bshop.dto.OrderItemArchiveDto;
 import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.OrderItemSummaryDto;
+import com.gabia.bshop.dto.OrderSummaryDto;
 import com.gabia.bshop.dto.request.OrderCreateRequest;
 import com.gabia.bshop.dto.response.OrderCreateResponse;
 import com.gabia.bshop.dto.response.OrderInfoPageResponse;
@@ -57,23 +60,28 @@ public abstract class OrderMapper extends MapperSupporter {
 	@Mapping(source = "member.id", target = "memberId")
 	public abstract OrderUpdateStatusResponse orderToOrderUpdateStatusResponse(Order order);
 
-	@Named("orderToOrderInfoPageResponse")
-	public OrderInfoPageResponse orderToOrderInfoPageResponse(Order order) {
+	/**
+	 * 주문 목록의 한 행을 만든다. 대표 상품은 주문 상품 중 가장 먼저 담긴 상품이다.
+	 */
+	@Named("orderSummaryToOrderInfoPageResponse")
+	public OrderInfoPageResponse orderSummaryToOrderInfoPageResponse(final OrderSummaryDto orderSummaryDto,
+		final List<OrderItemSummaryDto> orderItemSummaryList) {
+		final OrderItemSummaryDto representative = orderItemSummaryList.isEmpty() ? null : orderItemSummaryList.get(0);
 		return OrderInfoPageResponse.builder()
-			.orderId(order.getId())
-			.orderItemDtoList(order.getOrderItemList().stream().map(orderItem ->
+			.orderId(orderSummaryDto.id())
+			.orderItemDtoList(orderItemSummaryList.stream().map(orderItemSummaryDto ->
 				OrderItemDto.builder()
-					.itemId(orderItem.getItem().getId())
-					.itemOptionId(orderItem.getOption().getId())
-					.orderCount(orderItem.getOrderCount())
+					.itemId(orderItemSummaryDto.itemId())
+					.itemOptionId(orderItemSummaryDto.itemOptionId())
+					.orderCount(orderItemSummaryDto.orderCount())
 					.build()
 			).toList())
-			.itemThumbnail(addPrefixToThumbnail(order.getOrderItemList().get(0).getItem()))
-			.itemName(order.getOrderItemList().get(0).getItem().getName())
-			.itemTotalCount(order.getOrderItemList().size())
-			.orderStatus(order.getStatus())
-			.totalPrice(order.getTotalPrice())
-			.createdAt(order.getCreatedAt())
+			.itemThumbnail(addPrefixToThumbnail(representative))
+			.itemName(representative == null ? null : representative.itemName())
+			.itemTotalCount(orderItemSummaryList.size())
+			.orderStatus(orderSummaryDto.status())
+			.totalPrice(orderSummaryDto.totalPrice())
+			.createdAt(orderSummaryDto.createdAt())
 			.build();
 	}
 
@@ -103,4 +111,28 @@ public abstract class OrderMapper extends MapperSupporter {
 				.toList())
 			.build();
 	}
+
+	@Named("orderArchiveToOrderInfoResponse")
+	public OrderInfoResponse orderArchiveToOrderInfoResponse(final OrderSummaryDto orderSummaryDto,
+		final List<OrderItemArchiveDto> orderItemArchiveList) {
+		return OrderInfoResponse.builder()
+			.orderId(orderSummaryDto.id())
+			.totalPrice(orderSummaryDto.totalPrice())
+			.createdAt(orderSummaryDto.createdAt())
+			.orderStatus(orderSummaryDto.status())
+			.orderItemList(orderItemArchiveList.stream()
+				.map(
+					orderItemArchiveDto -> OrderInfoResponse.SingleOrder.builder()
+						.orderItemId(orderItemArchiveDto.orderItemId())
+						.itemId(orderItemArchiveDto.itemId())
+						.itemOptionId(orderItemArchiveDto.itemOptionId())
+						.itemName(orderItemArchiveDto.itemName())
+						.itemOptionDescription(orderItemArchiveDto.itemOptionDescription())
+						.orderCount(orderItemArchiveDto.orderCount())
+						.price(orderItemArchiveDto.price())
+						.itemThumbnail(addPrefixToThumbnail(orderItemArchiveDto))
+						.build())
+				.toList())
+			.build();
+	}
 }
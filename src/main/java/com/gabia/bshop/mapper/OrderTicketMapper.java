@@ -0,0 +1,15 @@
+package com.gabia.bshop.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+import com.gabia.bshop.dto.response.OrderTicketResponse;
+import com.gabia.bshop.entity.OrderTicket;
+
+@Mapper(componentModel = "spring")
+public interface OrderTicketMapper {
+
+	OrderTicketMapper INSTANCE = Mappers.getMapper(OrderTicketMapper.class);
+
+	OrderTicketResponse orderTicketToResponse(OrderTicket orderTicket);
+}
@@ -4,14 +4,19 @@ import java.util.List;
 
 import com.gabia.bshop.dto.CartDto;
 import com.gabia.bshop.dto.OrderItemAble;
+import com.gabia.bshop.dto.OrderItemDto;
 
 public interface CartRepository {
 
 	CartDto save(Long memberId, CartDto cartDto);
 
+	List<CartDto> saveAll(Long memberId, List<CartDto> cartDtoList);
+
 	List<CartDto> findAllByMemberId(Long memberId);
 
 	void delete(Long memberId, CartDto cartDto);
 
 	<T extends OrderItemAble> void deleteAll(Long memberId, List<T> orderItemAbleList);
+
+	void deleteAllIfOrderCountEquals(Long memberId, List<OrderItemDto> orderItemDtoList);
 }
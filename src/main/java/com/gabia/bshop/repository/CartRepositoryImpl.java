@@ -1,18 +1,21 @@
 package com.gabia.bshop.repository;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.gabia.bshop.dto.CartDto;
 import com.gabia.bshop.dto.OrderItemAble;
+import com.gabia.bshop.dto.OrderItemDto;
 import com.gabia.bshop.util.RedisValueSupport;
 
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,43 @@ public class CartRepositoryImpl implements CartRepository {
 	private static final String CART_PREFIX = "cart:memberId-";
 	private static final String DELIMITER = "-";
 
+	// 예전 형식(v0)은 CartDto 전체를 JSON 으로 저장했다. 지금 형식(v1)은 hashKey 에 상품과 옵션이 있으므로 수량만 저장한다.
+	private static final char LEGACY_JSON_PREFIX = '{';
+
+	// 수량이 바뀐 경우에만 쓰고 만료 시간은 항상 늘린다. 바뀌었으면 1을 돌려준다.
+	private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+		local changed = 0
+		if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then
+			redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+			changed = 1
+		end
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+		return changed
+		""", Long.class);
+
+	// ARGV[1] 은 만료 시간, 나머지는 (hashKey, value) 쌍
+	private static final RedisScript<Long> SAVE_ALL_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		return 0
+		""", Long.class);
+
+	// ARGV 는 (hashKey, 수량) 쌍. 저장된 수량이 같은 줄만 지우고 지운 줄 수를 돌려준다. 예전 JSON 값은 풀어서 비교한다.
+	private static final RedisScript<Long> DELETE_IF_ORDER_COUNT_EQUALS_SCRIPT = new DefaultRedisScript<>("""
+		local deleted = 0
+		for i = 1, #ARGV, 2 do
+			local value = redis.call('HGET', KEYS[1], ARGV[i])
+			if value and string.sub(value, 1, 1) == '{' then
+				value = tostring(cjson.decode(value).orderCount)
+			end
+			if value == ARGV[i + 1] then
+				redis.call('HDEL', KEYS[1], ARGV[i])
+				deleted = deleted + 1
+			end
+		end
+		return deleted
+		""", Long.class);
+
 	private final RedisTemplate<String, String> redisTemplate;
 
 	private final HashOperations<String, String, String> hashOperations;
@@ -33,24 +73,35 @@ public class CartRepositoryImpl implements CartRepository {
 	@Value("${cart.expired-time}")
 	private long expiredTimeMillis;
 
+	/**
+	 * 저장된 값과 비교해서 쓰고 만료 시간을 늘리는 것까지 스크립트 한 번으로 처리한다.
+	 * 예전 JSON 형식으로 저장된 값은 수량이 같아도 비교에서 달라지므로 이때 지금 형식으로 바뀐다.
+	 */
 	@Override
-	@Transactional
 	public CartDto save(final Long memberId, final CartDto cartDto) {
-		final String key = getKey(memberId);
-		final String hashKey = getHashKey(cartDto);
-		final String value = redisValueSupport.writeValueAsString(cartDto);
-		if (!existsCartByKeyAndHashKey(key, hashKey)) {
-			hashOperations.put(key, hashKey, value);
-		} else {
-			final CartDto savedValue = getCartDtoValue(key, hashKey);
-			if (savedValue.orderCount() != cartDto.orderCount()) {
-				hashOperations.put(key, hashKey, value);
-			}
-		}
-		redisTemplate.expire(key, expiredTimeMillis, TimeUnit.MILLISECONDS);
+		redisTemplate.execute(SAVE_SCRIPT, List.of(getKey(memberId)), getHashKey(cartDto),
+			toValue(cartDto), String.valueOf(expiredTimeMillis));
 		return cartDto;
 	}
 
+	/**
+	 * 여러 상품을 HSET 한 번으로 담고 만료 시간도 같은 스크립트에서 늘린다. 같은 상품과 옵션이 여러 번 오면 마지막 수량을 쓴다.
+	 */
+	@Override
+	public List<CartDto> saveAll(final Long memberId, final List<CartDto> cartDtoList) {
+		final Map<String, CartDto> cartDtoMap = new LinkedHashMap<>();
+		cartDtoList.forEach(cartDto -> cartDtoMap.put(getHashKey(cartDto), cartDto));
+
+		final List<String> args = new ArrayList<>();
+		args.add(String.valueOf(expiredTimeMillis));
+		cartDtoMap.forEach((hashKey, cartDto) -> {
+			args.add(hashKey);
+			args.add(toValue(cartDto));
+		});
+		redisTemplate.execute(SAVE_ALL_SCRIPT, List.of(getKey(memberId)), args.toArray());
+		return List.copyOf(cartDtoMap.values());
+	}
+
 	@Override
 	public List<CartDto> findAllByMemberId(final Long memberId) {
 		final String key = getKey(memberId);
@@ -58,30 +109,40 @@ public class CartRepositoryImpl implements CartRepository {
 		if (entries.size() == 0) {
 			return Collections.emptyList();
 		}
-		return entries.values().stream()
-			.map(this::toCartDto)
+		return entries.entrySet().stream()
+			.map(entry -> toCartDto(entry.getKey(), entry.getValue()))
 			.toList();
 	}
 
 	@Override
-	@Transactional
 	public void delete(final Long memberId, final CartDto cartDto) {
-		final String key = getKey(memberId);
-		final String hashKey = getHashKey(cartDto);
-		if (!existsCartByKeyAndHashKey(key, hashKey)) {
+		hashOperations.delete(getKey(memberId), getHashKey(cartDto));
+	}
+
+	@Override
+	public <T extends OrderItemAble> void deleteAll(final Long memberId, final List<T> orderItemAbleList) {
+		if (orderItemAbleList.isEmpty()) {
 			return;
 		}
-		hashOperations.delete(key, hashKey);
+		hashOperations.delete(getKey(memberId), orderItemAbleList.stream()
+			.map(this::getHashKey)
+			.toArray());
 	}
 
+	/**
+	 * 주문한 뒤 장바구니 수량이 바뀐 줄은 주문하지 않은 수량이 남아 있으므로 지우지 않는다.
+	 */
 	@Override
-	@Transactional
-	public <T extends OrderItemAble> void deleteAll(final Long memberId, final List<T> orderItemAbleList) {
-		final String key = getKey(memberId);
-		for (final OrderItemAble orderItemAble : orderItemAbleList) {
-			final String hashKey = getHashKey(orderItemAble);
-			hashOperations.delete(key, hashKey);
+	public void deleteAllIfOrderCountEquals(final Long memberId, final List<OrderItemDto> orderItemDtoList) {
+		if (orderItemDtoList.isEmpty()) {
+			return;
 		}
+		final List<String> args = new ArrayList<>(orderItemDtoList.size() * 2);
+		orderItemDtoList.forEach(orderItemDto -> {
+			args.add(getHashKey(orderItemDto));
+			args.add(String.valueOf(orderItemDto.orderCount()));
+		});
+		redisTemplate.execute(DELETE_IF_ORDER_COUNT_EQUALS_SCRIPT, List.of(getKey(memberId)), args.toArray());
 	}
 
 	private String getKey(final Long memberId) {
@@ -92,15 +153,16 @@ public class CartRepositoryImpl implements CartRepository {
 		return orderItemAble.itemId() + DELIMITER + orderItemAble.itemOptionId();
 	}
 
-	private boolean existsCartByKeyAndHashKey(final String key, final String hashKey) {
-		return hashOperations.get(key, hashKey) != null;
-	}
-
-	private CartDto getCartDtoValue(final String key, final String hashKey) {
-		return redisValueSupport.readValue(hashOperations.get(key, hashKey), CartDto.class);
+	private String toValue(final CartDto cartDto) {
+		return String.valueOf(cartDto.orderCount());
 	}
 
-	private CartDto toCartDto(final String value) {
-		return redisValueSupport.readValue(value, CartDto.class);
+	private CartDto toCartDto(final String hashKey, final String value) {
+		if (value.charAt(0) == LEGACY_JSON_PREFIX) {
+			return redisValueSupport.readValue(value, CartDto.class);
+		}
+		final int delimiterIndex = hashKey.indexOf(DELIMITER);
+		return new CartDto(Long.valueOf(hashKey.substring(0, delimiterIndex)),
+			Long.valueOf(hashKey.substring(delimiterIndex + 1)), Integer.parseInt(value));
 	}
 }
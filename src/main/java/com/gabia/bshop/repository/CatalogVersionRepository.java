@@ -0,0 +1,11 @@
+package com.gabia.bshop.repository;
+
+public interface CatalogVersionRepository {
+
+	// 카탈로그 버전이 올라가면 모든 노드가 스냅샷을 다시 만든다
+	String CHANGE_CHANNEL = "catalog:change";
+
+	long findVersion();
+
+	void increaseVersion();
+}
@@ -0,0 +1,31 @@
+package com.gabia.bshop.repository;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class CatalogVersionRepositoryImpl implements CatalogVersionRepository {
+
+	private static final String VERSION_KEY = "catalog:version";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public long findVersion() {
+		final String version = redisTemplate.opsForValue().get(VERSION_KEY);
+		return version == null ? 0 : Long.parseLong(version);
+	}
+
+	/**
+	 * 커밋 뒤에 호출되면 명령이 트랜잭션 종료 시점에 실행되어 반환값을 쓸 수 없으므로,
+	 * 새 버전은 메시지로 보내지 않고 받는 쪽에서 다시 읽는다.
+	 */
+	@Override
+	public void increaseVersion() {
+		redisTemplate.opsForValue().increment(VERSION_KEY);
+		redisTemplate.convertAndSend(CHANGE_CHANNEL, VERSION_KEY);
+	}
+}
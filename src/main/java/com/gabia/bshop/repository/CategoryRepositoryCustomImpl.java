@@ -6,9 +6,9 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 
 import com.gabia.bshop.entity.Category;
+import com.gabia.bshop.util.PageCountSupport;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -18,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
 
 	private final JPAQueryFactory jpaQueryFactory;
+	private final PageCountSupport pageCountSupport;
 
 	@Override
 	public List<String> findCategoryNames() {
@@ -41,7 +42,7 @@ public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
 			.from(category)
 			.where(category.deleted.eq(false));
 
-		return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+		return pageCountSupport.getPage(contents, pageable, "categories", null, null, countQuery::fetchOne);
 	}
 
 	@Override
@@ -55,6 +56,7 @@ public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
 		final JPAQuery<Long> countQuery = jpaQueryFactory.select(category.count())
 			.from(category);
 
-		return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+		return pageCountSupport.getPage(contents, pageable, "admin-categories", null, "category",
+			countQuery::fetchOne);
 	}
 }
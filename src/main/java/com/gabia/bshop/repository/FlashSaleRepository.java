@@ -0,0 +1,15 @@
+package com.gabia.bshop.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public interface FlashSaleRepository {
+
+	void save(Long itemId, Duration expiredTime);
+
+	/**
+	 * 플래시 세일 중인 상품만 남은 시간과 함께 돌려준다.
+	 */
+	Map<Long, Duration> findRemainingTimeMap(List<Long> itemIdList);
+}
@@ -0,0 +1,59 @@
+package com.gabia.bshop.repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class FlashSaleRepositoryImpl implements FlashSaleRepository {
+
+	private static final String FLASH_SALE_PREFIX = "flash-sale:itemId-";
+
+	private static final RedisScript<List> REMAINING_TIME_SCRIPT = new DefaultRedisScript<>("""
+		local result = {}
+		for i = 1, #KEYS do
+			result[i] = redis.call('PTTL', KEYS[i])
+		end
+		return result
+		""", List.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public void save(final Long itemId, final Duration expiredTime) {
+		redisTemplate.opsForValue().set(getKey(itemId), "1", expiredTime);
+	}
+
+	// 키가 없으면 PTTL 이 음수이므로 남은 시간이 있는 상품만 담는다
+	@Override
+	public Map<Long, Duration> findRemainingTimeMap(final List<Long> itemIdList) {
+		final List<Long> distinctItemIdList = itemIdList.stream().distinct().toList();
+		final List<?> remainingMillisList = redisTemplate.execute(REMAINING_TIME_SCRIPT,
+			distinctItemIdList.stream().map(this::getKey).toList());
+
+		final Map<Long, Duration> remainingTimeMap = new HashMap<>();
+		if (remainingMillisList == null) {
+			return remainingTimeMap;
+		}
+		for (int i = 0; i < distinctItemIdList.size(); i++) {
+			final long remainingMillis = ((Number)remainingMillisList.get(i)).longValue();
+			if (remainingMillis > 0) {
+				remainingTimeMap.put(distinctItemIdList.get(i), Duration.ofMillis(remainingMillis));
+			}
+		}
+		return remainingTimeMap;
+	}
+
+	private String getKey(final Long itemId) {
+		return FLASH_SALE_PREFIX + itemId;
+	}
+}
@@ -0,0 +1,16 @@
+package com.gabia.bshop.repository;
+
+import java.util.Optional;
+
+import com.gabia.bshop.dto.IdempotencyRecord;
+
+public interface IdempotencyRepository {
+
+	boolean saveIfAbsent(String key, IdempotencyRecord idempotencyRecord, long expiredTimeMillis);
+
+	void save(String key, IdempotencyRecord idempotencyRecord, long expiredTimeMillis);
+
+	Optional<IdempotencyRecord> findByKey(String key);
+
+	void delete(String key);
+}
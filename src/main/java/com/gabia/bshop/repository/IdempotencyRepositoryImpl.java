@@ -0,0 +1,50 @@
+package com.gabia.bshop.repository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gabia.bshop.dto.IdempotencyRecord;
+import com.gabia.bshop.util.RedisValueSupport;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+
+	private static final String IDEMPOTENCY_PREFIX = "idempotency:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisValueSupport redisValueSupport;
+
+	@Override
+	public boolean saveIfAbsent(final String key, final IdempotencyRecord idempotencyRecord,
+		final long expiredTimeMillis) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(getKey(key),
+			redisValueSupport.writeValueAsString(idempotencyRecord), expiredTimeMillis, TimeUnit.MILLISECONDS));
+	}
+
+	@Override
+	public void save(final String key, final IdempotencyRecord idempotencyRecord, final long expiredTimeMillis) {
+		redisTemplate.opsForValue().set(getKey(key), redisValueSupport.writeValueAsString(idempotencyRecord),
+			expiredTimeMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Optional<IdempotencyRecord> findByKey(final String key) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(getKey(key)))
+			.map(value -> redisValueSupport.readValue(value, IdempotencyRecord.class));
+	}
+
+	@Override
+	public void delete(final String key) {
+		redisTemplate.delete(getKey(key));
+	}
+
+	private String getKey(final String key) {
+		return IDEMPOTENCY_PREFIX + key;
+	}
+}
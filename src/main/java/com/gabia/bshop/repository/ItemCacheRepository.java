@@ -0,0 +1,17 @@
+package com.gabia.bshop.repository;
+
+import java.time.Duration;
+
+import com.gabia.bshop.dto.ItemCacheEntry;
+
+public interface ItemCacheRepository {
+
+	// 상품이 무효화되면 상품 ID를 발행해서 모든 노드가 로컬 캐시를 비우게 한다
+	String EVICTION_CHANNEL = "item-cache:eviction";
+
+	ItemCacheEntry findByItemId(Long itemId);
+
+	void save(Long itemId, ItemCacheEntry itemCacheEntry, Duration expiredTime);
+
+	void evict(Long itemId, Duration expiredTime);
+}
@@ -0,0 +1,70 @@
+package com.gabia.bshop.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gabia.bshop.dto.ItemCacheEntry;
+import com.gabia.bshop.util.RedisValueSupport;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class ItemCacheRepositoryImpl implements ItemCacheRepository {
+
+	private static final String ITEM_CACHE_PREFIX = "item-cache:itemId-";
+	private static final String GENERATION_PREFIX = "item-cache-generation:itemId-";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisValueSupport redisValueSupport;
+
+	/**
+	 * 저장된 상품과 현재 번호를 한 번에 읽는다.
+	 * DB를 읽는 사이에 무효화된 상품은 지난 번호로 저장되므로 여기서 걸러진다.
+	 */
+	@Override
+	public ItemCacheEntry findByItemId(final Long itemId) {
+		final List<String> valueList = redisTemplate.opsForValue()
+			.multiGet(List.of(getKey(itemId), getGenerationKey(itemId)));
+		final String savedValue = valueList == null ? null : valueList.get(0);
+		final long generation = valueList == null || valueList.get(1) == null ? 0 : Long.parseLong(valueList.get(1));
+		if (savedValue == null) {
+			return new ItemCacheEntry(generation, null);
+		}
+
+		final ItemCacheEntry savedEntry = redisValueSupport.readValue(savedValue, ItemCacheEntry.class);
+		if (savedEntry.generation() != generation) {
+			return new ItemCacheEntry(generation, null);
+		}
+		return savedEntry;
+	}
+
+	@Override
+	public void save(final Long itemId, final ItemCacheEntry itemCacheEntry, final Duration expiredTime) {
+		redisTemplate.opsForValue().set(getKey(itemId), redisValueSupport.writeValueAsString(itemCacheEntry),
+			expiredTime);
+	}
+
+	/**
+	 * 번호는 상품보다 오래 남겨서, 번호가 만료되어 0으로 돌아갈 때 지난 번호로 저장된 상품이 남아 있지 않게 한다.
+	 */
+	@Override
+	public void evict(final Long itemId, final Duration expiredTime) {
+		final String generationKey = getGenerationKey(itemId);
+		redisTemplate.opsForValue().increment(generationKey);
+		redisTemplate.expire(generationKey, expiredTime.multipliedBy(2));
+		redisTemplate.delete(getKey(itemId));
+		redisTemplate.convertAndSend(EVICTION_CHANNEL, String.valueOf(itemId));
+	}
+
+	private String getKey(final Long itemId) {
+		return ITEM_CACHE_PREFIX + itemId;
+	}
+
+	private String getGenerationKey(final Long itemId) {
+		return GENERATION_PREFIX + itemId;
+	}
+}
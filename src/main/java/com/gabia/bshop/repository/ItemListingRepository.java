@@ -0,0 +1,8 @@
+package com.gabia.bshop.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.gabia.bshop.entity.ItemListing;
+
+public interface ItemListingRepository extends JpaRepository<ItemListing, Long>, ItemListingRepositoryCustom {
+}
@@ -0,0 +1,18 @@
+package com.gabia.bshop.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.gabia.bshop.dto.searchConditions.ItemSearchConditions;
+import com.gabia.bshop.entity.ItemListing;
+
+public interface ItemListingRepositoryCustom {
+
+	Page<ItemListing> findItemListingListByItemSearchConditions(Pageable pageable,
+		ItemSearchConditions itemSearchConditions);
+
+	Page<ItemListing> findItemListingListByRankedItemIdList(Pageable pageable,
+		ItemSearchConditions itemSearchConditions, List<Long> rankedItemIdList);
+}
@@ -0,0 +1,122 @@
+package com.gabia.bshop.repository;
+
+import static com.gabia.bshop.entity.QItemListing.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import com.gabia.bshop.dto.searchConditions.ItemSearchConditions;
+import com.gabia.bshop.entity.ItemListing;
+import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.util.PageCountSupport;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ItemListingRepositoryCustomImpl implements ItemListingRepositoryCustom {
+
+	private final JPAQueryFactory jpaQueryFactory;
+	private final PageCountSupport pageCountSupport;
+
+	@Override
+	public Page<ItemListing> findItemListingListByItemSearchConditions(final Pageable pageable,
+		final ItemSearchConditions itemSearchConditions) {
+		final List<ItemListing> contents = jpaQueryFactory.select(itemListing)
+			.from(itemListing)
+			.where(searchConditions(itemSearchConditions))
+			.where(containsItemName(itemSearchConditions == null ? null : itemSearchConditions.itemName()))
+			.orderBy(itemListing.itemId.asc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+
+		final JPAQuery<Long> countQuery = jpaQueryFactory.select(itemListing.count())
+			.from(itemListing)
+			.where(searchConditions(itemSearchConditions))
+			.where(containsItemName(itemSearchConditions == null ? null : itemSearchConditions.itemName()));
+
+		return pageCountSupport.getPage(contents, pageable, "items", itemSearchConditions, null,
+			countQuery::fetchOne);
+	}
+
+	/**
+	 * 검색 색인이 관련도 순으로 고른 후보 중 나머지 조건에 맞는 상품을 그 순서대로 페이지로 나눈다.
+	 */
+	@Override
+	public Page<ItemListing> findItemListingListByRankedItemIdList(final Pageable pageable,
+		final ItemSearchConditions itemSearchConditions, final List<Long> rankedItemIdList) {
+		if (rankedItemIdList.isEmpty()) {
+			return Page.empty(pageable);
+		}
+		final Set<Long> matchedItemIdSet = new HashSet<>(jpaQueryFactory.select(itemListing.itemId)
+			.from(itemListing)
+			.where(itemListing.itemId.in(rankedItemIdList))
+			.where(searchConditions(itemSearchConditions))
+			.fetch());
+		final List<Long> matchedItemIdList = rankedItemIdList.stream()
+			.filter(matchedItemIdSet::contains)
+			.toList();
+
+		final int fromIndex = (int)Math.min(pageable.getOffset(), matchedItemIdList.size());
+		final int toIndex = Math.min(fromIndex + pageable.getPageSize(), matchedItemIdList.size());
+		final List<Long> pageItemIdList = matchedItemIdList.subList(fromIndex, toIndex);
+		if (pageItemIdList.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, matchedItemIdList.size());
+		}
+
+		final Map<Long, ItemListing> itemListingMap = jpaQueryFactory.select(itemListing)
+			.from(itemListing)
+			.where(itemListing.itemId.in(pageItemIdList))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(ItemListing::getItemId, Function.identity()));
+		final List<ItemListing> contents = pageItemIdList.stream()
+			.map(itemListingMap::get)
+			.filter(Objects::nonNull)
+			.toList();
+		return new PageImpl<>(contents, pageable, matchedItemIdList.size());
+	}
+
+	private BooleanExpression[] searchConditions(final ItemSearchConditions itemSearchConditions) {
+		return new BooleanExpression[] {
+			eqCategoryName(itemSearchConditions == null ? null : itemSearchConditions.categoryName()),
+			eqItemYear(itemSearchConditions == null ? null : itemSearchConditions.year()),
+			itemListing.deleted.eq(false),
+			itemListing.itemStatus.ne(ItemStatus.PRIVATE)
+		};
+	}
+
+	private BooleanExpression eqCategoryName(final String categoryName) {
+		if (StringUtils.hasText(categoryName)) {
+			return itemListing.categoryName.eq(categoryName);
+		}
+		return null;
+	}
+
+	private BooleanExpression eqItemYear(final Integer year) {
+		if (year != null) {
+			return itemListing.year.eq(year);
+		}
+		return null;
+	}
+
+	private BooleanExpression containsItemName(final String itemName) {
+		if (StringUtils.hasText(itemName)) {
+			return itemListing.name.contains(itemName);
+		}
+		return null;
+	}
+}
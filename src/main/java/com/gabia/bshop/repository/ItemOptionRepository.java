@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import com.gabia.bshop.entity.ItemOption;
@@ -25,5 +26,20 @@ public interface ItemOptionRepository extends JpaRepository<ItemOption, Long>, I
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	Optional<ItemOption> findByIdAndItemIdWithLock(Long itemOptionId, Long itemId);
 
+	/**
+	 * 재고가 충분할 때만 차감한다. 벌크 연산이라 updatedAt 을 직접 채우고,
+	 * 이미 읽어 둔 엔티티가 차감 전 재고를 보지 않도록 실행 전후로 영속성 컨텍스트를 비운다.
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		update ItemOption io
+		set io.stockQuantity = io.stockQuantity - :orderCount, io.updatedAt = local datetime
+		where io.id = :itemOptionId
+		and io.item.id = :itemId
+		and io.deleted = false
+		and io.stockQuantity >= :orderCount
+		""")
+	int decreaseStockQuantity(Long itemId, Long itemOptionId, int orderCount);
+
 	boolean existsByItem_IdAndIdAndStockQuantityIsGreaterThanEqual(Long itemId, Long itemOptionId, int stockQuantity);
 }
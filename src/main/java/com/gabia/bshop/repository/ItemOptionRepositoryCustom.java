@@ -1,17 +1,23 @@
 package com.gabia.bshop.repository;
 
 import java.util.List;
+import java.util.Map;
 
-import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.OrderItemAble;
 import com.gabia.bshop.dto.OrderItemDto;
 import com.gabia.bshop.entity.ItemOption;
 import com.gabia.bshop.entity.OrderItem;
 
 public interface ItemOptionRepositoryCustom {
 
-	List<ItemOption> findAllByItemIdsAndItemOptionIds(List<CartDto> cartDtoList);
+	<T extends OrderItemAble> List<ItemOption> findAllByItemIdsAndItemOptionIds(List<T> orderItemAbleList);
 
 	List<ItemOption> findByItemIdListAndIdListWithLock(List<OrderItemDto> orderItemDtoList);
 
 	List<ItemOption> findByItemIdListAndIdListInOrderItemListWithLock(List<OrderItem> orderItemList);
+
+	Map<Long, Integer> findStockQuantityMapByItemId(Long itemId);
+
+	<T extends OrderItemAble> Map<Long, Integer> findStockQuantityMapByItemIdsAndItemOptionIds(
+		List<T> orderItemAbleList);
 }
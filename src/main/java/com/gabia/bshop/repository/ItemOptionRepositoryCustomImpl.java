@@ -6,8 +6,9 @@ import static com.gabia.bshop.entity.QItemOption.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
-import com.gabia.bshop.dto.CartDto;
 import com.gabia.bshop.dto.OrderItemAble;
 import com.gabia.bshop.dto.OrderItemDto;
 import com.gabia.bshop.entity.ItemOption;
@@ -26,12 +27,12 @@ public class ItemOptionRepositoryCustomImpl implements ItemOptionRepositoryCusto
 	private final JPAQueryFactory jpaQueryFactory;
 
 	@Override
-	public List<ItemOption> findAllByItemIdsAndItemOptionIds(List<CartDto> cartDtoList) {
+	public <T extends OrderItemAble> List<ItemOption> findAllByItemIdsAndItemOptionIds(List<T> orderItemAbleList) {
 		return jpaQueryFactory.select(itemOption)
 			.from(itemOption)
 			.join(itemOption.item, item).fetchJoin()
 			.join(item.category, category).fetchJoin()
-			.where(Expressions.list(item.id, itemOption.id).in(searchItemIdAndItemOptionIdIn(cartDtoList)))
+			.where(Expressions.list(item.id, itemOption.id).in(searchItemIdAndItemOptionIdIn(orderItemAbleList)))
 			.fetch();
 	}
 
@@ -56,6 +57,28 @@ public class ItemOptionRepositoryCustomImpl implements ItemOptionRepositoryCusto
 			.fetch();
 	}
 
+	@Override
+	public Map<Long, Integer> findStockQuantityMapByItemId(final Long itemId) {
+		return jpaQueryFactory.select(itemOption.id, itemOption.stockQuantity)
+			.from(itemOption)
+			.where(itemOption.item.id.eq(itemId))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(tuple -> tuple.get(itemOption.id), tuple -> tuple.get(itemOption.stockQuantity)));
+	}
+
+	@Override
+	public <T extends OrderItemAble> Map<Long, Integer> findStockQuantityMapByItemIdsAndItemOptionIds(
+		final List<T> orderItemAbleList) {
+		return jpaQueryFactory.select(itemOption.id, itemOption.stockQuantity)
+			.from(itemOption)
+			.where(Expressions.list(itemOption.item.id, itemOption.id)
+				.in(searchItemIdAndItemOptionIdIn(orderItemAbleList)))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(tuple -> tuple.get(itemOption.id), tuple -> tuple.get(itemOption.stockQuantity)));
+	}
+
 	private Expression[] searchItemIdAndItemOptionIdInOrderItemList(List<OrderItem> orderItemList) {
 		List<Expression<Object>> tuples = new ArrayList<>();
 		for (OrderItem orderItem : orderItemList) {
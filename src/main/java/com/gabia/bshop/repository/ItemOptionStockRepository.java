@@ -0,0 +1,27 @@
+package com.gabia.bshop.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface ItemOptionStockRepository {
+
+	/**
+	 * 모든 옵션의 재고를 한 번에 차감한다.
+	 * 0: 성공, i: i번째 옵션 재고 부족, -i: i번째 옵션 카운터 없음 (i는 1부터 시작)
+	 */
+	long decreaseAll(List<Long> itemOptionIdList, List<Integer> orderCountList);
+
+	/**
+	 * 있는 카운터에만 더한다. 만료되었거나 게이트를 거치지 않은 옵션은 건너뛴다.
+	 */
+	void increaseAll(List<Long> itemOptionIdList, List<Integer> orderCountList);
+
+	/**
+	 * expiredTime 이 null 이면 만료 없이 저장한다.
+	 */
+	void save(Long itemOptionId, int stockQuantity, Duration expiredTime);
+
+	void saveIfAbsent(Long itemOptionId, int stockQuantity, Duration expiredTime);
+
+	void delete(Long itemOptionId);
+}
@@ -0,0 +1,96 @@
+package com.gabia.bshop.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class ItemOptionStockRepositoryImpl implements ItemOptionStockRepository {
+
+	private static final String STOCK_PREFIX = "stock:itemOptionId-";
+
+	private static final RedisScript<Long> DECREASE_ALL_SCRIPT = new DefaultRedisScript<>("""
+		for i = 1, #KEYS do
+			local stock = redis.call('GET', KEYS[i])
+			if not stock then
+				return -i
+			end
+			if tonumber(stock) < tonumber(ARGV[i]) then
+				return i
+			end
+		end
+		for i = 1, #KEYS do
+			redis.call('DECRBY', KEYS[i], ARGV[i])
+		end
+		return 0
+		""", Long.class);
+
+	private static final RedisScript<Long> INCREASE_ALL_SCRIPT = new DefaultRedisScript<>("""
+		for i = 1, #KEYS do
+			if redis.call('EXISTS', KEYS[i]) == 1 then
+				redis.call('INCRBY', KEYS[i], ARGV[i])
+			end
+		end
+		return 0
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public long decreaseAll(final List<Long> itemOptionIdList, final List<Integer> orderCountList) {
+		final Long result = redisTemplate.execute(DECREASE_ALL_SCRIPT, getKeys(itemOptionIdList),
+			toArgs(orderCountList));
+		return result == null ? 0 : result;
+	}
+
+	@Override
+	public void increaseAll(final List<Long> itemOptionIdList, final List<Integer> orderCountList) {
+		redisTemplate.execute(INCREASE_ALL_SCRIPT, getKeys(itemOptionIdList), toArgs(orderCountList));
+	}
+
+	@Override
+	public void save(final Long itemOptionId, final int stockQuantity, final Duration expiredTime) {
+		if (expiredTime == null) {
+			redisTemplate.opsForValue().set(getKey(itemOptionId), String.valueOf(stockQuantity));
+			return;
+		}
+		redisTemplate.opsForValue().set(getKey(itemOptionId), String.valueOf(stockQuantity), expiredTime);
+	}
+
+	@Override
+	public void saveIfAbsent(final Long itemOptionId, final int stockQuantity, final Duration expiredTime) {
+		if (expiredTime == null) {
+			redisTemplate.opsForValue().setIfAbsent(getKey(itemOptionId), String.valueOf(stockQuantity));
+			return;
+		}
+		redisTemplate.opsForValue().setIfAbsent(getKey(itemOptionId), String.valueOf(stockQuantity), expiredTime);
+	}
+
+	@Override
+	public void delete(final Long itemOptionId) {
+		redisTemplate.delete(getKey(itemOptionId));
+	}
+
+	private String getKey(final Long itemOptionId) {
+		return STOCK_PREFIX + itemOptionId;
+	}
+
+	private List<String> getKeys(final List<Long> itemOptionIdList) {
+		return itemOptionIdList.stream()
+			.map(this::getKey)
+			.toList();
+	}
+
+	private Object[] toArgs(final List<Integer> orderCountList) {
+		return orderCountList.stream()
+			.map(String::valueOf)
+			.toArray();
+	}
+}
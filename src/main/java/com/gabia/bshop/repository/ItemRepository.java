@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.gabia.bshop.entity.Item;
 
@@ -13,4 +14,7 @@ public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositor
 	Page<Item> findAll(Pageable page);
 
 	List<Item> findAllByCategoryId(Long categoryId);
+
+	@Query("select i.id from Item i where i.category.id = :categoryId")
+	List<Long> findItemIdListByCategoryId(Long categoryId);
 }
@@ -1,10 +1,17 @@
 package com.gabia.bshop.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.gabia.bshop.dto.ItemCursor;
+import com.gabia.bshop.dto.ItemFacetCountDto;
+import com.gabia.bshop.dto.ItemListingSourceDto;
+import com.gabia.bshop.dto.ItemSearchDocument;
+import com.gabia.bshop.dto.request.ItemSortKey;
 import com.gabia.bshop.dto.searchConditions.ItemSearchConditions;
 import com.gabia.bshop.entity.Item;
 
@@ -12,8 +19,27 @@ public interface ItemRepositoryCustom {
 
 	List<Integer> findItemYears();
 
-	Page<Item> findItemListByItemSearchConditions(Pageable pageable, ItemSearchConditions itemSearchConditions);
-
 	Page<Item> findItemListWithDeletedByItemSearchConditions(Pageable pageable,
 		ItemSearchConditions itemSearchConditions);
+
+	Page<Item> findItemListByRankedItemIdList(Pageable pageable, ItemSearchConditions itemSearchConditions,
+		List<Long> rankedItemIdList);
+
+	List<Item> findItemContentListByItemSearchConditions(Pageable pageable, ItemSearchConditions itemSearchConditions);
+
+	List<Item> findItemListAfterCursor(ItemSearchConditions itemSearchConditions, List<Long> itemIdList,
+		boolean withDeleted, ItemSortKey sortKey, Sort.Direction direction, ItemCursor itemCursor, int limit);
+
+	long countByItemSearchConditions(ItemSearchConditions itemSearchConditions, List<Long> itemIdList,
+		boolean withDeleted);
+
+	List<ItemFacetCountDto> findItemFacetCountList(String itemName, List<Long> itemIdList);
+
+	List<ItemListingSourceDto> findItemListingSourceList(List<Long> itemIdList);
+
+	List<Long> findItemIdListAfter(Long lastItemId, int limit);
+
+	List<ItemSearchDocument> findItemSearchDocumentList();
+
+	Optional<ItemSearchDocument> findItemSearchDocument(Long itemId);
 }
@@ -2,17 +2,35 @@ package com.gabia.bshop.repository;
 
 import static com.gabia.bshop.entity.QCategory.*;
 import static com.gabia.bshop.entity.QItem.*;
+import static com.gabia.bshop.entity.QItemOption.*;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Sort;
 import org.springframework.util.StringUtils;
 
+import com.gabia.bshop.dto.ItemCursor;
+import com.gabia.bshop.dto.ItemFacetCountDto;
+import com.gabia.bshop.dto.ItemListingSourceDto;
+import com.gabia.bshop.dto.ItemSearchDocument;
+import com.gabia.bshop.dto.request.ItemSortKey;
 import com.gabia.bshop.dto.searchConditions.ItemSearchConditions;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.util.PageCountSupport;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -23,6 +41,7 @@ import lombok.RequiredArgsConstructor;
 public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 
 	private final JPAQueryFactory jpaQueryFactory;
+	private final PageCountSupport pageCountSupport;
 
 	@Override
 	public List<Integer> findItemYears() {
@@ -33,14 +52,15 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 	}
 
 	@Override
-	public Page<Item> findItemListByItemSearchConditions(Pageable pageable, ItemSearchConditions itemSearchConditions) {
+	public Page<Item> findItemListWithDeletedByItemSearchConditions(Pageable pageable,
+		ItemSearchConditions itemSearchConditions) {
 		final List<Item> contents = jpaQueryFactory.select(item)
 			.from(item)
 			.join(item.category, category).fetchJoin()
 			.where(eqCategoryName(itemSearchConditions.categoryName()),
 				containsItemName(itemSearchConditions.itemName()),
-				eqItemYear(itemSearchConditions.year()),
-				item.deleted.eq(false), item.itemStatus.ne(ItemStatus.PRIVATE))
+				eqItemYear(itemSearchConditions.year()))
+			.orderBy(item.id.asc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
@@ -49,32 +69,204 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 			.from(item)
 			.where(eqCategoryName(itemSearchConditions.categoryName()),
 				containsItemName(itemSearchConditions.itemName()),
+				eqItemYear(itemSearchConditions.year()));
+
+		return pageCountSupport.getPage(contents, pageable, "admin-items", itemSearchConditions,
+			isEmpty(itemSearchConditions) ? "item" : null, countQuery::fetchOne);
+	}
+
+	/**
+	 * 검색 색인이 관련도 순으로 고른 후보 중 나머지 조건에 맞는 상품을 그 순서대로 페이지로 나눈다.
+	 * 후보 ID 는 기본 키로만 걸러 내고, 엔티티는 해당 페이지의 상품만 읽는다.
+	 */
+	@Override
+	public Page<Item> findItemListByRankedItemIdList(final Pageable pageable,
+		final ItemSearchConditions itemSearchConditions, final List<Long> rankedItemIdList) {
+		if (rankedItemIdList.isEmpty()) {
+			return Page.empty(pageable);
+		}
+		final Set<Long> matchedItemIdSet = new HashSet<>(jpaQueryFactory.select(item.id)
+			.from(item)
+			.join(item.category, category)
+			.where(item.id.in(rankedItemIdList),
+				eqCategoryName(itemSearchConditions.categoryName()),
 				eqItemYear(itemSearchConditions.year()),
-				item.deleted.eq(false), item.itemStatus.ne(ItemStatus.PRIVATE));
+				item.deleted.eq(false), item.itemStatus.ne(ItemStatus.PRIVATE))
+			.fetch());
+		final List<Long> matchedItemIdList = rankedItemIdList.stream()
+			.filter(matchedItemIdSet::contains)
+			.toList();
 
-		return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+		final int fromIndex = (int)Math.min(pageable.getOffset(), matchedItemIdList.size());
+		final int toIndex = Math.min(fromIndex + pageable.getPageSize(), matchedItemIdList.size());
+		final List<Long> pageItemIdList = matchedItemIdList.subList(fromIndex, toIndex);
+		if (pageItemIdList.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, matchedItemIdList.size());
+		}
+
+		final Map<Long, Item> itemMap = jpaQueryFactory.select(item)
+			.from(item)
+			.join(item.category, category).fetchJoin()
+			.where(item.id.in(pageItemIdList))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(Item::getId, Function.identity()));
+		final List<Item> contents = pageItemIdList.stream()
+			.map(itemMap::get)
+			.filter(Objects::nonNull)
+			.toList();
+		return new PageImpl<>(contents, pageable, matchedItemIdList.size());
 	}
 
 	@Override
-	public Page<Item> findItemListWithDeletedByItemSearchConditions(Pageable pageable,
-		ItemSearchConditions itemSearchConditions) {
-		final List<Item> contents = jpaQueryFactory.select(item)
+	public List<Item> findItemContentListByItemSearchConditions(final Pageable pageable,
+		final ItemSearchConditions itemSearchConditions) {
+		return jpaQueryFactory.select(item)
 			.from(item)
 			.join(item.category, category).fetchJoin()
 			.where(eqCategoryName(itemSearchConditions.categoryName()),
 				containsItemName(itemSearchConditions.itemName()),
-				eqItemYear(itemSearchConditions.year()))
+				eqItemYear(itemSearchConditions.year()),
+				item.deleted.eq(false), item.itemStatus.ne(ItemStatus.PRIVATE))
+			.orderBy(item.id.asc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
+	}
 
-		final JPAQuery<Long> countQuery = jpaQueryFactory.select(item.count())
+	/**
+	 * (정렬 값, id) 기준 커서 페이지네이션. 깊은 페이지도 offset 없이 인덱스에서 바로 이어서 읽는다.
+	 * @param itemIdList 검색 색인이 고른 상품 ID. null 이면 상품명을 LIKE 로 찾는다.
+	 * @param withDeleted true 이면 삭제되거나 공개되지 않은 상품도 조회한다 (관리자)
+	 */
+	@Override
+	public List<Item> findItemListAfterCursor(final ItemSearchConditions itemSearchConditions,
+		final List<Long> itemIdList, final boolean withDeleted, final ItemSortKey sortKey,
+		final Sort.Direction direction, final ItemCursor itemCursor, final int limit) {
+		return jpaQueryFactory.select(item)
 			.from(item)
-			.where(eqCategoryName(itemSearchConditions.categoryName()),
-				containsItemName(itemSearchConditions.itemName()),
-				eqItemYear(itemSearchConditions.year()));
+			.join(item.category, category).fetchJoin()
+			.where(searchConditions(itemSearchConditions, itemIdList, withDeleted))
+			.where(afterCursor(itemCursor))
+			.orderBy(itemOrders(sortKey, direction))
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public long countByItemSearchConditions(final ItemSearchConditions itemSearchConditions,
+		final List<Long> itemIdList, final boolean withDeleted) {
+		final Long count = jpaQueryFactory.select(item.count())
+			.from(item)
+			.join(item.category, category)
+			.where(searchConditions(itemSearchConditions, itemIdList, withDeleted))
+			.fetchOne();
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * 카테고리와 연도 조건을 빼고 (카테고리, 연도)별 상품 수를 한 번에 센다.
+	 * 카테고리별 수, 연도별 수, 전체 상품 수는 모두 이 결과를 더해서 구한다.
+	 * @param itemIdList 검색 색인이 고른 상품 ID. null 이면 상품명을 LIKE 로 찾는다.
+	 */
+	@Override
+	public List<ItemFacetCountDto> findItemFacetCountList(final String itemName, final List<Long> itemIdList) {
+		return jpaQueryFactory.select(Projections.constructor(ItemFacetCountDto.class,
+				category.id, category.name, item.year, item.count()))
+			.from(item)
+			.join(item.category, category)
+			.where(itemIdList == null ? containsItemName(itemName) : item.id.in(itemIdList),
+				item.deleted.eq(false), item.itemStatus.ne(ItemStatus.PRIVATE))
+			.groupBy(category.id, category.name, item.year)
+			.fetch();
+	}
+
+	/**
+	 * 상품, 카테고리, 옵션 집계를 한 번에 읽는다. 엔티티가 아닌 값으로 읽으므로 같은 트랜잭션에서 삭제한 상품도 DB 상태 그대로 읽힌다.
+	 */
+	@Override
+	public List<ItemListingSourceDto> findItemListingSourceList(final List<Long> itemIdList) {
+		return jpaQueryFactory.select(Projections.constructor(ItemListingSourceDto.class,
+				item.id, category.id, category.name, item.name, item.description, item.basePrice, item.thumbnail,
+				item.itemStatus, item.year, item.openAt, item.deleted,
+				itemOption.optionPrice.min(), itemOption.optionPrice.max(), itemOption.stockQuantity.max()))
+			.from(item)
+			.join(item.category, category)
+			.leftJoin(item.itemOptionList, itemOption).on(itemOption.deleted.eq(false))
+			.where(item.id.in(itemIdList))
+			.groupBy(item.id, category.id, category.name)
+			.fetch();
+	}
+
+	@Override
+	public List<Long> findItemIdListAfter(final Long lastItemId, final int limit) {
+		return jpaQueryFactory.select(item.id)
+			.from(item)
+			.where(lastItemId == null ? null : item.id.gt(lastItemId))
+			.orderBy(item.id.asc())
+			.limit(limit)
+			.fetch();
+	}
 
-		return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+	@Override
+	public List<ItemSearchDocument> findItemSearchDocumentList() {
+		return jpaQueryFactory.select(Projections.constructor(ItemSearchDocument.class,
+				item.id, item.name, item.description))
+			.from(item)
+			.where(item.deleted.eq(false))
+			.fetch();
+	}
+
+	@Override
+	public Optional<ItemSearchDocument> findItemSearchDocument(final Long itemId) {
+		return Optional.ofNullable(jpaQueryFactory.select(Projections.constructor(ItemSearchDocument.class,
+				item.id, item.name, item.description))
+			.from(item)
+			.where(item.id.eq(itemId), item.deleted.eq(false))
+			.fetchOne());
+	}
+
+	private boolean isEmpty(ItemSearchConditions itemSearchConditions) {
+		return itemSearchConditions == null || (!StringUtils.hasText(itemSearchConditions.categoryName())
+			&& !StringUtils.hasText(itemSearchConditions.itemName()) && itemSearchConditions.year() == null);
+	}
+
+	private BooleanExpression[] searchConditions(final ItemSearchConditions itemSearchConditions,
+		final List<Long> itemIdList, final boolean withDeleted) {
+		return new BooleanExpression[] {
+			eqCategoryName(itemSearchConditions.categoryName()),
+			itemIdList == null ? containsItemName(itemSearchConditions.itemName()) : item.id.in(itemIdList),
+			eqItemYear(itemSearchConditions.year()),
+			withDeleted ? null : item.deleted.eq(false),
+			withDeleted ? null : item.itemStatus.ne(ItemStatus.PRIVATE)
+		};
+	}
+
+	private OrderSpecifier<?>[] itemOrders(final ItemSortKey sortKey, final Sort.Direction direction) {
+		final Order order = direction.isAscending() ? Order.ASC : Order.DESC;
+		final OrderSpecifier<Long> idOrder = new OrderSpecifier<>(order, item.id);
+		return switch (sortKey) {
+			case ID -> new OrderSpecifier<?>[] {idOrder};
+			case OPEN_AT -> new OrderSpecifier<?>[] {new OrderSpecifier<>(order, item.openAt), idOrder};
+			case BASE_PRICE -> new OrderSpecifier<?>[] {new OrderSpecifier<>(order, item.basePrice), idOrder};
+		};
+	}
+
+	private BooleanExpression afterCursor(final ItemCursor itemCursor) {
+		if (itemCursor == null) {
+			return null;
+		}
+		final boolean ascending = itemCursor.direction().isAscending();
+		final BooleanExpression afterId = ascending ? item.id.gt(itemCursor.id()) : item.id.lt(itemCursor.id());
+		return switch (itemCursor.sortKey()) {
+			case ID -> afterId;
+			case OPEN_AT -> (ascending ? item.openAt.gt(itemCursor.openAt()) : item.openAt.lt(itemCursor.openAt()))
+				.or(item.openAt.eq(itemCursor.openAt()).and(afterId));
+			case BASE_PRICE -> (ascending
+				? item.basePrice.gt(itemCursor.basePrice())
+				: item.basePrice.lt(itemCursor.basePrice()))
+				.or(item.basePrice.eq(itemCursor.basePrice()).and(afterId));
+		};
 	}
 
 	private BooleanExpression eqCategoryName(String categoryName) {
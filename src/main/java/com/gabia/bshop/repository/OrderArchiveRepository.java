@@ -0,0 +1,14 @@
+package com.gabia.bshop.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderArchiveRepository {
+
+	List<Long> findOrderIdListCreatedBefore(LocalDateTime createdAt, int limit);
+
+	/**
+	 * 주문과 주문 상품을 보관 테이블로 복사한 뒤 원래 테이블에서 지운다. 옮긴 주문 수를 돌려준다.
+	 */
+	int moveToArchive(List<Long> orderIdList);
+}
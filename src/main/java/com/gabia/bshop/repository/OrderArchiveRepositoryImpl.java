@@ -0,0 +1,55 @@
+package com.gabia.bshop.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class OrderArchiveRepositoryImpl implements OrderArchiveRepository {
+
+	private static final String FIND_ORDER_ID_LIST_QUERY =
+		"select id from orders where created_at < :createdAt order by created_at, id limit :limit for update";
+
+	private static final String COPY_ORDER_ITEM_QUERY =
+		"insert into order_item_archive (id, item_id, order_id, option_id, order_count, price, created_at, updated_at) "
+			+ "select id, item_id, order_id, option_id, order_count, price, created_at, updated_at "
+			+ "from order_item where order_id in (:orderIdList)";
+
+	private static final String COPY_ORDER_QUERY =
+		"insert into orders_archive (id, member_id, status, total_price, created_at, updated_at) "
+			+ "select id, member_id, status, total_price, created_at, updated_at "
+			+ "from orders where id in (:orderIdList)";
+
+	private static final String DELETE_ORDER_ITEM_QUERY = "delete from order_item where order_id in (:orderIdList)";
+
+	private static final String DELETE_ORDER_QUERY = "delete from orders where id in (:orderIdList)";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@Override
+	public List<Long> findOrderIdListCreatedBefore(final LocalDateTime createdAt, final int limit) {
+		return namedParameterJdbcTemplate.queryForList(FIND_ORDER_ID_LIST_QUERY,
+			new MapSqlParameterSource()
+				.addValue("createdAt", createdAt)
+				.addValue("limit", limit),
+			Long.class);
+	}
+
+	@Override
+	public int moveToArchive(final List<Long> orderIdList) {
+		if (orderIdList.isEmpty()) {
+			return 0;
+		}
+		final MapSqlParameterSource parameterSource = new MapSqlParameterSource("orderIdList", orderIdList);
+		namedParameterJdbcTemplate.update(COPY_ORDER_ITEM_QUERY, parameterSource);
+		namedParameterJdbcTemplate.update(COPY_ORDER_QUERY, parameterSource);
+		namedParameterJdbcTemplate.update(DELETE_ORDER_ITEM_QUERY, parameterSource);
+		return namedParameterJdbcTemplate.update(DELETE_ORDER_QUERY, parameterSource);
+	}
+}
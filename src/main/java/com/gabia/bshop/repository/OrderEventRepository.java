@@ -0,0 +1,35 @@
+package com.gabia.bshop.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.gabia.bshop.entity.OrderEvent;
+import com.gabia.bshop.entity.enumtype.OrderEventStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OrderEventRepository extends JpaRepository<OrderEvent, Long> {
+
+	@Query("""
+		select oe.id from OrderEvent oe
+		where oe.status = :status
+		order by oe.id asc
+		""")
+	List<Long> findIdListByStatus(OrderEventStatus status, Pageable pageable);
+
+	// 다른 노드의 디스패처가 발행 중인 이벤트는 기다리지 않고 건너뛴다 (SKIP LOCKED)
+	@Query("""
+		select oe from OrderEvent oe
+		where oe.id = :orderEventId
+		""")
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	Optional<OrderEvent> findByIdWithSkipLocked(Long orderEventId);
+}
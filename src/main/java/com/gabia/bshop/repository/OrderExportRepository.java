@@ -0,0 +1,17 @@
+package com.gabia.bshop.repository;
+
+import java.util.function.Consumer;
+
+import com.gabia.bshop.dto.OrderExportRow;
+import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
+
+public interface OrderExportRepository {
+
+	/**
+	 * 조건에 맞는 주문 상품을 주문 id 순서로 한 행씩 읽어 넘긴다. 결과를 메모리에 모으지 않는다.
+	 *
+	 * @param archive true 면 orders_archive 를, false 면 orders 를 읽는다
+	 */
+	void streamOrderExportRows(OrderSearchConditions orderSearchConditions, boolean archive,
+		Consumer<OrderExportRow> rowConsumer);
+}
@@ -0,0 +1,86 @@
+package com.gabia.bshop.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gabia.bshop.dto.OrderExportRow;
+import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class OrderExportRepositoryImpl implements OrderExportRepository {
+
+	private static final String SELECT_QUERY = """
+		select o.id, o.member_id, o.status, o.total_price, o.created_at,
+			oi.item_id, oi.option_id, oi.order_count, oi.price
+		from %s o
+		join %s oi on oi.order_id = o.id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void streamOrderExportRows(final OrderSearchConditions orderSearchConditions, final boolean archive,
+		final Consumer<OrderExportRow> rowConsumer) {
+		final List<Object> parameterList = new ArrayList<>();
+		final String query = SELECT_QUERY.formatted(archive ? "orders_archive" : "orders",
+			archive ? "order_item_archive" : "order_item")
+			+ betweenDate(orderSearchConditions, parameterList)
+			+ " order by o.id, oi.id";
+
+		jdbcTemplate.query(connection -> {
+			final PreparedStatement preparedStatement = connection.prepareStatement(query,
+				ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			// MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍한다
+			preparedStatement.setFetchSize(Integer.MIN_VALUE);
+			for (int i = 0; i < parameterList.size(); i++) {
+				preparedStatement.setObject(i + 1, parameterList.get(i));
+			}
+			return preparedStatement;
+		}, (ResultSet resultSet) -> {
+			rowConsumer.accept(toOrderExportRow(resultSet));
+		});
+	}
+
+	// OrderRepositoryCustomImpl 의 betweenDate 와 같은 조건
+	private String betweenDate(final OrderSearchConditions orderSearchConditions, final List<Object> parameterList) {
+		if (orderSearchConditions.startDate() == null && orderSearchConditions.endDate() == null) {
+			return "";
+		}
+		if (orderSearchConditions.startDate() == null) {
+			parameterList.add(Timestamp.valueOf(orderSearchConditions.endDate()));
+			return "where o.created_at < ?";
+		}
+		if (orderSearchConditions.endDate() == null) {
+			parameterList.add(Timestamp.valueOf(orderSearchConditions.startDate()));
+			return "where o.created_at > ?";
+		}
+		parameterList.add(Timestamp.valueOf(orderSearchConditions.startDate()));
+		parameterList.add(Timestamp.valueOf(orderSearchConditions.endDate()));
+		return "where o.created_at between ? and ?";
+	}
+
+	private OrderExportRow toOrderExportRow(final ResultSet resultSet) throws SQLException {
+		return new OrderExportRow(
+			resultSet.getLong(1),
+			resultSet.getLong(2),
+			OrderStatus.valueOf(resultSet.getString(3).trim()),
+			resultSet.getLong(4),
+			resultSet.getTimestamp(5).toLocalDateTime(),
+			resultSet.getLong(6),
+			resultSet.getLong(7),
+			resultSet.getInt(8),
+			resultSet.getLong(9));
+	}
+}
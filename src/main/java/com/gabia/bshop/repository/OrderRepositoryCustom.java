@@ -1,13 +1,42 @@
 package com.gabia.bshop.repository;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.gabia.bshop.dto.OrderCursor;
+import com.gabia.bshop.dto.OrderItemArchiveDto;
+import com.gabia.bshop.dto.OrderItemSummaryDto;
+import com.gabia.bshop.dto.OrderStatusDto;
+import com.gabia.bshop.dto.OrderSummaryDto;
 import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
-import com.gabia.bshop.entity.Order;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
 
 public interface OrderRepositoryCustom {
 
-	Page<Order> findAllBySearchConditions(Pageable pageable, OrderSearchConditions orderSearchConditions,
-		Long memberId);
+	Page<OrderSummaryDto> findOrderSummaryBySearchConditions(Pageable pageable,
+		OrderSearchConditions orderSearchConditions, Long memberId);
+
+	List<OrderSummaryDto> findOrderSummaryBySearchConditionsAfterCursor(OrderSearchConditions orderSearchConditions,
+		Long memberId, OrderCursor orderCursor, int limit);
+
+	long countBySearchConditions(OrderSearchConditions orderSearchConditions, Long memberId);
+
+	List<OrderItemSummaryDto> findOrderItemSummaryByOrderIdIn(List<Long> orderIdList);
+
+	/**
+	 * 보관 기능이 꺼져 있으면 비어 있다. memberId 가 null 이면 회원을 가리지 않는다.
+	 */
+	Optional<OrderSummaryDto> findArchivedOrderSummary(Long orderId, Long memberId);
+
+	List<OrderItemArchiveDto> findArchivedOrderItemList(Long orderId);
+
+	List<Long> findOrderIdListToUpdateStatus(OrderSearchConditions orderSearchConditions, OrderStatus currentStatus,
+		OrderStatus status, Long lastOrderId, int limit);
+
+	List<OrderStatusDto> findOrderStatusByIdInWithLock(List<Long> orderIdList);
+
+	long updateStatusByIdIn(List<Long> orderIdList, OrderStatus status);
 }
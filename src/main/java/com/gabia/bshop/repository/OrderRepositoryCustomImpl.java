@@ -1,56 +1,341 @@
 package com.gabia.bshop.repository;
 
+import static com.gabia.bshop.entity.QItem.*;
+import static com.gabia.bshop.entity.QItemOption.*;
 import static com.gabia.bshop.entity.QOrder.*;
+import static com.gabia.bshop.entity.QOrderArchive.*;
+import static com.gabia.bshop.entity.QOrderItem.*;
+import static com.gabia.bshop.entity.QOrderItemArchive.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderCursor;
+import com.gabia.bshop.dto.OrderItemArchiveDto;
+import com.gabia.bshop.dto.OrderItemSummaryDto;
+import com.gabia.bshop.dto.OrderStatusDto;
+import com.gabia.bshop.dto.OrderSummaryDto;
 import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
-import com.gabia.bshop.entity.Order;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+import com.gabia.bshop.util.PageCountSupport;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 보관 기능을 켜면 orders 에서 가장 오래된 주문의 생성 시각을 경계로, 그보다 오래된 주문은 orders_archive 에 있다.
+ * 날짜 조건이 경계의 한쪽에만 걸치면 그쪽 테이블만 조회하고, 경계를 걸치면 두 테이블을 이어서 조회한다.
+ * 단건 조회는 orders 에 없을 때만 orders_archive 를 본다.
+ */
 @RequiredArgsConstructor
 public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
 
+	private static final ConstructorExpression<OrderSummaryDto> ORDER_SUMMARY = Projections.constructor(
+		OrderSummaryDto.class, order.id, order.status, order.totalPrice, order.createdAt);
+
+	private static final ConstructorExpression<OrderSummaryDto> ORDER_ARCHIVE_SUMMARY = Projections.constructor(
+		OrderSummaryDto.class, orderArchive.id, orderArchive.status, orderArchive.totalPrice, orderArchive.createdAt);
+
+	// orders 의 가장 오래된 생성 시각은 보관 작업이 돌 때만 뒤로 밀리므로 이 시간 동안 재사용한다
+	private static final Duration ARCHIVE_BOUNDARY_TTL = Duration.ofMinutes(10);
+
 	private final JPAQueryFactory jpaQueryFactory;
+	private final PageCountSupport pageCountSupport;
+	private final OrderProperties orderProperties;
+	private final AtomicReference<ArchiveBoundary> archiveBoundaryCache = new AtomicReference<>();
 
 	@Override
-	public Page<Order> findAllBySearchConditions(final Pageable pageable,
-		final OrderSearchConditions orderSearchConditions,
-		final Long memberId) {
-		final List<Order> contents = jpaQueryFactory.select(order)
+	public Page<OrderSummaryDto> findOrderSummaryBySearchConditions(final Pageable pageable,
+		final OrderSearchConditions orderSearchConditions, final Long memberId) {
+		final OrderStorage orderStorage = findOrderStorage(orderSearchConditions);
+		final List<OrderSummaryDto> contents = new ArrayList<>();
+
+		// id 순서로 보면 보관된 주문이 항상 앞에 온다
+		// 보관된 주문은 보관 작업이 돌 때만 바뀌므로 목록에 설정한 개수 방식을 그대로 따른다
+		final long archiveCount = orderStorage.archive()
+			? pageCountSupport.getCount(getListName(memberId), "archive",
+			getCountConditions(orderSearchConditions, memberId),
+			() -> fetchCount(orderArchiveCountQuery(orderSearchConditions, memberId)))
+			: 0;
+		if (pageable.getOffset() < archiveCount) {
+			contents.addAll(jpaQueryFactory.select(ORDER_ARCHIVE_SUMMARY)
+				.from(orderArchive)
+				.where(betweenDate(orderArchive.createdAt, orderSearchConditions), eqArchiveMemberId(memberId))
+				.orderBy(orderArchive.id.asc())
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize())
+				.fetch());
+		}
+		if (orderStorage.live() && contents.size() < pageable.getPageSize()) {
+			contents.addAll(jpaQueryFactory.select(ORDER_SUMMARY)
+				.from(order)
+				.where(betweenDate(order.createdAt, orderSearchConditions), eqMemberId(memberId))
+				.orderBy(order.id.asc())
+				.offset(Math.max(pageable.getOffset() - archiveCount, 0))
+				.limit(pageable.getPageSize() - contents.size())
+				.fetch());
+		}
+
+		final JPAQuery<Long> countQuery = orderCountQuery(orderSearchConditions, memberId);
+		final LongSupplier totalCount = () -> archiveCount + (orderStorage.live() ? fetchCount(countQuery) : 0);
+
+		final boolean estimable = memberId == null && orderStorage.isLiveOnly() && !hasDate(orderSearchConditions);
+		return pageCountSupport.getPage(contents, pageable, getListName(memberId),
+			getCountConditions(orderSearchConditions, memberId), estimable ? "orders" : null, totalCount::getAsLong);
+	}
+
+	@Override
+	public List<OrderSummaryDto> findOrderSummaryBySearchConditionsAfterCursor(
+		final OrderSearchConditions orderSearchConditions, final Long memberId, final OrderCursor orderCursor,
+		final int limit) {
+		final OrderStorage orderStorage = findOrderStorage(orderSearchConditions);
+		final List<OrderSummaryDto> contents = new ArrayList<>();
+
+		// 최신순이므로 orders 를 먼저 읽고, 모자라면 보관된 주문으로 이어서 채운다
+		if (orderStorage.live()) {
+			contents.addAll(jpaQueryFactory.select(ORDER_SUMMARY)
+				.from(order)
+				.where(betweenDate(order.createdAt, orderSearchConditions), eqMemberId(memberId),
+					afterCursor(order.createdAt, order.id, orderCursor))
+				.orderBy(order.createdAt.desc(), order.id.desc())
+				.limit(limit)
+				.fetch());
+		}
+		if (orderStorage.archive() && contents.size() < limit) {
+			contents.addAll(jpaQueryFactory.select(ORDER_ARCHIVE_SUMMARY)
+				.from(orderArchive)
+				.where(betweenDate(orderArchive.createdAt, orderSearchConditions), eqArchiveMemberId(memberId),
+					afterCursor(orderArchive.createdAt, orderArchive.id, orderCursor))
+				.orderBy(orderArchive.createdAt.desc(), orderArchive.id.desc())
+				.limit(limit - contents.size())
+				.fetch());
+		}
+		return contents;
+	}
+
+	@Override
+	public long countBySearchConditions(final OrderSearchConditions orderSearchConditions, final Long memberId) {
+		final OrderStorage orderStorage = findOrderStorage(orderSearchConditions);
+		final String listName = getListName(memberId);
+		final Object countConditions = getCountConditions(orderSearchConditions, memberId);
+		long count = 0;
+		if (orderStorage.live()) {
+			count += pageCountSupport.getCount(listName, "live", countConditions,
+				() -> fetchCount(orderCountQuery(orderSearchConditions, memberId)));
+		}
+		if (orderStorage.archive()) {
+			count += pageCountSupport.getCount(listName, "archive", countConditions,
+				() -> fetchCount(orderArchiveCountQuery(orderSearchConditions, memberId)));
+		}
+		return count;
+	}
+
+	// page-count.modes 에 설정하는 목록 이름
+	private String getListName(final Long memberId) {
+		return memberId == null ? "admin-orders" : "orders";
+	}
+
+	private Object getCountConditions(final OrderSearchConditions orderSearchConditions, final Long memberId) {
+		return memberId == null ? orderSearchConditions : List.of(memberId, orderSearchConditions);
+	}
+
+	@Override
+	public List<OrderItemSummaryDto> findOrderItemSummaryByOrderIdIn(final List<Long> orderIdList) {
+		if (orderIdList.isEmpty()) {
+			return List.of();
+		}
+		final List<OrderItemSummaryDto> orderItemSummaryList = new ArrayList<>(
+			jpaQueryFactory.select(Projections.constructor(OrderItemSummaryDto.class,
+					orderItem.order.id, item.id, orderItem.option.id, orderItem.orderCount, item.name, item.thumbnail))
+				.from(orderItem)
+				.join(orderItem.item, item)
+				.where(orderItem.order.id.in(orderIdList))
+				.orderBy(orderItem.order.id.asc(), orderItem.id.asc())
+				.fetch());
+		if (!orderProperties.getArchive().isEnabled()) {
+			return orderItemSummaryList;
+		}
+
+		// orders 에서 찾지 못한 주문은 보관된 주문이다
+		final Set<Long> liveOrderIdSet = orderItemSummaryList.stream()
+			.map(OrderItemSummaryDto::orderId)
+			.collect(Collectors.toSet());
+		final List<Long> archivedOrderIdList = orderIdList.stream()
+			.filter(orderId -> !liveOrderIdSet.contains(orderId))
+			.toList();
+		if (!archivedOrderIdList.isEmpty()) {
+			orderItemSummaryList.addAll(jpaQueryFactory.select(Projections.constructor(OrderItemSummaryDto.class,
+					orderItemArchive.orderId, item.id, orderItemArchive.optionId, orderItemArchive.orderCount,
+					item.name, item.thumbnail))
+				.from(orderItemArchive)
+				.join(item).on(item.id.eq(orderItemArchive.itemId))
+				.where(orderItemArchive.orderId.in(archivedOrderIdList))
+				.orderBy(orderItemArchive.orderId.asc(), orderItemArchive.id.asc())
+				.fetch());
+		}
+		return orderItemSummaryList;
+	}
+
+	@Override
+	public Optional<OrderSummaryDto> findArchivedOrderSummary(final Long orderId, final Long memberId) {
+		if (!orderProperties.getArchive().isEnabled()) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(jpaQueryFactory.select(ORDER_ARCHIVE_SUMMARY)
+			.from(orderArchive)
+			.where(orderArchive.id.eq(orderId), eqArchiveMemberId(memberId))
+			.fetchOne());
+	}
+
+	@Override
+	public List<OrderItemArchiveDto> findArchivedOrderItemList(final Long orderId) {
+		return jpaQueryFactory.select(Projections.constructor(OrderItemArchiveDto.class,
+				orderItemArchive.id, item.id, itemOption.id, item.name, itemOption.description,
+				orderItemArchive.orderCount, orderItemArchive.price, item.thumbnail))
+			.from(orderItemArchive)
+			.join(item).on(item.id.eq(orderItemArchive.itemId))
+			.join(itemOption).on(itemOption.id.eq(orderItemArchive.optionId))
+			.where(orderItemArchive.orderId.eq(orderId))
+			.orderBy(orderItemArchive.id.asc())
+			.fetch();
+	}
+
+	@Override
+	public List<Long> findOrderIdListToUpdateStatus(final OrderSearchConditions orderSearchConditions,
+		final OrderStatus currentStatus, final OrderStatus status, final Long lastOrderId, final int limit) {
+		return jpaQueryFactory.select(order.id)
 			.from(order)
-			.where(betweenDate(orderSearchConditions), eqMemberId(memberId))
-			.offset(pageable.getOffset())
-			// .orderBy(order.id.desc())
-			.limit(pageable.getPageSize())
+			.where(betweenDate(order.createdAt, orderSearchConditions),
+				currentStatus == null ? order.status.ne(status) : order.status.eq(currentStatus),
+				lastOrderId == null ? null : order.id.gt(lastOrderId))
+			.orderBy(order.id.asc())
+			.limit(limit)
 			.fetch();
+	}
 
-		final JPAQuery<Long> countQuery = jpaQueryFactory.select(order.count())
+	@Override
+	public List<OrderStatusDto> findOrderStatusByIdInWithLock(final List<Long> orderIdList) {
+		return jpaQueryFactory.select(Projections.constructor(OrderStatusDto.class,
+				order.id, order.member.id, order.status))
 			.from(order)
-			.where(betweenDate(orderSearchConditions), eqMemberId(memberId));
+			.where(order.id.in(orderIdList))
+			.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+			.fetch();
+	}
 
-		return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+	/**
+	 * 엔티티를 읽지 않고 UPDATE 한 번으로 상태를 바꾼다. 벌크 연산이라 updated_at 도 직접 채운다.
+	 */
+	@Override
+	public long updateStatusByIdIn(final List<Long> orderIdList, final OrderStatus status) {
+		return jpaQueryFactory.update(order)
+			.set(order.status, status)
+			.set(order.updatedAt, LocalDateTime.now())
+			.where(order.id.in(orderIdList), order.status.ne(status))
+			.execute();
+	}
+
+	/**
+	 * 검색 기간이 orders 와 orders_archive 중 어느 쪽에 걸치는지 판단한다.
+	 * 보관 작업은 보관 기간(horizon)이 지난 주문만 옮기므로, 그 이후에 시작하는 기간은 경계를 읽지 않고 orders 만 본다.
+	 * orders 를 건너뛸지는 캐시한 경계로 판단한다. 캐시한 경계는 실제 경계보다 늦을 수 없으므로 orders 의 주문을 놓치지 않는다.
+	 */
+	private OrderStorage findOrderStorage(final OrderSearchConditions orderSearchConditions) {
+		if (!orderProperties.getArchive().isEnabled()) {
+			return OrderStorage.LIVE_ONLY;
+		}
+		final LocalDateTime startDate = orderSearchConditions.startDate();
+		final LocalDateTime endDate = orderSearchConditions.endDate();
+		final LocalDateTime now = LocalDateTime.now();
+		final boolean archive = startDate == null
+			|| startDate.isBefore(now.minus(orderProperties.getArchive().getHorizon()));
+		if (!archive) {
+			return OrderStorage.LIVE_ONLY;
+		}
+
+		final LocalDateTime archiveBoundary = findArchiveBoundary(now);
+		if (archiveBoundary == null) {
+			return new OrderStorage(false, true);
+		}
+		return new OrderStorage(endDate == null || !endDate.isBefore(archiveBoundary), true);
 	}
 
-	private BooleanExpression betweenDate(OrderSearchConditions orderSearchConditions) {
+	// orders 가 비어 있으면 곧 주문이 들어올 수 있으므로 캐시하지 않는다
+	private LocalDateTime findArchiveBoundary(final LocalDateTime now) {
+		final ArchiveBoundary cachedArchiveBoundary = archiveBoundaryCache.get();
+		if (cachedArchiveBoundary != null && now.isBefore(cachedArchiveBoundary.expiredAt())) {
+			return cachedArchiveBoundary.createdAt();
+		}
+		final LocalDateTime archiveBoundary = jpaQueryFactory.select(order.createdAt.min())
+			.from(order)
+			.fetchOne();
+		if (archiveBoundary != null) {
+			archiveBoundaryCache.set(new ArchiveBoundary(archiveBoundary, now.plus(ARCHIVE_BOUNDARY_TTL)));
+		}
+		return archiveBoundary;
+	}
+
+	private JPAQuery<Long> orderCountQuery(final OrderSearchConditions orderSearchConditions, final Long memberId) {
+		return jpaQueryFactory.select(order.count())
+			.from(order)
+			.where(betweenDate(order.createdAt, orderSearchConditions), eqMemberId(memberId));
+	}
+
+	private JPAQuery<Long> orderArchiveCountQuery(final OrderSearchConditions orderSearchConditions,
+		final Long memberId) {
+		return jpaQueryFactory.select(orderArchive.count())
+			.from(orderArchive)
+			.where(betweenDate(orderArchive.createdAt, orderSearchConditions), eqArchiveMemberId(memberId));
+	}
+
+	private long fetchCount(final JPAQuery<Long> countQuery) {
+		final Long count = countQuery.fetchOne();
+		return count == null ? 0 : count;
+	}
+
+	private BooleanExpression afterCursor(final DateTimePath<LocalDateTime> createdAt, final NumberPath<Long> id,
+		final OrderCursor orderCursor) {
+		if (orderCursor == null) {
+			return null;
+		}
+		return createdAt.lt(orderCursor.createdAt())
+			.or(createdAt.eq(orderCursor.createdAt()).and(id.lt(orderCursor.id())));
+	}
+
+	private boolean hasDate(final OrderSearchConditions orderSearchConditions) {
+		return orderSearchConditions.startDate() != null || orderSearchConditions.endDate() != null;
+	}
+
+	private BooleanExpression betweenDate(final DateTimePath<LocalDateTime> createdAt,
+		final OrderSearchConditions orderSearchConditions) {
 		if (orderSearchConditions.startDate() == null && orderSearchConditions.endDate() == null) {
 			return null;
 		}
 		if (orderSearchConditions.startDate() == null) {
-			return order.createdAt.before(orderSearchConditions.endDate());
+			return createdAt.before(orderSearchConditions.endDate());
 		}
 		if (orderSearchConditions.endDate() == null) {
-			return order.createdAt.after(orderSearchConditions.startDate());
+			return createdAt.after(orderSearchConditions.startDate());
 		}
-		return order.createdAt.between(orderSearchConditions.startDate(), orderSearchConditions.endDate());
+		return createdAt.between(orderSearchConditions.startDate(), orderSearchConditions.endDate());
 	}
 
 	private BooleanExpression eqMemberId(Long memberId) {
@@ -59,4 +344,28 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
 		}
 		return order.member.id.eq(memberId);
 	}
+
+	private BooleanExpression eqArchiveMemberId(Long memberId) {
+		if (memberId == null) {
+			return null;
+		}
+		return orderArchive.memberId.eq(memberId);
+	}
+
+	private record ArchiveBoundary(
+		LocalDateTime createdAt,
+		LocalDateTime expiredAt
+	) {
+	}
+
+	private record OrderStorage(
+		boolean live,
+		boolean archive
+	) {
+		private static final OrderStorage LIVE_ONLY = new OrderStorage(true, false);
+
+		private boolean isLiveOnly() {
+			return live && !archive;
+		}
+	}
 }
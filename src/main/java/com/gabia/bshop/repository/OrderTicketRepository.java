@@ -0,0 +1,40 @@
+package com.gabia.bshop.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.gabia.bshop.entity.OrderTicket;
+import com.gabia.bshop.entity.enumtype.OrderTicketStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OrderTicketRepository extends JpaRepository<OrderTicket, Long> {
+
+	Optional<OrderTicket> findByIdAndMemberId(Long orderTicketId, Long memberId);
+
+	// 일시적인 오류로 다음 시도가 미뤄진 티켓은 그 시각이 지나야 꺼낸다
+	@Query("""
+		select ot.id from OrderTicket ot
+		where ot.status = :status
+		and (ot.nextAttemptAt is null or ot.nextAttemptAt <= :now)
+		order by ot.id asc
+		""")
+	List<Long> findIdListByStatus(OrderTicketStatus status, LocalDateTime now, Pageable pageable);
+
+	// 다른 컨슈머가 처리 중인 티켓은 기다리지 않고 건너뛴다 (SKIP LOCKED)
+	@Query("""
+		select ot from OrderTicket ot
+		where ot.id = :orderTicketId
+		""")
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	Optional<OrderTicket> findByIdWithSkipLocked(Long orderTicketId);
+}
@@ -1 +1 @@
-package com.gabia.bshop.repository;import java.time.LocalDateTime;import java.util.List;import java.util.Optional;import org.springframework.data.jpa.repository.JpaRepository;import org.springframework.data.jpa.repository.Query;import com.gabia.bshop.entity.Reservation;public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationCustom {	Optional<Reservation> findByItemId(final Long itemId);	@Query("""		select r		from Reservation r		join fetch r.item		where r.item.openAt <= :now		"""	)	List<Reservation> findAllByItemOpenAtBefore(final LocalDateTime now);}
\ No newline at end of file
+package com.gabia.bshop.repository;import java.time.LocalDateTime;import java.util.List;import java.util.Optional;import org.springframework.data.jpa.repository.JpaRepository;import org.springframework.data.jpa.repository.Query;import com.gabia.bshop.entity.Reservation;public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationCustom {	Optional<Reservation> findByItemId(final Long itemId);	@Query("""		select r		from Reservation r		join fetch r.item		where r.item.openAt <= :now		"""	)	List<Reservation> findAllByItemOpenAtBefore(final LocalDateTime now);	@Query("""		select r		from Reservation r		join fetch r.item		where r.item.openAt > :from		and r.item.openAt <= :to		"""	)	List<Reservation> findAllByItemOpenAtBetween(final LocalDateTime from, final LocalDateTime to);}
\ No newline at end of file
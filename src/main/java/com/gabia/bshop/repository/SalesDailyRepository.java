@@ -0,0 +1,8 @@
+package com.gabia.bshop.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.gabia.bshop.entity.SalesDaily;
+
+public interface SalesDailyRepository extends JpaRepository<SalesDaily, Long>, SalesDailyRepositoryCustom {
+}
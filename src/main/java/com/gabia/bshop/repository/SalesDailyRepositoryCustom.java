@@ -0,0 +1,28 @@
+package com.gabia.bshop.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.gabia.bshop.dto.response.DailySalesResponse;
+import com.gabia.bshop.dto.response.SalesResponse;
+
+public interface SalesDailyRepositoryCustom {
+
+	/**
+	 * 주문의 판매 수량과 금액에 sign 을 곱해 주문일의 집계 행에 더한다.
+	 */
+	void increaseByOrderIdList(List<Long> orderIdList, int sign);
+
+	/**
+	 * 기간의 집계를 지우고 주문 이력(보관된 주문 포함)에서 다시 만든다. 만든 행 수를 돌려준다.
+	 */
+	int rebuild(LocalDate startDate, LocalDate endDate);
+
+	List<SalesResponse> findItemSalesList(LocalDate startDate, LocalDate endDate);
+
+	List<SalesResponse> findOptionSalesList(Long itemId, LocalDate startDate, LocalDate endDate);
+
+	List<SalesResponse> findCategorySalesList(LocalDate startDate, LocalDate endDate);
+
+	List<DailySalesResponse> findItemDailySalesList(Long itemId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,173 @@
+package com.gabia.bshop.repository;
+
+import static com.gabia.bshop.entity.QSalesDaily.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.gabia.bshop.dto.response.DailySalesResponse;
+import com.gabia.bshop.dto.response.SalesResponse;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class SalesDailyRepositoryCustomImpl implements SalesDailyRepositoryCustom {
+
+	private static final String INCREASE_QUERY = """
+		insert into sales_daily (sales_date, category_id, item_id, option_id, order_count, revenue)
+		select * from (
+			select date(o.created_at) as sales_date, i.category_id as category_id, oi.item_id as item_id,
+				oi.option_id as option_id, sum(oi.order_count) * :sign as quantity,
+				sum(oi.price * oi.order_count) * :sign as amount
+			from order_item oi
+			join orders o on o.id = oi.order_id
+			join item i on i.id = oi.item_id
+			where o.id in (:orderIdList)
+			group by date(o.created_at), i.category_id, oi.item_id, oi.option_id
+		) as s
+		on duplicate key update
+			order_count = sales_daily.order_count + s.quantity,
+			revenue = sales_daily.revenue + s.amount
+		""";
+
+	private static final String DELETE_QUERY =
+		"delete from sales_daily where sales_date between :startDate and :endDate";
+
+	// 아직 발행되지 않은 주문 이벤트의 판매 증감은 빼 둔다. 디스패처가 나중에 그 이벤트를 반영하면 스냅샷과 같아진다.
+	// 부호는 OrderChangedEvent.salesSign 과 같다.
+	private static final String REBUILD_QUERY = """
+		select s.sales_date, i.category_id, s.item_id, s.option_id, sum(s.quantity) as quantity,
+			sum(s.amount) as amount
+		from (
+			select date(o.created_at) as sales_date, oi.item_id as item_id, oi.option_id as option_id,
+				oi.order_count as quantity, oi.price * oi.order_count as amount
+			from order_item oi
+			join orders o on o.id = oi.order_id
+			where o.status <> 'CANCELLED' and o.created_at >= :startDateTime and o.created_at < :endDateTime
+			union all
+			select date(o.created_at), oi.item_id, oi.option_id, oi.order_count, oi.price * oi.order_count
+			from order_item_archive oi
+			join orders_archive o on o.id = oi.order_id
+			where o.status <> 'CANCELLED' and o.created_at >= :startDateTime and o.created_at < :endDateTime
+			union all
+			select date(o.created_at), oi.item_id, oi.option_id, -e.sales_sign * oi.order_count,
+				-e.sales_sign * oi.price * oi.order_count
+			from (
+				select oe.order_id,
+					case
+						when oe.event_type = 'CREATED' then 1
+						when oe.event_type = 'CANCELLED' then -1
+						when oe.order_status = 'CANCELLED' then -1
+						when oe.previous_order_status = 'CANCELLED' then 1
+						else 0
+					end as sales_sign
+				from order_event oe
+				where oe.status = 'PENDING'
+			) as e
+			join orders o on o.id = e.order_id
+			join order_item oi on oi.order_id = o.id
+			where e.sales_sign <> 0 and o.created_at >= :startDateTime and o.created_at < :endDateTime
+		) as s
+		join item i on i.id = s.item_id
+		group by s.sales_date, i.category_id, s.item_id, s.option_id
+		having sum(s.quantity) <> 0 or sum(s.amount) <> 0
+		""";
+
+	private static final String INSERT_QUERY = """
+		insert into sales_daily (sales_date, category_id, item_id, option_id, order_count, revenue)
+		values (:salesDate, :categoryId, :itemId, :optionId, :quantity, :amount)
+		""";
+
+	private final JPAQueryFactory jpaQueryFactory;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@Override
+	public void increaseByOrderIdList(final List<Long> orderIdList, final int sign) {
+		if (orderIdList.isEmpty()) {
+			return;
+		}
+		namedParameterJdbcTemplate.update(INCREASE_QUERY, new MapSqlParameterSource()
+			.addValue("orderIdList", orderIdList)
+			.addValue("sign", sign));
+	}
+
+	/**
+	 * 기간의 행을 먼저 지워서 그 날짜의 집계 행과 그 사이 간격을 잠근다. 재생성이 커밋될 때까지 디스패처는 이 날짜에 반영하지 못한다.
+	 * 주문과 발행 대기 이벤트는 INSERT ... SELECT 의 잠금 읽기가 아니라 한 번의 일반 SELECT 로 읽어서 같은 스냅샷을 본다.
+	 * 스냅샷 이전에 발행된 이벤트는 스냅샷에 포함되고, 대기 중인 이벤트는 빼 두었다가 발행될 때 더해지며,
+	 * 스냅샷 이후에 커밋된 주문 변경은 스냅샷에 없으므로 이벤트로만 반영된다.
+	 */
+	@Override
+	public int rebuild(final LocalDate startDate, final LocalDate endDate) {
+		namedParameterJdbcTemplate.update(DELETE_QUERY, new MapSqlParameterSource()
+			.addValue("startDate", startDate)
+			.addValue("endDate", endDate));
+		final List<MapSqlParameterSource> salesDailyList = namedParameterJdbcTemplate.query(REBUILD_QUERY,
+			new MapSqlParameterSource()
+				.addValue("startDateTime", startDate.atStartOfDay())
+				.addValue("endDateTime", endDate.plusDays(1).atStartOfDay()),
+			(rs, rowNum) -> new MapSqlParameterSource()
+				.addValue("salesDate", rs.getDate("sales_date"))
+				.addValue("categoryId", rs.getLong("category_id"))
+				.addValue("itemId", rs.getLong("item_id"))
+				.addValue("optionId", rs.getLong("option_id"))
+				.addValue("quantity", rs.getLong("quantity"))
+				.addValue("amount", rs.getLong("amount")));
+		if (salesDailyList.isEmpty()) {
+			return 0;
+		}
+		namedParameterJdbcTemplate.batchUpdate(INSERT_QUERY, salesDailyList.toArray(new MapSqlParameterSource[0]));
+		return salesDailyList.size();
+	}
+
+	@Override
+	public List<SalesResponse> findItemSalesList(final LocalDate startDate, final LocalDate endDate) {
+		return jpaQueryFactory.select(Projections.constructor(SalesResponse.class,
+				salesDaily.itemId, salesDaily.orderCount.sum(), salesDaily.revenue.sum()))
+			.from(salesDaily)
+			.where(salesDaily.salesDate.between(startDate, endDate))
+			.groupBy(salesDaily.itemId)
+			.orderBy(salesDaily.revenue.sum().desc(), salesDaily.itemId.asc())
+			.fetch();
+	}
+
+	@Override
+	public List<SalesResponse> findOptionSalesList(final Long itemId, final LocalDate startDate,
+		final LocalDate endDate) {
+		return jpaQueryFactory.select(Projections.constructor(SalesResponse.class,
+				salesDaily.optionId, salesDaily.orderCount.sum(), salesDaily.revenue.sum()))
+			.from(salesDaily)
+			.where(salesDaily.itemId.eq(itemId), salesDaily.salesDate.between(startDate, endDate))
+			.groupBy(salesDaily.optionId)
+			.orderBy(salesDaily.optionId.asc())
+			.fetch();
+	}
+
+	@Override
+	public List<SalesResponse> findCategorySalesList(final LocalDate startDate, final LocalDate endDate) {
+		return jpaQueryFactory.select(Projections.constructor(SalesResponse.class,
+				salesDaily.categoryId, salesDaily.orderCount.sum(), salesDaily.revenue.sum()))
+			.from(salesDaily)
+			.where(salesDaily.salesDate.between(startDate, endDate))
+			.groupBy(salesDaily.categoryId)
+			.orderBy(salesDaily.revenue.sum().desc(), salesDaily.categoryId.asc())
+			.fetch();
+	}
+
+	@Override
+	public List<DailySalesResponse> findItemDailySalesList(final Long itemId, final LocalDate startDate,
+		final LocalDate endDate) {
+		return jpaQueryFactory.select(Projections.constructor(DailySalesResponse.class,
+				salesDaily.salesDate, salesDaily.orderCount.sum(), salesDaily.revenue.sum()))
+			.from(salesDaily)
+			.where(salesDaily.itemId.eq(itemId), salesDaily.salesDate.between(startDate, endDate))
+			.groupBy(salesDaily.salesDate)
+			.orderBy(salesDaily.salesDate.asc())
+			.fetch();
+	}
+}
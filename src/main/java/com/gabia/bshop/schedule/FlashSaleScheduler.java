@@ -0,0 +1,63 @@
+package com.gabia.bshop.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.response.ItemReservationResponse;
+import com.gabia.bshop.service.FlashSaleService;
+import com.gabia.bshop.service.ItemFacade;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오픈이 임박한 예약 상품의 재고를 미리 올려 두고, 분 단위 스케줄러를 기다리지 않고 openAt 정각에 상품을 연다.
+ * 상품을 연 직후 상품 상세 캐시를 채워서 오픈 시각에 몰리는 조회가 DB로 가지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FlashSaleScheduler {
+
+	private final FlashSaleService flashSaleService;
+	private final ItemFacade itemFacade;
+	private final TaskScheduler taskScheduler;
+	private final OrderProperties orderProperties;
+
+	// 이미 오픈을 예약한 상품과 그 시각. openAt 이 바뀌면 다시 준비한다.
+	private final Map<Long, LocalDateTime> scheduledOpenAtMap = new ConcurrentHashMap<>();
+
+	@Scheduled(cron = "*/10 * * * * *") // 10초 마다 실행
+	@SchedulerLock(
+		name = "flashSalePrepareTask",
+		lockAtLeastFor = "5s",
+		lockAtMostFor = "PT1M")
+	public void prepareFlashSale() {
+		if (!orderProperties.getFlashSale().isEnabled()) {
+			return;
+		}
+
+		final LocalDateTime now = LocalDateTime.now();
+		scheduledOpenAtMap.values().removeIf(openAt -> openAt.isBefore(now));
+		for (final ItemReservationResponse itemReservationResponse : flashSaleService.findUpcomingReservationList(now)) {
+			final Long itemId = itemReservationResponse.itemId();
+			final LocalDateTime openAt = itemReservationResponse.openAt();
+			if (openAt.equals(scheduledOpenAtMap.put(itemId, openAt))) {
+				continue;
+			}
+
+			flashSaleService.prepareFlashSale(itemReservationResponse, now);
+			taskScheduler.schedule(() -> {
+				flashSaleService.openFlashSale(itemId, LocalDateTime.now());
+				itemFacade.warmUpItem(itemId);
+			}, openAt.atZone(ZoneId.systemDefault()).toInstant());
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.gabia.bshop.schedule;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.service.ItemSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 변경 메시지를 놓친 노드도 검색 색인이 DB와 맞도록 주기적으로 새로 만든다.
+ * 색인은 노드마다 메모리에 있으므로 ShedLock 없이 모든 노드에서 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndexScheduler {
+
+	private final ItemSearchService itemSearchService;
+
+	@Scheduled(cron = "${item-search.rebuild-cron:0 */10 * * * *}") // 기본값 10분 마다 실행
+	public void rebuildIndex() {
+		itemSearchService.buildIndex();
+	}
+}
@@ -0,0 +1,44 @@
+package com.gabia.bshop.schedule;
+
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.service.OrderArchiveService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveScheduler {
+
+	private final OrderArchiveService orderArchiveService;
+	private final OrderProperties orderProperties;
+
+	@Scheduled(cron = "${order.archive.cron:0 0 4 * * *}") // 기본값 매일 새벽 4시
+	@SchedulerLock(
+		name = "orderArchiveTask",
+		lockAtLeastFor = "10s",
+		lockAtMostFor = "PT1H")
+	public void archiveOrders() {
+		if (!orderProperties.getArchive().isEnabled()) {
+			return;
+		}
+
+		final LocalDateTime archiveBefore = orderArchiveService.getArchiveBefore(LocalDateTime.now());
+		final int chunkSize = orderProperties.getArchive().getChunkSize();
+		long archivedCount = 0;
+		int movedCount;
+		do {
+			movedCount = orderArchiveService.archiveOrderChunk(archiveBefore);
+			archivedCount += movedCount;
+		} while (movedCount == chunkSize);
+		log.info("주문 보관을 마쳤습니다. archiveBefore: {}, count: {}", archiveBefore, archivedCount);
+	}
+}
@@ -0,0 +1,40 @@
+package com.gabia.bshop.schedule;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.service.OrderEventService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 이벤트 아웃박스를 폴링해서 리스너로 발행한다. 장바구니 정리, 판매 집계 같은 후속 처리가
+ * 주문 요청 스레드 밖에서 실행되므로 POST /orders 의 응답 시간에 더해지지 않는다.
+ * 여러 노드가 함께 폴링해도 이벤트 행을 SKIP LOCKED 로 잡기 때문에 ShedLock 은 걸지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderEventDispatcher {
+
+	private final OrderEventService orderEventService;
+	private final OrderProperties orderProperties;
+
+	@Scheduled(fixedDelayString = "${order.event.poll-delay-millis:500}")
+	public void dispatch() {
+		final OrderProperties.Event event = orderProperties.getEvent();
+		if (!event.isEnabled()) {
+			return;
+		}
+		for (final Long orderEventId : orderEventService.findPendingOrderEventIdList(event.getBatchSize())) {
+			try {
+				orderEventService.publishOrderEvent(orderEventId);
+			} catch (RuntimeException e) {
+				log.warn("주문 이벤트 발행에 실패했습니다. orderEventId: {}", orderEventId, e);
+				orderEventService.failOrderEvent(orderEventId);
+			}
+		}
+	}
+}
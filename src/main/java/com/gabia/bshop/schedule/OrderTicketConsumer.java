@@ -0,0 +1,99 @@
+package com.gabia.bshop.schedule;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.request.OrderCreateRequest;
+import com.gabia.bshop.exception.ApplicationException;
+import com.gabia.bshop.service.OrderTicketService;
+import com.gabia.bshop.service.StockGateService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대기 중인 주문 티켓을 접수 순서대로 꺼내 고정 크기 스레드 풀에서 주문을 만든다.
+ * 주문 생성의 DB 동시성은 톰캣 스레드 수가 아니라 consumer-count 로 제한된다.
+ * 여러 노드가 함께 폴링해도 티켓 행을 SKIP LOCKED 로 잡기 때문에 ShedLock 은 걸지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderTicketConsumer {
+
+	private final OrderTicketService orderTicketService;
+	private final StockGateService stockGateService;
+	private final OrderProperties orderProperties;
+
+	// 이 노드에서 이미 스레드 풀에 넘긴 티켓
+	private final Set<Long> inFlightOrderTicketIdSet = ConcurrentHashMap.newKeySet();
+	private ThreadPoolTaskExecutor executor;
+
+	@PostConstruct
+	public void start() {
+		final OrderProperties.Ticket ticket = orderProperties.getTicket();
+		if (!ticket.isEnabled()) {
+			return;
+		}
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(ticket.getConsumerCount());
+		executor.setMaxPoolSize(ticket.getConsumerCount());
+		executor.setQueueCapacity(ticket.getQueueCapacity());
+		executor.setThreadNamePrefix("order-ticket-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${order.ticket.poll-delay-millis:200}")
+	public void poll() {
+		if (executor == null) {
+			return;
+		}
+		for (final Long orderTicketId : orderTicketService.findWaitingOrderTicketIdList(
+			orderProperties.getTicket().getFetchSize())) {
+			if (!inFlightOrderTicketIdSet.add(orderTicketId)) {
+				continue;
+			}
+			try {
+				executor.execute(() -> consume(orderTicketId));
+			} catch (TaskRejectedException e) {
+				// 컨슈머가 밀려 있으면 남은 티켓은 다음 폴링에서 가져간다
+				inFlightOrderTicketIdSet.remove(orderTicketId);
+				return;
+			}
+		}
+	}
+
+	void consume(final Long orderTicketId) {
+		try {
+			orderTicketService.completeOrderTicket(orderTicketId);
+		} catch (ApplicationException e) {
+			orderTicketService.failOrderTicket(orderTicketId, e.getMessage())
+				.map(OrderCreateRequest::orderItemDtoList)
+				.ifPresent(stockGateService::releaseCancelled);
+		} catch (RuntimeException e) {
+			// 락 타임아웃 같은 일시적인 오류는 backoff 뒤에 다시 시도하고, max-attempt-count 에 이르면 실패 처리한다
+			log.warn("주문 티켓 처리에 실패했습니다. orderTicketId: {}", orderTicketId, e);
+			orderTicketService.retryOrderTicket(orderTicketId)
+				.map(OrderCreateRequest::orderItemDtoList)
+				.ifPresent(stockGateService::releaseCancelled);
+		} finally {
+			inFlightOrderTicketIdSet.remove(orderTicketId);
+		}
+	}
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +12,7 @@ import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
 import com.gabia.bshop.entity.Reservation;
 import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.event.ItemChangedEvent;
 import com.gabia.bshop.repository.ReservationRepository;
 
 import jakarta.transaction.Transactional;
@@ -20,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReservationUpdateScheduler {
 	private final ReservationRepository reservationRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Scheduled(cron = "0 * * * * *") // 1분 마다 실행
 	@SchedulerLock(
@@ -41,5 +44,8 @@ public class ReservationUpdateScheduler {
 		}
 		reservationRepository.updateAllItemStatusAndDeleteReservation(removeReservationIdList, updateItemIdList,
 			ItemStatus.PUBLIC);
+		if (!updateItemIdList.isEmpty()) {
+			applicationEventPublisher.publishEvent(new ItemChangedEvent(updateItemIdList));
+		}
 	}
 }
@@ -0,0 +1,39 @@
+package com.gabia.bshop.schedule;
+
+import java.time.LocalDate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import com.gabia.bshop.config.SalesRollupProperties;
+import com.gabia.bshop.dto.searchConditions.SalesSearchConditions;
+import com.gabia.bshop.service.SalesRollupService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근 rebuild-days 일의 판매 집계를 주문 이력에서 다시 만든다. 반영에 실패해서 빠진 증분이나 지난 날짜의 주문 정정도 맞춰진다.
+ * 하루씩 따로 트랜잭션을 열어서 집계 행을 오래 잠그지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesRollupScheduler {
+
+	private final SalesRollupService salesRollupService;
+	private final SalesRollupProperties salesRollupProperties;
+
+	@Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분
+	@SchedulerLock(
+		name = "salesRollupRebuildTask",
+		lockAtLeastFor = "10s",
+		lockAtMostFor = "PT30M")
+	public void rebuildRecentDays() {
+		final LocalDate today = LocalDate.now();
+		for (int days = salesRollupProperties.getRebuildDays(); days >= 1; days--) {
+			final LocalDate salesDate = today.minusDays(days);
+			salesRollupService.rebuild(new SalesSearchConditions(salesDate, salesDate));
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.gabia.bshop.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.config.ItemCacheProperties;
+import com.gabia.bshop.dto.CartItemDisplay;
+import com.gabia.bshop.dto.OrderItemAble;
+import com.gabia.bshop.util.ExpiringLruCache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장바구니 화면에 보여 줄 상품 옵션 정보를 (상품, 옵션) 단위로 노드 메모리에 보관한다.
+ * 상품 캐시와 같은 무효화 경로로 상품이 바뀌면 그 상품의 옵션을 모두 무효로 만든다.
+ * 무효화는 캐시 전체를 훑지 않고 상품별 무효화 시점만 기록하며, 그보다 먼저 읽은 옵션은 조회할 때 버린다.
+ */
+@RequiredArgsConstructor
+@Component
+public class CartItemDisplayCache {
+
+	private static final String DELIMITER = "-";
+
+	private final ItemCacheProperties itemCacheProperties;
+
+	// 무효화할 때마다 늘어나는 번호. 옵션은 DB를 읽기 전의 번호와 함께 저장한다
+	private final AtomicLong evictionCount = new AtomicLong();
+	// 상품별 마지막 무효화 번호. 상품 수만큼만 늘어난다
+	private final Map<Long, Long> itemEvictionCountMap = new ConcurrentHashMap<>();
+	private ExpiringLruCache<String, CachedCartItemDisplay> cartItemDisplayCache;
+
+	@PostConstruct
+	public void init() {
+		cartItemDisplayCache = new ExpiringLruCache<>(itemCacheProperties.getCartLocalMaxSize(),
+			itemCacheProperties.getLocalTtl().toMillis());
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * 캐시에 있는 옵션만 itemOptionId 를 키로 돌려준다.
+	 */
+	public <T extends OrderItemAble> Map<Long, CartItemDisplay> findAll(final List<T> orderItemAbleList) {
+		final Map<Long, CartItemDisplay> cartItemDisplayMap = new HashMap<>(orderItemAbleList.size());
+		if (!itemCacheProperties.isEnabled()) {
+			return cartItemDisplayMap;
+		}
+		for (final T orderItemAble : orderItemAbleList) {
+			final CachedCartItemDisplay cachedCartItemDisplay = cartItemDisplayCache.get(getKey(orderItemAble));
+			if (cachedCartItemDisplay != null && isValid(orderItemAble.itemId(), cachedCartItemDisplay)) {
+				final CartItemDisplay cartItemDisplay = cachedCartItemDisplay.cartItemDisplay();
+				cartItemDisplayMap.put(cartItemDisplay.itemOptionId(), cartItemDisplay);
+			}
+		}
+		return cartItemDisplayMap;
+	}
+
+	/**
+	 * DB를 읽는 사이에 무효화된 상품의 옵션도 저장되지만, 읽기 전의 번호와 함께 저장되므로 조회할 때 버려진다.
+	 */
+	public void saveAll(final List<CartItemDisplay> cartItemDisplayList, final long readEvictionCount) {
+		if (!itemCacheProperties.isEnabled()) {
+			return;
+		}
+		cartItemDisplayList.forEach(cartItemDisplay ->
+			cartItemDisplayCache.put(getKey(cartItemDisplay.itemId(), cartItemDisplay.itemOptionId()),
+				new CachedCartItemDisplay(cartItemDisplay, readEvictionCount)));
+	}
+
+	public void evictItem(final Long itemId) {
+		itemEvictionCountMap.put(itemId, evictionCount.incrementAndGet());
+	}
+
+	private boolean isValid(final Long itemId, final CachedCartItemDisplay cachedCartItemDisplay) {
+		return cachedCartItemDisplay.readEvictionCount() >= itemEvictionCountMap.getOrDefault(itemId, 0L);
+	}
+
+	private String getKey(final OrderItemAble orderItemAble) {
+		return getKey(orderItemAble.itemId(), orderItemAble.itemOptionId());
+	}
+
+	private String getKey(final Long itemId, final Long itemOptionId) {
+		return itemId + DELIMITER + itemOptionId;
+	}
+
+	private record CachedCartItemDisplay(
+		CartItemDisplay cartItemDisplay,
+		long readEvictionCount
+	) {
+	}
+}
@@ -2,16 +2,25 @@ package com.gabia.bshop.service;
 
 import static com.gabia.bshop.exception.ErrorCode.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.CartItemDisplay;
 import com.gabia.bshop.dto.OrderItemAble;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.response.CartCheckoutLineResult;
 import com.gabia.bshop.dto.response.CartResponse;
 import com.gabia.bshop.entity.ItemOption;
+import com.gabia.bshop.entity.enumtype.ItemStatus;
 import com.gabia.bshop.exception.NotFoundException;
 import com.gabia.bshop.mapper.CartMapper;
 import com.gabia.bshop.repository.CartRepository;
@@ -19,6 +28,10 @@ import com.gabia.bshop.repository.ItemOptionRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 장바구니는 Redis 에만 저장한다. 쓰기 트랜잭션 안에서는 Redis 명령이 커밋 시점까지 미뤄지므로
+ * 장바구니 쓰기도 읽기 전용 트랜잭션에서 실행해서 요청마다 바로 한 번에 처리되게 한다.
+ */
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Service
@@ -26,22 +39,96 @@ public class CartService {
 
 	private final CartRepository cartRepository;
 	private final ItemOptionRepository itemOptionRepository;
+	private final CartItemDisplayCache cartItemDisplayCache;
 
+	/**
+	 * 상품 이름, 가격, 썸네일처럼 잘 바뀌지 않는 정보는 캐시에서 읽고, 재고만 조인 없이 한 번에 읽는다.
+	 * 캐시에 없는 옵션만 상품과 카테고리를 조인해서 읽고 그때 읽은 재고를 그대로 쓴다.
+	 * 삭제된 옵션은 결과에서 빠진다.
+	 */
 	public List<CartResponse> findCartList(final Long memberId) {
 		final List<CartDto> cartDtoList = cartRepository.findAllByMemberId(memberId);
 		if (cartDtoList.isEmpty()) {
 			return Collections.emptyList();
 		}
-		final List<ItemOption> itemOptionList = itemOptionRepository.findAllByItemIdsAndItemOptionIds(cartDtoList);
-		return CartMapper.INSTANCE.itemOptionListAndCartDtoToCartResponse(itemOptionList, cartDtoList);
+
+		final Map<Long, CartItemDisplay> cartItemDisplayMap = cartItemDisplayCache.findAll(cartDtoList);
+		final List<CartDto> cachedCartDtoList = new ArrayList<>(cartDtoList.size());
+		final List<CartDto> missedCartDtoList = new ArrayList<>(cartDtoList.size());
+		cartDtoList.forEach(cartDto -> (cartItemDisplayMap.containsKey(cartDto.itemOptionId())
+			? cachedCartDtoList : missedCartDtoList).add(cartDto));
+
+		final Map<Long, Integer> stockQuantityMap = new HashMap<>(cartDtoList.size());
+		if (!cachedCartDtoList.isEmpty()) {
+			stockQuantityMap.putAll(
+				itemOptionRepository.findStockQuantityMapByItemIdsAndItemOptionIds(cachedCartDtoList));
+		}
+		if (!missedCartDtoList.isEmpty()) {
+			final long evictionCount = cartItemDisplayCache.getEvictionCount();
+			final List<CartItemDisplay> loadedCartItemDisplayList = new ArrayList<>(missedCartDtoList.size());
+			for (final ItemOption itemOption : itemOptionRepository.findAllByItemIdsAndItemOptionIds(
+				missedCartDtoList)) {
+				final CartItemDisplay cartItemDisplay = CartMapper.INSTANCE.itemOptionToCartItemDisplay(itemOption);
+				loadedCartItemDisplayList.add(cartItemDisplay);
+				cartItemDisplayMap.put(itemOption.getId(), cartItemDisplay);
+				stockQuantityMap.put(itemOption.getId(), itemOption.getStockQuantity());
+			}
+			cartItemDisplayCache.saveAll(loadedCartItemDisplayList, evictionCount);
+		}
+
+		final List<CartResponse> cartResponseList = new ArrayList<>(cartDtoList.size());
+		for (final CartDto cartDto : cartDtoList) {
+			final CartItemDisplay cartItemDisplay = cartItemDisplayMap.get(cartDto.itemOptionId());
+			final Integer stockQuantity = stockQuantityMap.get(cartDto.itemOptionId());
+			if (cartItemDisplay != null && stockQuantity != null) {
+				cartResponseList.add(CartMapper.INSTANCE.cartItemDisplayToCartResponse(cartItemDisplay,
+					cartDto.orderCount(), stockQuantity));
+			}
+		}
+		return cartResponseList;
+	}
+
+	public List<CartDto> findCartDtoList(final Long memberId) {
+		return cartRepository.findAllByMemberId(memberId);
+	}
+
+	/**
+	 * 장바구니 상품을 주문할 수 있는지 줄마다 확인한다. 주문할 수 있는 줄은 ORDERED 로 표시한다.
+	 * 같은 옵션은 장바구니에 한 줄만 있으므로 줄 단위로 재고를 비교한다.
+	 */
+	public List<CartCheckoutLineResult> checkCartCheckoutLineList(final List<CartDto> cartDtoList) {
+		final Map<Long, ItemOption> itemOptionMap = itemOptionRepository.findAllByItemIdsAndItemOptionIds(cartDtoList)
+			.stream()
+			.collect(Collectors.toMap(ItemOption::getId, Function.identity()));
+		return cartDtoList.stream()
+			.map(cartDto -> CartCheckoutLineResult.of(cartDto,
+				checkCartCheckoutLine(cartDto, itemOptionMap.get(cartDto.itemOptionId()))))
+			.toList();
+	}
+
+	private CartCheckoutLineResult.Result checkCartCheckoutLine(final CartDto cartDto, final ItemOption itemOption) {
+		if (itemOption == null || itemOption.getItem().isDeleted()) {
+			return CartCheckoutLineResult.Result.ITEM_OPTION_NOT_FOUND;
+		}
+		if (itemOption.getItem().getItemStatus() != ItemStatus.PUBLIC) {
+			return CartCheckoutLineResult.Result.ITEM_NOT_PUBLIC;
+		}
+		if (itemOption.getStockQuantity() < cartDto.orderCount()) {
+			return CartCheckoutLineResult.Result.OUT_OF_STOCK;
+		}
+		return CartCheckoutLineResult.Result.ORDERED;
 	}
 
-	@Transactional
 	public CartDto createCart(final Long memberId, final CartDto cartDto) {
 		checkItemAndItemOption(cartDto);
 		return cartRepository.save(memberId, cartDto);
 	}
 
+	public List<CartDto> createCartList(final Long memberId, final List<CartDto> cartDtoList) {
+		checkItemAndItemOptionList(cartDtoList);
+		return cartRepository.saveAll(memberId, cartDtoList);
+	}
+
 	private void checkItemAndItemOption(final CartDto cartDto) {
 		if (!itemOptionRepository.existsByItem_IdAndIdAndStockQuantityIsGreaterThanEqual(cartDto.itemId(),
 			cartDto.itemOptionId(), cartDto.orderCount())) {
@@ -49,12 +136,32 @@ public class CartService {
 		}
 	}
 
-	@Transactional
+	/**
+	 * 담으려는 옵션들을 쿼리 한 번으로 읽어 존재 여부와 재고를 확인한다.
+	 */
+	private void checkItemAndItemOptionList(final List<CartDto> cartDtoList) {
+		final Map<Long, Integer> stockQuantityMap = itemOptionRepository.findAllByItemIdsAndItemOptionIds(cartDtoList)
+			.stream()
+			.collect(Collectors.toMap(ItemOption::getId, ItemOption::getStockQuantity));
+		for (final CartDto cartDto : cartDtoList) {
+			final Integer stockQuantity = stockQuantityMap.get(cartDto.itemOptionId());
+			if (stockQuantity == null || stockQuantity < cartDto.orderCount()) {
+				throw new NotFoundException(ITEM_OPTION_NOT_FOUND_EXCEPTION, cartDto.itemId(), cartDto.itemOptionId());
+			}
+		}
+	}
+
 	public void deleteCart(final Long memberId, final CartDto cartDto) {
 		cartRepository.delete(memberId, cartDto);
 	}
 
-	@Transactional
+	/**
+	 * 주문한 줄을 장바구니에서 지운다. 장바구니 수량이 주문 수량과 다르면 남겨 둔다.
+	 */
+	public void deleteOrderedCartList(final Long memberId, final List<OrderItemDto> orderItemDtoList) {
+		cartRepository.deleteAllIfOrderCountEquals(memberId, orderItemDtoList);
+	}
+
 	public <T extends OrderItemAble> void deleteCartList(final Long memberId, final List<T> orderItemAbleList) {
 		cartRepository.deleteAll(memberId, orderItemAbleList);
 	}
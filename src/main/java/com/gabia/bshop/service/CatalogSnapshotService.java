@@ -0,0 +1,88 @@
+package com.gabia.bshop.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.gabia.bshop.dto.CatalogSnapshot;
+import com.gabia.bshop.repository.CatalogVersionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 페이지마다 조회하는 카테고리 이름과 상품 연도 목록을 노드마다 메모리에 스냅샷으로 둔다.
+ * 카테고리나 상품이 바뀌면 Redis 의 카탈로그 버전을 올리고 모든 노드에 알려 스냅샷을 다시 만든다.
+ * 버전을 먼저 읽고 DB를 읽으므로, 스냅샷의 내용은 항상 그 버전 이후의 데이터다.
+ * 변경 메시지를 놓쳐도 지난 스냅샷을 계속 쓰지 않도록, 조회할 때 일정 간격마다 Redis 의 버전과 비교한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CatalogSnapshotService {
+
+	private final CategoryService categoryService;
+	private final ItemService itemService;
+	private final CatalogVersionRepository catalogVersionRepository;
+
+	// 변경 메시지를 놓쳤을 때 지난 스냅샷을 쓰는 최대 시간
+	private static final long VERSION_CHECK_INTERVAL_MILLIS = 5_000L;
+
+	private final AtomicReference<CatalogSnapshot> catalogSnapshot = new AtomicReference<>();
+	private final AtomicLong versionCheckedAt = new AtomicLong();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			// 첫 조회에서 다시 만든다
+			log.warn("카탈로그 스냅샷을 만들지 못했습니다.", e);
+		}
+	}
+
+	public CatalogSnapshot getCatalogSnapshot() {
+		final CatalogSnapshot savedCatalogSnapshot = catalogSnapshot.get();
+		if (savedCatalogSnapshot == null) {
+			return refresh();
+		}
+
+		// 간격마다 한 요청만 버전을 확인하고 나머지는 가진 스냅샷을 바로 돌려준다
+		final long now = System.currentTimeMillis();
+		final long checkedAt = versionCheckedAt.get();
+		if (now - checkedAt < VERSION_CHECK_INTERVAL_MILLIS || !versionCheckedAt.compareAndSet(checkedAt, now)) {
+			return savedCatalogSnapshot;
+		}
+		try {
+			return refresh();
+		} catch (RuntimeException e) {
+			log.warn("카탈로그 버전을 확인하지 못했습니다.", e);
+			return savedCatalogSnapshot;
+		}
+	}
+
+	/**
+	 * 현재 버전으로 이미 만든 스냅샷이 있으면 DB를 읽지 않는다.
+	 */
+	public CatalogSnapshot refresh() {
+		versionCheckedAt.set(System.currentTimeMillis());
+		final long version = catalogVersionRepository.findVersion();
+		final CatalogSnapshot savedCatalogSnapshot = catalogSnapshot.get();
+		if (savedCatalogSnapshot != null && savedCatalogSnapshot.version() == version) {
+			return savedCatalogSnapshot;
+		}
+
+		final CatalogSnapshot newCatalogSnapshot = new CatalogSnapshot(version, categoryService.findCategoryNames(),
+			itemService.findItemYears());
+		// 늦게 끝난 이전 버전의 갱신이 새 스냅샷을 덮어쓰지 않게 한다
+		return catalogSnapshot.accumulateAndGet(newCatalogSnapshot,
+			(current, created) -> current != null && current.version() > created.version() ? current : created);
+	}
+
+	public void invalidate() {
+		catalogVersionRepository.increaseVersion();
+	}
+}
@@ -4,6 +4,7 @@ import static com.gabia.bshop.exception.ErrorCode.*;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,8 @@ import com.gabia.bshop.dto.request.CategoryUpdateRequest;
 import com.gabia.bshop.dto.response.CategoryAllInfoResponse;
 import com.gabia.bshop.entity.Category;
 import com.gabia.bshop.entity.Item;
+import com.gabia.bshop.event.CatalogChangedEvent;
+import com.gabia.bshop.event.ItemChangedEvent;
 import com.gabia.bshop.exception.ConflictException;
 import com.gabia.bshop.exception.NotFoundException;
 import com.gabia.bshop.mapper.CategoryMapper;
@@ -30,6 +33,7 @@ public class CategoryService {
 
 	private final CategoryRepository categoryRepository;
 	private final ItemRepository itemRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	public CategoryDto findCategory(final Long categoryId) {
 		final Category category = findCategoryById(categoryId);
@@ -57,7 +61,9 @@ public class CategoryService {
 	public CategoryDto createCategory(final CategoryCreateRequest categoryCreateRequest) {
 		existCategoryByName(categoryCreateRequest.name());
 		Category category = CategoryMapper.INSTANCE.CategoryRequestToEntity(categoryCreateRequest);
-		return CategoryMapper.INSTANCE.categoryToDto(categoryRepository.save(category));
+		final Category savedCategory = categoryRepository.save(category);
+		applicationEventPublisher.publishEvent(CatalogChangedEvent.INSTANCE);
+		return CategoryMapper.INSTANCE.categoryToDto(savedCategory);
 	}
 
 	@Transactional
@@ -65,6 +71,12 @@ public class CategoryService {
 		existCategoryByName(categoryUpdateRequest.name());
 		final Category category = findCategoryById(categoryUpdateRequest.id());
 		category.update(categoryUpdateRequest);
+		applicationEventPublisher.publishEvent(CatalogChangedEvent.INSTANCE);
+		// 상품 상세와 상품 목록에 담긴 카테고리 이름도 바꾼다
+		final List<Long> itemIdList = itemRepository.findItemIdListByCategoryId(category.getId());
+		if (!itemIdList.isEmpty()) {
+			applicationEventPublisher.publishEvent(new ItemChangedEvent(itemIdList));
+		}
 		return CategoryMapper.INSTANCE.categoryToDto(category);
 	}
 
@@ -74,6 +86,7 @@ public class CategoryService {
 		validateDeleteCategoryById(categoryId);
 
 		categoryRepository.delete(category);
+		applicationEventPublisher.publishEvent(CatalogChangedEvent.INSTANCE);
 	}
 
 	public List<String> findCategoryNames() {
@@ -0,0 +1,95 @@
+package com.gabia.bshop.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.response.ItemReservationResponse;
+import com.gabia.bshop.entity.Item;
+import com.gabia.bshop.entity.ItemOption;
+import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.event.ItemChangedEvent;
+import com.gabia.bshop.mapper.ItemReservationMapper;
+import com.gabia.bshop.repository.FlashSaleRepository;
+import com.gabia.bshop.repository.ItemOptionRepository;
+import com.gabia.bshop.repository.ItemOptionStockRepository;
+import com.gabia.bshop.repository.ReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 상품의 오픈을 플래시 세일로 처리한다.
+ * 오픈 직전에 옵션 재고를 Redis 카운터로 올려 두고, 오픈 이후 일정 시간 동안은
+ * 재고 게이트 설정과 관계없이 이 상품의 주문을 카운터로 먼저 걸러 품절을 DB 없이 판단한다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class FlashSaleService {
+
+	private final ReservationRepository reservationRepository;
+	private final ItemOptionRepository itemOptionRepository;
+	private final ItemOptionStockRepository itemOptionStockRepository;
+	private final FlashSaleRepository flashSaleRepository;
+	private final OrderProperties orderProperties;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	public List<ItemReservationResponse> findUpcomingReservationList(final LocalDateTime now) {
+		return reservationRepository.findAllByItemOpenAtBetween(now,
+				now.plus(orderProperties.getFlashSale().getPrepareLead())).stream()
+			.filter(reservation -> reservation.getItem().getItemStatus() == ItemStatus.RESERVED)
+			.map(ItemReservationMapper.INSTANCE::reservationToResponse)
+			.toList();
+	}
+
+	/**
+	 * 아직 주문을 받지 않는 상품이므로 DB 재고를 그대로 카운터에 덮어쓴다.
+	 * 카운터는 플래시 세일 표시와 함께 만료되므로, 게이트를 거치지 않은 주문이 남은 카운터를 바꾸지 않는다.
+	 */
+	public void prepareFlashSale(final ItemReservationResponse itemReservationResponse, final LocalDateTime now) {
+		final Long itemId = itemReservationResponse.itemId();
+		final Duration expiredTime = Duration.between(now, itemReservationResponse.openAt())
+			.plus(orderProperties.getFlashSale().getActiveDuration());
+		for (final ItemOption itemOption : itemOptionRepository.findAllByItemId(itemId)) {
+			itemOptionStockRepository.save(itemOption.getId(), itemOption.getStockQuantity(), expiredTime);
+		}
+		flashSaleRepository.save(itemId, expiredTime);
+	}
+
+	/**
+	 * 예약 시각이 지났고 아직 예약 상태인 경우에만 상품을 공개한다.
+	 * 다른 노드나 ReservationUpdateScheduler 가 먼저 열었거나 openAt 이 바뀌었으면 아무것도 하지 않는다.
+	 */
+	@Transactional
+	public void openFlashSale(final Long itemId, final LocalDateTime now) {
+		reservationRepository.findByItemId(itemId)
+			.filter(reservation -> {
+				final Item item = reservation.getItem();
+				return item.getItemStatus() == ItemStatus.RESERVED && !item.getOpenAt().isAfter(now);
+			})
+			.ifPresent(reservation -> {
+				reservationRepository.updateAllItemStatusAndDeleteReservation(
+					List.of(reservation.getId()), List.of(itemId), ItemStatus.PUBLIC);
+				applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
+			});
+	}
+
+	/**
+	 * 주문에 들어 있는 상품 중 플래시 세일 중인 상품만 남은 시간과 함께 돌려준다.
+	 */
+	public Map<Long, Duration> findFlashSaleRemainingTimeMap(final List<OrderItemDto> orderItemDtoList) {
+		if (!orderProperties.getFlashSale().isEnabled()) {
+			return Map.of();
+		}
+		return flashSaleRepository.findRemainingTimeMap(orderItemDtoList.stream()
+			.map(OrderItemDto::itemId)
+			.toList());
+	}
+}
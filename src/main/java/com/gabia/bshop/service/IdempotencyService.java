@@ -0,0 +1,103 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import com.gabia.bshop.config.IdempotencyProperties;
+import com.gabia.bshop.dto.IdempotencyRecord;
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.exception.ConflictException;
+import com.gabia.bshop.repository.IdempotencyRepository;
+import com.gabia.bshop.util.RedisValueSupport;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Idempotency-Key 헤더로 재시도된 요청을 한 번만 처리한다.
+ * 처음 들어온 요청이 처리 중 표시를 선점하고, 같은 키의 재시도는 그 결과를 기다렸다가 저장된 응답을 그대로 돌려받는다.
+ * 성공한 응답만 저장하므로 실패한 요청은 같은 키로 다시 시도할 수 있다.
+ * 처리 중 표시는 대기 시간의 몇 배 정도로 짧게 유지해서, 처리하던 노드가 죽어 표시를 지우지 못해도 그 뒤의 재시도가 처리된다.
+ * 응답을 저장할 때 처리가 끝난 응답의 보관 시간으로 덮어쓴다.
+ * Redis 명령이 바로 실행되어야 하므로 쓰기 트랜잭션 밖에서 호출해야 한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class IdempotencyService {
+
+	private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+	private final IdempotencyRepository idempotencyRepository;
+	private final RedisValueSupport redisValueSupport;
+	private final IdempotencyProperties idempotencyProperties;
+
+	public <T> T execute(final Long memberId, final String scope, final String idempotencyKey,
+		final Object request, final Class<T> responseType, final Supplier<T> action) {
+		if (idempotencyKey == null) {
+			return action.get();
+		}
+		validateIdempotencyKey(idempotencyKey);
+
+		final String key = scope + ":memberId-" + memberId + ":" + idempotencyKey;
+		final String requestHash = DigestUtils.md5DigestAsHex(
+			redisValueSupport.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+		final long deadline = System.currentTimeMillis() + idempotencyProperties.getWaitTimeout();
+
+		while (true) {
+			if (idempotencyRepository.saveIfAbsent(key, new IdempotencyRecord(requestHash, null),
+				idempotencyProperties.getProcessingExpiredTime())) {
+				return executeFirst(key, requestHash, action);
+			}
+
+			final Optional<IdempotencyRecord> savedRecord = idempotencyRepository.findByKey(key);
+			if (savedRecord.isPresent()) {
+				final IdempotencyRecord idempotencyRecord = savedRecord.get();
+				if (!idempotencyRecord.requestHash().equals(requestHash)) {
+					throw new ConflictException(IDEMPOTENCY_KEY_REUSED_EXCEPTION, idempotencyKey);
+				}
+				if (!idempotencyRecord.isProcessing()) {
+					return redisValueSupport.readValue(idempotencyRecord.response(), responseType);
+				}
+			}
+			// 처리 중이면 기다리고, 먼저 온 요청이 실패했거나 표시가 만료되어 지워졌으면 다시 선점을 시도한다
+			if (System.currentTimeMillis() >= deadline) {
+				throw new ConflictException(IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION, idempotencyKey);
+			}
+			sleep(idempotencyProperties.getPollInterval(), idempotencyKey);
+		}
+	}
+
+	private <T> T executeFirst(final String key, final String requestHash, final Supplier<T> action) {
+		final T response;
+		try {
+			response = action.get();
+		} catch (RuntimeException e) {
+			idempotencyRepository.delete(key);
+			throw e;
+		}
+		final String savedResponse = redisValueSupport.writeValueAsString(response);
+		idempotencyRepository.save(key, new IdempotencyRecord(requestHash, savedResponse),
+			idempotencyProperties.getExpiredTime());
+		return response;
+	}
+
+	private void validateIdempotencyKey(final String idempotencyKey) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+			throw new BadRequestException(INVALID_IDEMPOTENCY_KEY_EXCEPTION, MAX_IDEMPOTENCY_KEY_LENGTH);
+		}
+	}
+
+	private void sleep(final long millis, final String idempotencyKey) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ConflictException(IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION, idempotencyKey);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.gabia.bshop.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.gabia.bshop.config.ItemCacheProperties;
+import com.gabia.bshop.dto.ItemCacheEntry;
+import com.gabia.bshop.dto.ItemOptionDto;
+import com.gabia.bshop.dto.response.ItemResponse;
+import com.gabia.bshop.exception.NotFoundException;
+import com.gabia.bshop.repository.ItemCacheRepository;
+import com.gabia.bshop.util.ExpiringLruCache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 상세를 로컬 캐시, Redis 공유 캐시, DB 순서로 읽는다.
+ * 상품이 바뀌면 커밋 뒤에 Redis 캐시를 지우고 모든 노드에 알려 로컬 캐시도 지운다.
+ * 재고는 주문마다 바뀌므로 캐시된 값을 쓰지 않고 매번 DB 재고로 덮어쓴다.
+ * 상품 목록 읽기 모델을 다시 만들 때도 여기서 chunk 마다 트랜잭션을 나눈다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ItemFacade {
+
+	private final ItemService itemService;
+	private final ItemOptionService itemOptionService;
+	private final ItemListingService itemListingService;
+	private final ItemCacheRepository itemCacheRepository;
+	private final ItemCacheProperties itemCacheProperties;
+
+	// DB를 읽는 사이에 무효화된 상품을 로컬 캐시에 넣지 않기 위한 무효화 횟수
+	private final AtomicLong localEvictionCount = new AtomicLong();
+	private ExpiringLruCache<Long, ItemResponse> localItemCache;
+
+	@PostConstruct
+	public void init() {
+		localItemCache = new ExpiringLruCache<>(itemCacheProperties.getLocalMaxSize(),
+			itemCacheProperties.getLocalTtl().toMillis());
+	}
+
+	public ItemResponse findItem(final Long itemId) {
+		if (!itemCacheProperties.isEnabled()) {
+			return itemService.findItem(itemId);
+		}
+
+		ItemResponse itemResponse = localItemCache.get(itemId);
+		if (itemResponse == null) {
+			final long evictionCount = localEvictionCount.get();
+			itemResponse = findSharedItem(itemId);
+			if (evictionCount == localEvictionCount.get()) {
+				localItemCache.put(itemId, itemResponse);
+			}
+		}
+		return overlayStockQuantity(itemResponse);
+	}
+
+	/**
+	 * 플래시 세일 오픈 직후 몰리는 조회가 DB로 가지 않도록 캐시를 미리 채운다.
+	 */
+	public void warmUpItem(final Long itemId) {
+		try {
+			findItem(itemId);
+		} catch (NotFoundException e) {
+			// 공개되지 않은 상품은 캐시하지 않는다
+		}
+	}
+
+	/**
+	 * 상품 목록 읽기 모델을 chunk 단위 트랜잭션으로 모두 다시 만든다.
+	 */
+	public void rebuildItemListing() {
+		Long lastItemId = null;
+		do {
+			lastItemId = itemListingService.rebuildItemListingChunk(lastItemId);
+		} while (lastItemId != null);
+	}
+
+	/**
+	 * 읽기 모델을 처음 배포했을 때처럼 비어 있으면 애플리케이션이 뜰 때 채운다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initItemListing() {
+		if (itemListingService.isEmpty()) {
+			rebuildItemListing();
+		}
+	}
+
+	public void evictItem(final Long itemId) {
+		evictLocalItem(itemId);
+		itemCacheRepository.evict(itemId, itemCacheProperties.getRedisTtl());
+	}
+
+	public void evictLocalItem(final Long itemId) {
+		localEvictionCount.incrementAndGet();
+		localItemCache.remove(itemId);
+	}
+
+	private ItemResponse findSharedItem(final Long itemId) {
+		final ItemCacheEntry itemCacheEntry = itemCacheRepository.findByItemId(itemId);
+		if (itemCacheEntry.isHit()) {
+			return itemCacheEntry.itemResponse();
+		}
+
+		final ItemResponse itemResponse = itemService.findItem(itemId);
+		itemCacheRepository.save(itemId, new ItemCacheEntry(itemCacheEntry.generation(), itemResponse),
+			itemCacheProperties.getRedisTtl());
+		return itemResponse;
+	}
+
+	private ItemResponse overlayStockQuantity(final ItemResponse itemResponse) {
+		if (itemResponse.itemOptionDtoList() == null) {
+			return itemResponse;
+		}
+		final Map<Long, Integer> stockQuantityMap = itemOptionService.findStockQuantityMap(itemResponse.itemId());
+		final List<ItemOptionDto> itemOptionDtoList = itemResponse.itemOptionDtoList().stream()
+			.map(itemOptionDto -> ItemOptionDto.builder()
+				.id(itemOptionDto.id())
+				.description(itemOptionDto.description())
+				.optionPrice(itemOptionDto.optionPrice())
+				.stockQuantity(stockQuantityMap.getOrDefault(itemOptionDto.id(), itemOptionDto.stockQuantity()))
+				.build())
+			.toList();
+
+		return ItemResponse.builder()
+			.itemId(itemResponse.itemId())
+			.itemOptionDtoList(itemOptionDtoList)
+			.itemImageDtoList(itemResponse.itemImageDtoList())
+			.categoryDto(itemResponse.categoryDto())
+			.name(itemResponse.name())
+			.description(itemResponse.description())
+			.basePrice(itemResponse.basePrice())
+			.thumbnail(itemResponse.thumbnail())
+			.itemStatus(itemResponse.itemStatus())
+			.year(itemResponse.year())
+			.openAt(itemResponse.openAt())
+			.build();
+	}
+}
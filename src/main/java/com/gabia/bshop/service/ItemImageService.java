@@ -5,6 +5,7 @@ import static com.gabia.bshop.exception.ErrorCode.*;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import com.gabia.bshop.dto.response.ItemImageResponse;
 import com.gabia.bshop.dto.response.ItemResponse;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.ItemImage;
+import com.gabia.bshop.event.ItemChangedEvent;
 import com.gabia.bshop.exception.ConflictException;
 import com.gabia.bshop.exception.NotFoundException;
 import com.gabia.bshop.mapper.ItemImageMapper;
@@ -34,6 +36,7 @@ public class ItemImageService {
 	private final ItemRepository itemRepository;
 	private final ItemImageRepository itemImageRepository;
 	private final ImageValidator imageValidator;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	public ItemImageResponse findItemImage(final Long itemId, final Long imageId) {
 		final ItemImage itemImage = findItemImageByImageIdAndItemId(imageId, itemId);
@@ -62,6 +65,7 @@ public class ItemImageService {
 			itemImageList.add(ItemImage.builder().item(item).imageName(imageName).build());
 		}
 		itemImageList = itemImageRepository.saveAll(itemImageList);
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 		return itemImageList.stream().map(ItemImageMapper.INSTANCE::itemImageToItemImageResponse).toList();
 	}
 
@@ -71,6 +75,7 @@ public class ItemImageService {
 
 		imageValidator.validate(itemImage.getImageName());
 		itemImage.updateImageName(itemImage.getImageName());
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 
 		return ItemImageMapper.INSTANCE.itemImageToItemImageResponse(itemImage);
 	}
@@ -83,6 +88,7 @@ public class ItemImageService {
 
 		imageValidator.validate(itemImage.getImageName());
 		item.updateThumbnail(itemImage.getImageName());
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 
 		return ItemMapper.INSTANCE.itemToItemResponse(item);
 	}
@@ -91,6 +97,7 @@ public class ItemImageService {
 	public void deleteItemImage(final Long itemId, final Long imageId) {
 		final ItemImage itemImage = findItemImageByImageIdAndItemId(imageId, itemId);
 		itemImageRepository.delete(itemImage);
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 	}
 
 	private ItemImage findItemImageByImageIdAndItemId(final Long imageId, final Long itemId) {
@@ -0,0 +1,65 @@
+package com.gabia.bshop.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gabia.bshop.dto.ItemListingSourceDto;
+import com.gabia.bshop.entity.ItemListing;
+import com.gabia.bshop.repository.ItemListingRepository;
+import com.gabia.bshop.repository.ItemRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 목록 읽기 모델(item_listing)을 원본 테이블에서 다시 만든다.
+ * 상품 변경 트랜잭션의 커밋 직전에 호출되므로 읽기 모델과 원본이 함께 커밋되거나 함께 롤백된다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class ItemListingService {
+
+	private static final int REBUILD_CHUNK_SIZE = 500;
+
+	private final ItemListingRepository itemListingRepository;
+	private final ItemRepository itemRepository;
+
+	@Transactional
+	public void refreshItemListing(final List<Long> itemIdList) {
+		if (itemIdList.isEmpty()) {
+			return;
+		}
+		final Map<Long, ItemListing> itemListingMap = itemListingRepository.findAllById(itemIdList)
+			.stream()
+			.collect(Collectors.toMap(ItemListing::getItemId, Function.identity()));
+
+		for (final ItemListingSourceDto itemListingSourceDto : itemRepository.findItemListingSourceList(itemIdList)) {
+			final ItemListing itemListing = itemListingMap.get(itemListingSourceDto.itemId());
+			if (itemListing == null) {
+				itemListingRepository.save(ItemListing.from(itemListingSourceDto));
+			} else {
+				itemListing.update(itemListingSourceDto);
+			}
+		}
+	}
+
+	/**
+	 * 읽기 모델이 어긋났을 때 lastItemId 다음 상품부터 chunk 하나를 다시 만든다.
+	 * @return 마지막으로 다시 만든 상품 ID. 더 만들 상품이 없으면 null
+	 */
+	@Transactional
+	public Long rebuildItemListingChunk(final Long lastItemId) {
+		final List<Long> itemIdList = itemRepository.findItemIdListAfter(lastItemId, REBUILD_CHUNK_SIZE);
+		refreshItemListing(itemIdList);
+		return itemIdList.size() < REBUILD_CHUNK_SIZE ? null : itemIdList.get(itemIdList.size() - 1);
+	}
+
+	public boolean isEmpty() {
+		return itemListingRepository.count() == 0;
+	}
+}
@@ -3,7 +3,9 @@ package com.gabia.bshop.service;
 import static com.gabia.bshop.exception.ErrorCode.*;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +13,8 @@ import com.gabia.bshop.dto.request.ItemOptionRequest;
 import com.gabia.bshop.dto.response.ItemOptionResponse;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.ItemOption;
+import com.gabia.bshop.event.ItemChangedEvent;
+import com.gabia.bshop.event.ItemOptionStockChangedEvent;
 import com.gabia.bshop.exception.ConflictException;
 import com.gabia.bshop.exception.NotFoundException;
 import com.gabia.bshop.mapper.ItemOptionMapper;
@@ -27,6 +31,7 @@ public class ItemOptionService {
 	private static final int MAX_ITEM_OPTION_COUNT = 100;
 	private final ItemRepository itemRepository;
 	private final ItemOptionRepository itemOptionRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	public ItemOptionResponse findItemOption(final Long itemId, final Long optionId) {
 		final ItemOption itemOption = findItemOptionByItemIdAndOptionId(itemId, optionId);
@@ -42,6 +47,10 @@ public class ItemOptionService {
 		return itemOptionList.stream().map(ItemOptionMapper.INSTANCE::itemOptionToResponse).toList();
 	}
 
+	public Map<Long, Integer> findStockQuantityMap(final Long itemId) {
+		return itemOptionRepository.findStockQuantityMapByItemId(itemId);
+	}
+
 	@Transactional
 	public ItemOptionResponse createItemOption(final Long itemId, final ItemOptionRequest itemOptionRequest) {
 		Item item = itemRepository.findById(itemId).orElseThrow(
@@ -55,6 +64,7 @@ public class ItemOptionService {
 		final ItemOption itemOption = ItemOptionMapper.INSTANCE.itemOptionRequestToEntity(itemOptionRequest);
 
 		itemOption.update(item);
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 
 		return ItemOptionMapper.INSTANCE.itemOptionToResponse(itemOptionRepository.save(itemOption));
 	}
@@ -73,6 +83,8 @@ public class ItemOptionService {
 		final ItemOption itemOption = findItemOptionByItemIdAndOptionIdWithLock(itemId, optionId);
 
 		itemOption.update(itemOptionRequest);
+		applicationEventPublisher.publishEvent(new ItemOptionStockChangedEvent(itemOption.getId()));
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 
 		return ItemOptionMapper.INSTANCE.itemOptionToResponse(itemOption);
 	}
@@ -81,6 +93,8 @@ public class ItemOptionService {
 	public void deleteItemOption(final Long itemId, final Long optionId) {
 		final ItemOption itemOption = findItemOptionByItemIdAndOptionId(itemId, optionId);
 		itemOptionRepository.delete(itemOption);
+		applicationEventPublisher.publishEvent(new ItemOptionStockChangedEvent(itemOption.getId()));
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 	}
 
 	private ItemOption findItemOptionByItemIdAndOptionId(final Long itemId, final Long itemOptionId) {
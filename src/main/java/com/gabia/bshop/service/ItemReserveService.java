@@ -4,6 +4,7 @@ import static com.gabia.bshop.exception.ErrorCode.*;
 
 import java.time.LocalDateTime;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +13,7 @@ import com.gabia.bshop.dto.response.ItemReservationResponse;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.Reservation;
 import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.event.ItemChangedEvent;
 import com.gabia.bshop.exception.ConflictException;
 import com.gabia.bshop.exception.NotFoundException;
 import com.gabia.bshop.mapper.ItemReservationMapper;
@@ -27,6 +29,7 @@ public class ItemReserveService {
 
 	private final ReservationRepository reservationRepository;
 	private final ItemRepository itemRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	public ItemReservationResponse findItemReservation(final Long itemId) {
 		return ItemReservationMapper.INSTANCE.reservationToResponse(findReservationByItemId(itemId));
@@ -43,6 +46,7 @@ public class ItemReserveService {
 		item.setOpenAt(openAt);
 
 		item.setItemStatus(ItemStatus.RESERVED);
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 
 		final Reservation reservation = Reservation.builder().item(item).build();
 		return ItemReservationMapper.INSTANCE.reservationToResponse(reservationRepository.save(reservation));
@@ -57,6 +61,7 @@ public class ItemReserveService {
 
 		reservationTimeValid(openAt);
 		reservation.getItem().setOpenAt(openAt);
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(itemId));
 
 		return ItemReservationMapper.INSTANCE.reservationToResponse(reservation);
 	}
@@ -0,0 +1,74 @@
+package com.gabia.bshop.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.gabia.bshop.dto.ItemSearchDocument;
+import com.gabia.bshop.repository.ItemRepository;
+import com.gabia.bshop.util.NgramIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 이름의 n-gram 색인을 노드마다 메모리에 두고, 상품명 검색을 LIKE '%term%' 대신 색인으로 푼다.
+ * 색인도 이름에 검색어를 포함하는 상품만 찾으므로 LIKE 검색으로 넘어가도 결과 상품은 같고, 설명은 순위에만 쓴다.
+ * 애플리케이션이 뜰 때 삭제되지 않은 상품으로 색인을 만들고, 상품이 바뀌면 해당 상품만 다시 읽어 색인을 고친다.
+ * 변경한 노드는 커밋 직후에 바로 고치고, 다른 노드는 상품 변경 메시지로 고친다.
+ * 메시지를 놓친 노드도 주기적으로 색인을 새로 만들어 맞춘다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ItemSearchService {
+
+	// 후보를 자른 뒤에 DB 조건을 적용하면 필터에 맞는 상품이 빠지므로 이보다 많이 맞는 검색어는 색인을 쓰지 않는다
+	private static final int MAX_CANDIDATE_COUNT = 1000;
+
+	private final ItemRepository itemRepository;
+
+	private volatile NgramIndex ngramIndex = new NgramIndex();
+	private volatile boolean ready;
+
+	/**
+	 * 새 색인을 만든 뒤 한 번에 바꿔 끼우므로, 다시 만드는 동안에도 이전 색인으로 검색한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildIndex() {
+		final List<ItemSearchDocument> itemSearchDocumentList = itemRepository.findItemSearchDocumentList();
+		final NgramIndex newNgramIndex = new NgramIndex();
+		itemSearchDocumentList.forEach(itemSearchDocument -> put(newNgramIndex, itemSearchDocument));
+		ngramIndex = newNgramIndex;
+		ready = true;
+		log.info("상품 검색 색인을 만들었습니다. size: {}", itemSearchDocumentList.size());
+	}
+
+	/**
+	 * @return 관련도 순으로 정렬한 상품 ID. 색인이 아직 준비되지 않았거나 후보가 너무 많으면 empty 이고,
+	 * 이때는 DB의 LIKE 검색으로 모든 조건을 함께 적용한다
+	 */
+	public Optional<List<Long>> searchItemIdList(final String itemName) {
+		if (!ready) {
+			return Optional.empty();
+		}
+		final List<Long> itemIdList = ngramIndex.search(itemName, MAX_CANDIDATE_COUNT + 1);
+		if (itemIdList.size() > MAX_CANDIDATE_COUNT) {
+			return Optional.empty();
+		}
+		return Optional.of(itemIdList);
+	}
+
+	public void refreshItem(final Long itemId) {
+		itemRepository.findItemSearchDocument(itemId)
+			.ifPresentOrElse(itemSearchDocument -> put(ngramIndex, itemSearchDocument),
+				() -> ngramIndex.remove(itemId));
+	}
+
+	private void put(final NgramIndex ngramIndex, final ItemSearchDocument itemSearchDocument) {
+		ngramIndex.put(itemSearchDocument.id(), itemSearchDocument.name(), itemSearchDocument.description());
+	}
+}
@@ -3,29 +3,49 @@ package com.gabia.bshop.service;
 import static com.gabia.bshop.exception.ErrorCode.*;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.gabia.bshop.config.ImageDefaultProperties;
+import com.gabia.bshop.dto.CategoryDto;
+import com.gabia.bshop.dto.ItemCursor;
+import com.gabia.bshop.dto.ItemFacetCountDto;
 import com.gabia.bshop.dto.ItemImageDto;
+import com.gabia.bshop.dto.request.CursorPageRequest;
 import com.gabia.bshop.dto.request.ItemCreateRequest;
+import com.gabia.bshop.dto.request.ItemSortKey;
 import com.gabia.bshop.dto.request.ItemUpdateRequest;
+import com.gabia.bshop.dto.response.CategoryFacetResponse;
+import com.gabia.bshop.dto.response.CursorPageResponse;
 import com.gabia.bshop.dto.response.ItemAllInfoResponse;
+import com.gabia.bshop.dto.response.ItemFacetSearchResponse;
 import com.gabia.bshop.dto.response.ItemPageResponse;
 import com.gabia.bshop.dto.response.ItemResponse;
+import com.gabia.bshop.dto.response.YearFacetResponse;
 import com.gabia.bshop.dto.searchConditions.ItemSearchConditions;
 import com.gabia.bshop.entity.Category;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.ItemImage;
 import com.gabia.bshop.entity.ItemOption;
 import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.event.CatalogChangedEvent;
+import com.gabia.bshop.event.ItemChangedEvent;
 import com.gabia.bshop.exception.NotFoundException;
 import com.gabia.bshop.mapper.ItemMapper;
 import com.gabia.bshop.repository.CategoryRepository;
+import com.gabia.bshop.repository.ItemListingRepository;
 import com.gabia.bshop.repository.ItemRepository;
 import com.gabia.bshop.util.ImageValidator;
 
@@ -37,9 +57,12 @@ import lombok.RequiredArgsConstructor;
 public class ItemService {
 
 	private final ItemRepository itemRepository;
+	private final ItemListingRepository itemListingRepository;
 	private final CategoryRepository categoryRepository;
 	private final ImageValidator imageValidator;
 	private final ImageDefaultProperties imageDefaultProperties;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ItemSearchService itemSearchService;
 
 	/**
 	 * 상품 조회
@@ -57,12 +80,64 @@ public class ItemService {
 	/**
 	 * 상품 목록 조회
 	 * 비활성, Private 상태의 아이템?
-	 *
+	 * 상품명 검색은 검색 색인이 준비되어 있으면 색인의 관련도 순으로 정렬한다.
+	 * 상품 목록 읽기 모델(item_listing)에서만 읽는다.
 	 **/
 	public Page<ItemPageResponse> findItemListByItemSearchConditions(final Pageable pageable,
 		final ItemSearchConditions itemSearchConditions) {
-		return itemRepository.findItemListByItemSearchConditions(pageable, itemSearchConditions)
-			.map(ItemMapper.INSTANCE::itemToItemPageResponse);
+		return searchItemIdList(itemSearchConditions)
+			.map(itemIdList -> itemListingRepository.findItemListingListByRankedItemIdList(pageable,
+				itemSearchConditions, itemIdList))
+			.orElseGet(() -> itemListingRepository.findItemListingListByItemSearchConditions(pageable,
+				itemSearchConditions))
+			.map(ItemMapper.INSTANCE::itemListingToItemPageResponse);
+	}
+
+	/**
+	 * (정렬 값, id) 기준 커서 페이지네이션. 상품명은 검색 색인으로 후보를 고른 뒤 선택한 정렬로 나눈다.
+	 */
+	public CursorPageResponse<ItemPageResponse> findItemCursorList(final ItemSearchConditions itemSearchConditions,
+		final ItemSortKey sortKey, final Sort.Direction direction, final CursorPageRequest cursorPageRequest) {
+		final Optional<List<Long>> itemIdList = searchItemIdList(itemSearchConditions);
+		if (itemIdList.filter(List::isEmpty).isPresent()) {
+			return new CursorPageResponse<>(List.of(), null, false, cursorPageRequest.isCountRequired() ? 0L : null);
+		}
+		return findItemCursorList(itemSearchConditions, itemIdList.orElse(null), false, sortKey, direction,
+			cursorPageRequest, ItemMapper.INSTANCE::itemToItemPageResponse);
+	}
+
+	public CursorPageResponse<ItemAllInfoResponse> findItemCursorListWithDeleted(
+		final ItemSearchConditions itemSearchConditions, final ItemSortKey sortKey, final Sort.Direction direction,
+		final CursorPageRequest cursorPageRequest) {
+		return findItemCursorList(itemSearchConditions, null, true, sortKey, direction, cursorPageRequest,
+			ItemMapper.INSTANCE::itemToItemAllInfoResponse);
+	}
+
+	/**
+	 * 검색 필터 사이드바용 상품 검색
+	 * 상품 한 페이지와 카테고리, 연도별 상품 수를 함께 돌려준다.
+	 * 상품 수는 (카테고리, 연도)별 집계 쿼리 한 번으로 구하고, 페이지의 전체 건수도 이 집계에서 얻는다.
+	 **/
+	public ItemFacetSearchResponse findItemFacetSearch(final Pageable pageable,
+		final ItemSearchConditions itemSearchConditions) {
+		final Optional<List<Long>> rankedItemIdList = searchItemIdList(itemSearchConditions);
+		if (rankedItemIdList.filter(List::isEmpty).isPresent()) {
+			return new ItemFacetSearchResponse(Page.empty(pageable), List.of(), List.of());
+		}
+
+		final List<ItemFacetCountDto> itemFacetCountList = itemRepository.findItemFacetCountList(
+			itemSearchConditions.itemName(), rankedItemIdList.orElse(null));
+		final Page<Item> itemPage = rankedItemIdList
+			.map(itemIdList -> itemRepository.findItemListByRankedItemIdList(pageable, itemSearchConditions,
+				itemIdList))
+			.orElseGet(() -> new PageImpl<>(
+				itemRepository.findItemContentListByItemSearchConditions(pageable, itemSearchConditions), pageable,
+				countFacet(itemFacetCountList, itemSearchConditions.categoryName(), itemSearchConditions.year())));
+
+		return new ItemFacetSearchResponse(
+			itemPage.map(ItemMapper.INSTANCE::itemToItemPageResponse),
+			toCategoryFacetList(itemFacetCountList, itemSearchConditions.year()),
+			toYearFacetList(itemFacetCountList, itemSearchConditions.categoryName()));
 	}
 
 	public ItemAllInfoResponse findItemWithDeleted(final Long itemId) {
@@ -146,7 +221,11 @@ public class ItemService {
 		// 6. 썸네일 설정
 		item.updateThumbnail(item.getItemImageList().get(0).getImageName()); // 0 번째 이미지를 썸네일로
 
-		return ItemMapper.INSTANCE.itemToItemResponse(itemRepository.save(item));
+		final Item savedItem = itemRepository.save(item);
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(savedItem.getId()));
+		applicationEventPublisher.publishEvent(CatalogChangedEvent.INSTANCE);
+
+		return ItemMapper.INSTANCE.itemToItemResponse(savedItem);
 	}
 
 	/**
@@ -169,7 +248,12 @@ public class ItemService {
 			category = findCategoryById(itemUpdateRequest.categoryId());
 		}
 
+		final int previousYear = item.getYear();
 		item.update(itemUpdateRequest, category);
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(item.getId()));
+		if (previousYear != item.getYear()) {
+			applicationEventPublisher.publishEvent(CatalogChangedEvent.INSTANCE);
+		}
 
 		return ItemMapper.INSTANCE.itemToItemResponse(item);
 	}
@@ -181,12 +265,81 @@ public class ItemService {
 	public void deleteItem(final Long id) {
 		final Item item = findItemById(id);
 		itemRepository.delete(item);
+		applicationEventPublisher.publishEvent(ItemChangedEvent.of(id));
+		applicationEventPublisher.publishEvent(CatalogChangedEvent.INSTANCE);
 	}
 
 	public List<Integer> findItemYears() {
 		return itemRepository.findItemYears();
 	}
 
+	private Optional<List<Long>> searchItemIdList(final ItemSearchConditions itemSearchConditions) {
+		if (itemSearchConditions == null || !StringUtils.hasText(itemSearchConditions.itemName())) {
+			return Optional.empty();
+		}
+		return itemSearchService.searchItemIdList(itemSearchConditions.itemName());
+	}
+
+	private <T> CursorPageResponse<T> findItemCursorList(final ItemSearchConditions itemSearchConditions,
+		final List<Long> itemIdList, final boolean withDeleted, final ItemSortKey sortKey,
+		final Sort.Direction direction, final CursorPageRequest cursorPageRequest, final Function<Item, T> mapper) {
+		final int size = cursorPageRequest.pageSize();
+		final List<Item> itemList = itemRepository.findItemListAfterCursor(itemSearchConditions, itemIdList,
+			withDeleted, sortKey, direction, ItemCursor.decode(cursorPageRequest.cursor(), sortKey, direction),
+			size + 1);
+
+		// 한 건 더 읽어서 다음 페이지가 있는지 count 없이 판단한다
+		final boolean hasNext = itemList.size() > size;
+		final List<Item> contents = hasNext ? itemList.subList(0, size) : itemList;
+		final String nextCursor = hasNext ? ItemCursor.from(contents.get(size - 1), sortKey, direction).encode() : null;
+		final Long totalCount = cursorPageRequest.isCountRequired()
+			? itemRepository.countByItemSearchConditions(itemSearchConditions, itemIdList, withDeleted)
+			: null;
+
+		return new CursorPageResponse<>(contents.stream().map(mapper).toList(), nextCursor, hasNext, totalCount);
+	}
+
+	private long countFacet(final List<ItemFacetCountDto> itemFacetCountList, final String categoryName,
+		final Integer year) {
+		return itemFacetCountList.stream()
+			.filter(itemFacetCountDto -> matchesCategoryName(itemFacetCountDto, categoryName))
+			.filter(itemFacetCountDto -> year == null || year == itemFacetCountDto.year())
+			.mapToLong(ItemFacetCountDto::count)
+			.sum();
+	}
+
+	private List<CategoryFacetResponse> toCategoryFacetList(final List<ItemFacetCountDto> itemFacetCountList,
+		final Integer year) {
+		return itemFacetCountList.stream()
+			.filter(itemFacetCountDto -> year == null || year == itemFacetCountDto.year())
+			.collect(Collectors.groupingBy(
+				itemFacetCountDto -> new CategoryDto(itemFacetCountDto.categoryId(), itemFacetCountDto.categoryName()),
+				Collectors.summingLong(ItemFacetCountDto::count)))
+			.entrySet()
+			.stream()
+			.map(entry -> new CategoryFacetResponse(entry.getKey().id(), entry.getKey().name(), entry.getValue()))
+			.sorted(Comparator.comparingLong(CategoryFacetResponse::count).reversed()
+				.thenComparing(CategoryFacetResponse::categoryName))
+			.toList();
+	}
+
+	private List<YearFacetResponse> toYearFacetList(final List<ItemFacetCountDto> itemFacetCountList,
+		final String categoryName) {
+		return itemFacetCountList.stream()
+			.filter(itemFacetCountDto -> matchesCategoryName(itemFacetCountDto, categoryName))
+			.collect(Collectors.groupingBy(ItemFacetCountDto::year, Collectors.summingLong(ItemFacetCountDto::count)))
+			.entrySet()
+			.stream()
+			.map(entry -> new YearFacetResponse(entry.getKey(), entry.getValue()))
+			.sorted(Comparator.comparingInt(YearFacetResponse::year).reversed())
+			.toList();
+	}
+
+	// 상품 조회의 eqCategoryName 과 같이 빈 카테고리 이름은 조건이 없는 것으로 본다
+	private boolean matchesCategoryName(final ItemFacetCountDto itemFacetCountDto, final String categoryName) {
+		return !StringUtils.hasText(categoryName) || categoryName.equals(itemFacetCountDto.categoryName());
+	}
+
 	private Item findItemById(final Long itemId) {
 		return itemRepository.findById(itemId)
 			.orElseThrow(() -> new NotFoundException(ITEM_NOT_FOUND_EXCEPTION, itemId));
@@ -0,0 +1,38 @@
+package com.gabia.bshop.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.repository.OrderArchiveRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보관 기간이 지난 주문을 chunk-size 단위로 orders_archive, order_item_archive 로 옮긴다.
+ * 한 번에 옮기는 행 수를 제한해서 잠금과 언두 로그가 길어지지 않게 한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class OrderArchiveService {
+
+	private final OrderArchiveRepository orderArchiveRepository;
+	private final OrderProperties orderProperties;
+
+	public LocalDateTime getArchiveBefore(final LocalDateTime now) {
+		return now.minus(orderProperties.getArchive().getHorizon());
+	}
+
+	/**
+	 * @return 옮긴 주문 수. chunk-size 보다 작으면 더 옮길 주문이 없다.
+	 */
+	@Transactional
+	public int archiveOrderChunk(final LocalDateTime archiveBefore) {
+		final List<Long> orderIdList = orderArchiveRepository.findOrderIdListCreatedBefore(archiveBefore,
+			orderProperties.getArchive().getChunkSize());
+		return orderArchiveRepository.moveToArchive(orderIdList);
+	}
+}
@@ -0,0 +1,181 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderBatchResult;
+import com.gabia.bshop.dto.OrderCreateCommand;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.request.OrderCreateRequest;
+import com.gabia.bshop.dto.response.OrderCreateResponse;
+import com.gabia.bshop.exception.InternalServerException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시에 들어온 주문을 짧은 시간 동안 모아 한 트랜잭션으로 처리한다.
+ * 같은 옵션 행의 잠금과 커밋 비용을 여러 주문이 나눠 쓰게 해서 인기 상품에 주문이 몰릴 때의 처리량을 높인다.
+ * 각 요청은 자신의 주문 결과(성공 또는 재고 부족 등)로 완료된다.
+ * 한 배치가 어떤 예외로 실패해도 그 배치의 요청만 실패시키고 다음 배치를 계속 처리한다.
+ * 요청이 결과를 기다리다 시간이 지났으면 게이트 재고는 배치가 되돌린다.
+ * 요청자는 주문이 커밋되었는지 알 수 없으므로, 주문이 실패했거나 만들어지지 않은 것이 확실할 때만 배치가 되돌린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OrderBatchProcessor {
+
+	private final OrderService orderService;
+	private final StockGateService stockGateService;
+	private final OrderProperties orderProperties;
+
+	private final BlockingQueue<PendingOrder> pendingOrderQueue = new LinkedBlockingQueue<>();
+	private Thread worker;
+	private volatile boolean running;
+
+	@PostConstruct
+	public void start() {
+		if (!orderProperties.getBatch().isEnabled()) {
+			return;
+		}
+		if (orderProperties.getStockStrategy() != OrderProperties.StockStrategy.PESSIMISTIC_LOCK) {
+			throw new IllegalStateException("order.batch 는 order.stock-strategy 가 PESSIMISTIC_LOCK 일 때만 사용할 수 있습니다.");
+		}
+		running = true;
+		worker = new Thread(this::run, "order-batch-processor");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (worker != null) {
+			worker.interrupt();
+		}
+		PendingOrder pendingOrder;
+		while ((pendingOrder = pendingOrderQueue.poll()) != null) {
+			pendingOrder.future().completeExceptionally(new InternalServerException(ORDER_BATCH_STOPPED_EXCEPTION));
+		}
+	}
+
+	/**
+	 * @param reservedItemList 게이트에서 차감한 줄. 요청자가 시간이 지나 결과를 받지 못한 주문이 실패하면 배치가 되돌린다
+	 */
+	public CompletableFuture<OrderCreateResponse> submit(final Long memberId,
+		final OrderCreateRequest orderCreateRequest, final List<OrderItemDto> reservedItemList) {
+		if (!running) {
+			return CompletableFuture.failedFuture(new InternalServerException(ORDER_BATCH_STOPPED_EXCEPTION));
+		}
+		final PendingOrder pendingOrder = new PendingOrder(new OrderCreateCommand(memberId, orderCreateRequest),
+			new CompletableFuture<>(), reservedItemList);
+		pendingOrderQueue.add(pendingOrder);
+		return pendingOrder.future()
+			.orTimeout(orderProperties.getBatch().getResultTimeoutMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	private void run() {
+		while (running) {
+			final List<PendingOrder> batch;
+			try {
+				batch = takeBatch();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			try {
+				process(batch);
+			} catch (RuntimeException e) {
+				log.warn("주문 배치 결과를 전달하지 못했습니다. size: {}", batch.size(), e);
+				batch.forEach(pendingOrder -> pendingOrder.future().completeExceptionally(e));
+			}
+		}
+	}
+
+	private List<PendingOrder> takeBatch() throws InterruptedException {
+		final List<PendingOrder> batch = new ArrayList<>();
+		batch.add(pendingOrderQueue.take());
+
+		final OrderProperties.Batch batchProperties = orderProperties.getBatch();
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchProperties.getWindowMillis());
+		while (batch.size() < batchProperties.getMaxSize()) {
+			final long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				break;
+			}
+			final PendingOrder pendingOrder = pendingOrderQueue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (pendingOrder == null) {
+				break;
+			}
+			batch.add(pendingOrder);
+		}
+		return batch;
+	}
+
+	void process(final List<PendingOrder> pendingOrderList) {
+		// 기다리다 시간이 지난 요청은 이미 실패로 응답했으므로 주문을 만들지 않고 게이트 재고를 되돌린다
+		final List<PendingOrder> batch = new ArrayList<>();
+		for (final PendingOrder pendingOrder : pendingOrderList) {
+			if (pendingOrder.future().isDone()) {
+				releaseReserved(pendingOrder);
+			} else {
+				batch.add(pendingOrder);
+			}
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		final List<OrderBatchResult> orderBatchResultList;
+		try {
+			// 트랜잭션이 커밋된 뒤에 결과를 돌려받으므로, 성공 응답은 항상 커밋된 주문이다
+			orderBatchResultList = orderService.createOrderList(
+				batch.stream().map(PendingOrder::command).toList());
+		} catch (RuntimeException e) {
+			log.warn("주문 배치 처리에 실패했습니다. size: {}", batch.size(), e);
+			batch.forEach(pendingOrder -> fail(pendingOrder, e));
+			return;
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			final OrderBatchResult orderBatchResult = orderBatchResultList.get(i);
+			final PendingOrder pendingOrder = batch.get(i);
+			if (orderBatchResult.isSuccess()) {
+				pendingOrder.future().complete(orderBatchResult.orderCreateResponse());
+			} else {
+				fail(pendingOrder, orderBatchResult.exception());
+			}
+		}
+	}
+
+	// 요청자가 실패를 받으면 요청자가 되돌리고, 이미 시간이 지나 받지 못하면 배치가 되돌린다
+	private void fail(final PendingOrder pendingOrder, final Throwable exception) {
+		if (!pendingOrder.future().completeExceptionally(exception)) {
+			releaseReserved(pendingOrder);
+		}
+	}
+
+	private void releaseReserved(final PendingOrder pendingOrder) {
+		if (!pendingOrder.reservedItemList().isEmpty()) {
+			stockGateService.release(pendingOrder.reservedItemList());
+		}
+	}
+
+	record PendingOrder(
+		OrderCreateCommand command,
+		CompletableFuture<OrderCreateResponse> future,
+		List<OrderItemDto> reservedItemList
+	) {
+	}
+}
@@ -0,0 +1,146 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.OrderStatusDto;
+import com.gabia.bshop.entity.Order;
+import com.gabia.bshop.entity.OrderEvent;
+import com.gabia.bshop.entity.enumtype.OrderEventStatus;
+import com.gabia.bshop.entity.enumtype.OrderEventType;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+import com.gabia.bshop.event.OrderChangedEvent;
+import com.gabia.bshop.exception.InternalServerException;
+import com.gabia.bshop.mapper.OrderMapper;
+import com.gabia.bshop.repository.OrderEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 이벤트 아웃박스. 주문을 바꾸는 트랜잭션 안에서 이벤트 행을 쌓고,
+ * 디스패처가 한 건씩 SKIP LOCKED 로 잡아 리스너로 발행한 뒤 같은 트랜잭션에서 발행 완료로 바꾼다.
+ * 리스너가 실패하면 롤백되어 PENDING 으로 남고 다음 폴링에서 다시 발행된다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class OrderEventService {
+
+	private static final TypeReference<List<OrderItemDto>> ORDER_ITEM_DTO_LIST_TYPE = new TypeReference<>() {
+	};
+
+	private final OrderEventRepository orderEventRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final OrderProperties orderProperties;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void saveOrderEvent(final OrderEventType orderEventType, final Order order,
+		final OrderStatus previousOrderStatus) {
+		orderEventRepository.save(createOrderEvent(orderEventType, order, previousOrderStatus));
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void saveOrderEventList(final OrderEventType orderEventType, final List<Order> orderList) {
+		orderEventRepository.saveAll(orderList.stream()
+			.map(order -> createOrderEvent(orderEventType, order, null))
+			.toList());
+	}
+
+	/**
+	 * 일괄 변경처럼 엔티티를 읽지 않고 상태를 바꾼 주문의 이벤트를 쌓는다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void saveStatusChangedEventList(final List<OrderStatusDto> orderStatusDtoList, final OrderStatus orderStatus,
+		final Map<Long, List<OrderItemDto>> orderItemDtoMap) {
+		orderEventRepository.saveAll(orderStatusDtoList.stream()
+			.map(orderStatusDto -> createOrderEvent(OrderEventType.STATUS_CHANGED, orderStatusDto.id(),
+				orderStatusDto.memberId(), orderStatusDto.status(), orderStatus,
+				orderItemDtoMap.getOrDefault(orderStatusDto.id(), List.of())))
+			.toList());
+	}
+
+	public List<Long> findPendingOrderEventIdList(final int size) {
+		return orderEventRepository.findIdListByStatus(OrderEventStatus.PENDING, PageRequest.of(0, size));
+	}
+
+	/**
+	 * @return 다른 디스패처가 이미 잡고 있거나 처리가 끝난 이벤트면 false
+	 */
+	@Transactional
+	public boolean publishOrderEvent(final Long orderEventId) {
+		final Optional<OrderEvent> lockedOrderEvent = orderEventRepository.findByIdWithSkipLocked(orderEventId)
+			.filter(OrderEvent::isPending);
+		if (lockedOrderEvent.isEmpty()) {
+			return false;
+		}
+
+		final OrderEvent orderEvent = lockedOrderEvent.get();
+		applicationEventPublisher.publishEvent(new OrderChangedEvent(
+			orderEvent.getId(),
+			orderEvent.getOrderId(),
+			orderEvent.getMemberId(),
+			orderEvent.getEventType(),
+			orderEvent.getPreviousOrderStatus(),
+			orderEvent.getOrderStatus(),
+			readPayload(orderEvent)));
+		orderEvent.publish();
+		return true;
+	}
+
+	@Transactional
+	public void failOrderEvent(final Long orderEventId) {
+		orderEventRepository.findById(orderEventId)
+			.filter(OrderEvent::isPending)
+			.ifPresent(orderEvent -> orderEvent.fail(orderProperties.getEvent().getMaxAttemptCount()));
+	}
+
+	private OrderEvent createOrderEvent(final OrderEventType orderEventType, final Order order,
+		final OrderStatus previousOrderStatus) {
+		return createOrderEvent(orderEventType, order.getId(), order.getMember().getId(), previousOrderStatus,
+			order.getStatus(), OrderMapper.INSTANCE.orderItemListToOrderItemDtoList(order.getOrderItemList()));
+	}
+
+	private OrderEvent createOrderEvent(final OrderEventType orderEventType, final Long orderId, final Long memberId,
+		final OrderStatus previousOrderStatus, final OrderStatus orderStatus,
+		final List<OrderItemDto> orderItemDtoList) {
+		return OrderEvent.builder()
+			.orderId(orderId)
+			.memberId(memberId)
+			.eventType(orderEventType)
+			.previousOrderStatus(previousOrderStatus)
+			.orderStatus(orderStatus)
+			.payload(writePayload(orderItemDtoList))
+			.build();
+	}
+
+	private String writePayload(final List<OrderItemDto> orderItemDtoList) {
+		try {
+			return objectMapper.writeValueAsString(orderItemDtoList);
+		} catch (JsonProcessingException e) {
+			throw new InternalServerException(ORDER_EVENT_JSON_PARSING_EXCEPTION);
+		}
+	}
+
+	private List<OrderItemDto> readPayload(final OrderEvent orderEvent) {
+		try {
+			return objectMapper.readValue(orderEvent.getPayload(), ORDER_ITEM_DTO_LIST_TYPE);
+		} catch (JsonProcessingException e) {
+			throw new InternalServerException(ORDER_EVENT_JSON_PARSING_EXCEPTION);
+		}
+	}
+}
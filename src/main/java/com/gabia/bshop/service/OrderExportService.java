@@ -0,0 +1,103 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderExportRow;
+import com.gabia.bshop.dto.request.OrderExportFormat;
+import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
+import com.gabia.bshop.exception.InternalServerException;
+import com.gabia.bshop.repository.OrderExportRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건에 맞는 주문 전체를 응답 스트림에 바로 쓴다.
+ * DB 결과를 한 행씩 읽어 쓰고 일정 행마다 flush 하므로, 내보내는 행 수와 상관없이 메모리 사용량이 일정하다.
+ * 엔티티를 거치지 않으므로 영속성 컨텍스트에 쌓이는 것도 없다.
+ */
+@RequiredArgsConstructor
+@Service
+public class OrderExportService {
+
+	private static final int FLUSH_ROW_COUNT = 1_000;
+	private static final String CSV_HEADER =
+		"orderId,memberId,status,totalPrice,createdAt,itemId,optionId,orderCount,price";
+
+	private final OrderExportRepository orderExportRepository;
+	private final OrderProperties orderProperties;
+	private final ObjectMapper objectMapper;
+
+	public void export(final OrderSearchConditions orderSearchConditions, final OrderExportFormat orderExportFormat,
+		final OutputStream outputStream) {
+		final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		final OrderExportWriter orderExportWriter = new OrderExportWriter(writer, orderExportFormat);
+		try {
+			if (orderExportFormat == OrderExportFormat.CSV) {
+				writer.write(CSV_HEADER);
+				writer.write('\n');
+			}
+			// 보관된 주문이 id 가 더 작으므로 먼저 쓴다
+			if (orderProperties.getArchive().isEnabled()) {
+				orderExportRepository.streamOrderExportRows(orderSearchConditions, true, orderExportWriter);
+			}
+			orderExportRepository.streamOrderExportRows(orderSearchConditions, false, orderExportWriter);
+			writer.flush();
+		} catch (IOException | UncheckedIOException e) {
+			throw new InternalServerException(ORDER_EXPORT_EXCEPTION);
+		}
+	}
+
+	private class OrderExportWriter implements Consumer<OrderExportRow> {
+
+		private final Writer writer;
+		private final OrderExportFormat orderExportFormat;
+		private int rowCount;
+
+		private OrderExportWriter(final Writer writer, final OrderExportFormat orderExportFormat) {
+			this.writer = writer;
+			this.orderExportFormat = orderExportFormat;
+		}
+
+		@Override
+		public void accept(final OrderExportRow orderExportRow) {
+			try {
+				writer.write(orderExportFormat == OrderExportFormat.CSV
+					? toCsv(orderExportRow)
+					: objectMapper.writeValueAsString(orderExportRow));
+				writer.write('\n');
+				if (++rowCount % FLUSH_ROW_COUNT == 0) {
+					writer.flush();
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		// 모든 값이 숫자, enum, ISO 날짜라서 따옴표 처리가 필요 없다
+		private String toCsv(final OrderExportRow orderExportRow) {
+			return String.join(",",
+				String.valueOf(orderExportRow.orderId()),
+				String.valueOf(orderExportRow.memberId()),
+				orderExportRow.status().name(),
+				String.valueOf(orderExportRow.totalPrice()),
+				orderExportRow.createdAt().toString(),
+				String.valueOf(orderExportRow.itemId()),
+				String.valueOf(orderExportRow.optionId()),
+				String.valueOf(orderExportRow.orderCount()),
+				String.valueOf(orderExportRow.price()));
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Service;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.request.OrderBulkUpdateStatusRequest;
+import com.gabia.bshop.dto.request.OrderCreateRequest;
+import com.gabia.bshop.dto.response.CartCheckoutLineResult;
+import com.gabia.bshop.dto.response.CartCheckoutResponse;
+import com.gabia.bshop.dto.response.OrderBulkUpdateStatusResponse;
+import com.gabia.bshop.dto.response.OrderCreateResponse;
+import com.gabia.bshop.dto.response.OrderStatusUpdateResult;
+import com.gabia.bshop.dto.response.OrderTicketResponse;
+import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.exception.ConflictException;
+import com.gabia.bshop.exception.InternalServerException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 트랜잭션 바깥에서 주문 생성/취소를 감싼다.
+ * 재고 게이트가 켜져 있으면 DB 트랜잭션을 열기 전에 Redis 재고를 먼저 차감하고,
+ * 주문이 롤백되거나 취소되면 차감한 재고를 되돌린다.
+ * 플래시 세일 중인 상품의 옵션은 재고 게이트 설정과 관계없이 게이트를 거친다.
+ * 주문 배치가 켜져 있으면 주문 생성은 {@link OrderBatchProcessor}에 맡기고 결과를 기다린다.
+ * 주문 상태 일괄 변경은 chunk 단위 트랜잭션으로 나눠서 잠금을 오래 잡지 않는다.
+ * 장바구니 주문은 장바구니를 읽어 주문할 수 있는 줄만 주문하고, 주문한 줄을 장바구니에서 바로 지운다.
+ */
+@RequiredArgsConstructor
+@Service
+public class OrderFacade {
+
+	// 재고 경합으로 장바구니 주문이 거절될 때 줄을 다시 확인해서 주문하는 최대 횟수
+	private static final int MAX_CHECKOUT_ATTEMPT_COUNT = 3;
+
+	private final OrderService orderService;
+	private final StockGateService stockGateService;
+	private final OrderBatchProcessor orderBatchProcessor;
+	private final OrderTicketService orderTicketService;
+	private final CartService cartService;
+	private final OrderProperties orderProperties;
+
+	public OrderCreateResponse createOrder(final Long memberId, final OrderCreateRequest orderCreateRequest) {
+		final List<OrderItemDto> orderItemDtoList = orderCreateRequest.orderItemDtoList();
+		if (!stockGateService.isEnabled()) {
+			return placeOrder(memberId, orderCreateRequest, List.of());
+		}
+
+		final List<OrderItemDto> reservedItemList = stockGateService.reserve(orderItemDtoList);
+		return placeOrder(memberId, orderCreateRequest, reservedItemList);
+	}
+
+	/**
+	 * 장바구니 전체를 주문한다. 없는 옵션, 판매하지 않는 상품, 재고가 부족한 줄은 주문에서 빼고 결과에 남긴다.
+	 * 확인한 뒤 주문하는 사이에 재고가 바뀌어 주문이 거절되면 줄마다 다시 확인해서 주문할 수 있는 줄로 다시 주문한다.
+	 * 다시 확인해도 빠지는 줄이 없으면 줄 확인으로 알 수 없는 거절(재고 게이트, 예약 상품 등)이므로 되풀이하지 않고 그대로 던진다.
+	 * 주문한 줄은 응답 전에 장바구니에서 지우되, 그 사이 수량이 바뀐 줄은 남겨 둔다.
+	 */
+	public CartCheckoutResponse checkoutCart(final Long memberId) {
+		final List<CartDto> cartDtoList = cartService.findCartDtoList(memberId);
+		if (cartDtoList.isEmpty()) {
+			throw new BadRequestException(CART_EMPTY_EXCEPTION);
+		}
+
+		List<CartCheckoutLineResult> lineResultList = cartService.checkCartCheckoutLineList(cartDtoList);
+		for (int attempt = 1; ; attempt++) {
+			final List<OrderItemDto> orderItemDtoList = toOrderItemDtoList(lineResultList);
+			if (orderItemDtoList.isEmpty()) {
+				return new CartCheckoutResponse(null, lineResultList);
+			}
+
+			final OrderCreateResponse orderCreateResponse;
+			try {
+				orderCreateResponse = createOrder(memberId, new OrderCreateRequest(orderItemDtoList));
+			} catch (ConflictException | BadRequestException e) {
+				if (attempt >= MAX_CHECKOUT_ATTEMPT_COUNT) {
+					throw e;
+				}
+				final List<CartCheckoutLineResult> recheckedLineResultList = cartService.checkCartCheckoutLineList(
+					cartDtoList);
+				if (toOrderItemDtoList(recheckedLineResultList).equals(orderItemDtoList)) {
+					throw e;
+				}
+				lineResultList = recheckedLineResultList;
+				continue;
+			}
+			cartService.deleteOrderedCartList(memberId, orderItemDtoList);
+			return new CartCheckoutResponse(orderCreateResponse, lineResultList);
+		}
+	}
+
+	private List<OrderItemDto> toOrderItemDtoList(final List<CartCheckoutLineResult> lineResultList) {
+		return lineResultList.stream()
+			.filter(CartCheckoutLineResult::isOrdered)
+			.map(CartCheckoutLineResult::toOrderItemDto)
+			.toList();
+	}
+
+	/**
+	 * 주문을 바로 만들지 않고 티켓으로 접수만 한다.
+	 * 재고 게이트가 켜져 있으면 접수 시점에 Redis 재고를 차감해서 품절 주문은 접수 단계에서 거절한다.
+	 */
+	public OrderTicketResponse createOrderTicket(final Long memberId, final OrderCreateRequest orderCreateRequest) {
+		if (!orderProperties.getTicket().isEnabled()) {
+			throw new InternalServerException(ORDER_TICKET_DISABLED_EXCEPTION);
+		}
+		final List<OrderItemDto> orderItemDtoList = orderCreateRequest.orderItemDtoList();
+		if (!stockGateService.isEnabled()) {
+			return orderTicketService.createOrderTicket(memberId, orderCreateRequest);
+		}
+
+		final List<OrderItemDto> reservedItemList = stockGateService.reserve(orderItemDtoList);
+		try {
+			return orderTicketService.createOrderTicket(memberId, orderCreateRequest);
+		} catch (RuntimeException e) {
+			stockGateService.release(reservedItemList);
+			throw e;
+		}
+	}
+
+	/**
+	 * 주문이 실패하면 게이트에서 차감한 재고를 되돌린다.
+	 * 배치 결과를 기다리다 시간이 지나면 배치가 아직 주문을 만들고 있을 수 있으므로 되돌리지 않고,
+	 * 그 주문이 실패하거나 배치에 들어가지 못하면 {@link OrderBatchProcessor}가 되돌린다.
+	 */
+	private OrderCreateResponse placeOrder(final Long memberId, final OrderCreateRequest orderCreateRequest,
+		final List<OrderItemDto> reservedItemList) {
+		if (!orderProperties.getBatch().isEnabled()) {
+			try {
+				return orderService.createOrder(memberId, orderCreateRequest);
+			} catch (RuntimeException e) {
+				releaseReserved(reservedItemList);
+				throw e;
+			}
+		}
+
+		try {
+			return orderBatchProcessor.submit(memberId, orderCreateRequest, reservedItemList).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof TimeoutException) {
+				throw new InternalServerException(ORDER_BATCH_TIMEOUT_EXCEPTION);
+			}
+			releaseReserved(reservedItemList);
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private void releaseReserved(final List<OrderItemDto> reservedItemList) {
+		if (!reservedItemList.isEmpty()) {
+			stockGateService.release(reservedItemList);
+		}
+	}
+
+	public void cancelOrder(final Long memberId, final Long orderId) {
+		final List<OrderItemDto> cancelledItemList = orderService.cancelOrder(memberId, orderId);
+		stockGateService.releaseCancelled(cancelledItemList);
+	}
+
+	public OrderBulkUpdateStatusResponse updateOrderStatusList(
+		final OrderBulkUpdateStatusRequest orderBulkUpdateStatusRequest) {
+		final OrderStatus status = orderBulkUpdateStatusRequest.status();
+		final int chunkSize = orderProperties.getStatusUpdate().getChunkSize();
+		final List<OrderStatusUpdateResult> resultList = new ArrayList<>();
+
+		if (orderBulkUpdateStatusRequest.hasOrderIdList()) {
+			final List<Long> orderIdList = orderBulkUpdateStatusRequest.orderIdList().stream().distinct().toList();
+			for (int from = 0; from < orderIdList.size(); from += chunkSize) {
+				resultList.addAll(orderService.updateOrderStatusList(
+					orderIdList.subList(from, Math.min(from + chunkSize, orderIdList.size())), status));
+			}
+			return OrderBulkUpdateStatusResponse.of(status, resultList, null);
+		}
+
+		// 기간으로 고른 주문도 ID 목록과 같은 개수까지만 변경하고, 남은 주문은 다음 요청으로 넘긴다
+		final OrderSearchConditions orderSearchConditions = toOrderSearchConditions(orderBulkUpdateStatusRequest);
+		Long lastOrderId = orderBulkUpdateStatusRequest.lastOrderId();
+		int remainingCount = OrderBulkUpdateStatusRequest.MAX_ORDER_COUNT;
+		while (remainingCount > 0) {
+			final int limit = Math.min(chunkSize, remainingCount);
+			final List<Long> orderIdList = orderService.findOrderIdListToUpdateStatus(orderSearchConditions,
+				orderBulkUpdateStatusRequest.currentStatus(), status, lastOrderId, limit);
+			if (!orderIdList.isEmpty()) {
+				resultList.addAll(orderService.updateOrderStatusList(orderIdList, status));
+				lastOrderId = orderIdList.get(orderIdList.size() - 1);
+			}
+			if (orderIdList.size() < limit) {
+				return OrderBulkUpdateStatusResponse.of(status, resultList, null);
+			}
+			remainingCount -= orderIdList.size();
+		}
+		return OrderBulkUpdateStatusResponse.of(status, resultList, lastOrderId);
+	}
+
+	private OrderSearchConditions toOrderSearchConditions(
+		final OrderBulkUpdateStatusRequest orderBulkUpdateStatusRequest) {
+		final LocalDateTime startDate = orderBulkUpdateStatusRequest.startDate();
+		final LocalDateTime endDate = orderBulkUpdateStatusRequest.endDate();
+		if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+			throw new BadRequestException(INVALID_ORDER_BULK_UPDATE_TARGET_EXCEPTION);
+		}
+		return new OrderSearchConditions(startDate, endDate);
+	}
+}
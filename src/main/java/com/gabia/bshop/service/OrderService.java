@@ -3,26 +3,45 @@ package com.gabia.bshop.service;
 import static com.gabia.bshop.exception.ErrorCode.*;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderBatchResult;
+import com.gabia.bshop.dto.OrderCreateCommand;
+import com.gabia.bshop.dto.OrderCursor;
 import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.OrderItemSummaryDto;
+import com.gabia.bshop.dto.OrderStatusDto;
+import com.gabia.bshop.dto.OrderSummaryDto;
+import com.gabia.bshop.dto.request.CursorPageRequest;
 import com.gabia.bshop.dto.request.OrderCreateRequest;
 import com.gabia.bshop.dto.request.OrderUpdateStatusRequest;
+import com.gabia.bshop.dto.response.CursorPageResponse;
 import com.gabia.bshop.dto.response.OrderCreateResponse;
 import com.gabia.bshop.dto.response.OrderInfoPageResponse;
 import com.gabia.bshop.dto.response.OrderInfoResponse;
+import com.gabia.bshop.dto.response.OrderStatusUpdateResult;
 import com.gabia.bshop.dto.response.OrderUpdateStatusResponse;
 import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
 import com.gabia.bshop.entity.ItemOption;
 import com.gabia.bshop.entity.Order;
 import com.gabia.bshop.entity.OrderItem;
 import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.entity.enumtype.OrderEventType;
 import com.gabia.bshop.entity.enumtype.OrderStatus;
+import com.gabia.bshop.exception.ApplicationException;
 import com.gabia.bshop.exception.BadRequestException;
 import com.gabia.bshop.exception.ConflictException;
 import com.gabia.bshop.exception.NotFoundException;
@@ -42,19 +61,29 @@ public class OrderService {
 	private final OrderRepository orderRepository;
 	private final OrderItemRepository orderItemRepository;
 	private final ItemOptionRepository itemOptionRepository;
+	private final OrderProperties orderProperties;
+	private final OrderEventService orderEventService;
 
 	public Page<OrderInfoPageResponse> findOrderInfoList(final Pageable pageable, final Long memberId,
 		final OrderSearchConditions orderSearchConditions) {
-		return orderRepository.findAllBySearchConditions(pageable, orderSearchConditions,
-			memberId).map(OrderMapper.INSTANCE::orderToOrderInfoPageResponse);
+		return toOrderInfoPageResponse(
+			orderRepository.findOrderSummaryBySearchConditions(pageable, orderSearchConditions, memberId));
 	}
 
+	/**
+	 * orders 에 없으면 보관된 주문에서 찾는다.
+	 */
 	public OrderInfoResponse findOrderInfo(final MemberPayload memberPayload, final Long orderId) {
 		//권한 확인
-		if (memberPayload.isAdmin()) {
-			findOrderById(orderId);
-		} else {
-			findOrderByIdAndMemberId(orderId, memberPayload.id());
+		final Long memberId = memberPayload.isAdmin() ? null : memberPayload.id();
+		final Optional<Order> order = memberId == null
+			? orderRepository.findById(orderId)
+			: orderRepository.findByIdAndMemberId(orderId, memberId);
+		if (order.isEmpty()) {
+			return orderRepository.findArchivedOrderSummary(orderId, memberId)
+				.map(orderSummaryDto -> OrderMapper.INSTANCE.orderArchiveToOrderInfoResponse(orderSummaryDto,
+					orderRepository.findArchivedOrderItemList(orderId)))
+				.orElseThrow(() -> new NotFoundException(ORDER_NOT_FOUND_EXCEPTION, orderId));
 		}
 
 		final List<OrderItem> orderInfoList = orderItemRepository.findWithOrderAndItemByOrderId(orderId);
@@ -63,8 +92,59 @@ public class OrderService {
 
 	public Page<OrderInfoPageResponse> findAllOrderInfoList(final OrderSearchConditions orderSearchConditions,
 		final Pageable pageable) {
-		return orderRepository.findAllBySearchConditions(pageable, orderSearchConditions, null)
-			.map(OrderMapper.INSTANCE::orderToOrderInfoPageResponse);
+		return toOrderInfoPageResponse(
+			orderRepository.findOrderSummaryBySearchConditions(pageable, orderSearchConditions, null));
+	}
+
+	/**
+	 * (createdAt, id) 기준 커서 페이지네이션. 깊은 페이지도 offset 없이 인덱스에서 바로 이어서 읽는다.
+	 * memberId 가 null 이면 전체 주문을 조회한다.
+	 */
+	public CursorPageResponse<OrderInfoPageResponse> findOrderInfoCursorList(final Long memberId,
+		final OrderSearchConditions orderSearchConditions, final CursorPageRequest cursorPageRequest) {
+		final int size = cursorPageRequest.pageSize();
+		final List<OrderSummaryDto> orderSummaryList = orderRepository.findOrderSummaryBySearchConditionsAfterCursor(
+			orderSearchConditions, memberId, OrderCursor.decode(cursorPageRequest.cursor()), size + 1);
+
+		// 한 건 더 읽어서 다음 페이지가 있는지 count 없이 판단한다
+		final boolean hasNext = orderSummaryList.size() > size;
+		final List<OrderSummaryDto> contents = hasNext ? orderSummaryList.subList(0, size) : orderSummaryList;
+		final String nextCursor = hasNext ? OrderCursor.from(contents.get(size - 1)).encode() : null;
+		final Long totalCount = cursorPageRequest.isCountRequired()
+			? orderRepository.countBySearchConditions(orderSearchConditions, memberId)
+			: null;
+
+		return new CursorPageResponse<>(toOrderInfoPageResponseList(contents), nextCursor, hasNext, totalCount);
+	}
+
+	private Page<OrderInfoPageResponse> toOrderInfoPageResponse(final Page<OrderSummaryDto> orderSummaryPage) {
+		final Map<Long, List<OrderItemSummaryDto>> orderItemSummaryMap = findOrderItemSummaryMap(
+			orderSummaryPage.getContent());
+		return orderSummaryPage.map(orderSummaryDto -> toOrderInfoPageResponse(orderSummaryDto, orderItemSummaryMap));
+	}
+
+	private List<OrderInfoPageResponse> toOrderInfoPageResponseList(final List<OrderSummaryDto> orderSummaryList) {
+		final Map<Long, List<OrderItemSummaryDto>> orderItemSummaryMap = findOrderItemSummaryMap(orderSummaryList);
+		return orderSummaryList.stream()
+			.map(orderSummaryDto -> toOrderInfoPageResponse(orderSummaryDto, orderItemSummaryMap))
+			.toList();
+	}
+
+	/**
+	 * 주문 행과 주문 상품 행을 각각 한 번씩만 읽어 목록 응답을 만든다. 페이지 크기와 상관없이 쿼리 수가 고정된다.
+	 */
+	private Map<Long, List<OrderItemSummaryDto>> findOrderItemSummaryMap(
+		final List<OrderSummaryDto> orderSummaryList) {
+		return orderRepository.findOrderItemSummaryByOrderIdIn(
+				orderSummaryList.stream().map(OrderSummaryDto::id).toList())
+			.stream()
+			.collect(Collectors.groupingBy(OrderItemSummaryDto::orderId));
+	}
+
+	private OrderInfoPageResponse toOrderInfoPageResponse(final OrderSummaryDto orderSummaryDto,
+		final Map<Long, List<OrderItemSummaryDto>> orderItemSummaryMap) {
+		return OrderMapper.INSTANCE.orderSummaryToOrderInfoPageResponse(orderSummaryDto,
+			orderItemSummaryMap.getOrDefault(orderSummaryDto.id(), List.of()));
 	}
 
 	@Transactional
@@ -72,53 +152,231 @@ public class OrderService {
 		final Order order = OrderMapper.INSTANCE.orderCreateRequestToEntity(memberId, orderCreateRequest);
 
 		final List<OrderItemDto> orderItemDtoList = orderCreateRequest.orderItemDtoList();
-		final List<ItemOption> itemOptionList = itemOptionRepository.findByItemIdListAndIdListWithLock(
-			orderItemDtoList);
+		final List<OrderItem> orderItemList = switch (orderProperties.getStockStrategy()) {
+			case PESSIMISTIC_LOCK -> createOrderItemListWithLock(order, orderItemDtoList);
+			case CONDITIONAL_UPDATE -> createOrderItemListWithConditionalUpdate(order, orderItemDtoList);
+		};
 
-		isEqualListSize(orderItemDtoList, itemOptionList);
+		order.createOrder(orderItemList);
+		orderRepository.save(order);
+		orderEventService.saveOrderEvent(OrderEventType.CREATED, order, null);
 
-		final List<OrderItem> orderItemList = new ArrayList<>();
-		for (int i = 0; i < itemOptionList.size(); i++) {
-			final ItemOption itemOption = itemOptionList.get(i);
-			int orderCount = orderItemDtoList.get(i).orderCount();
+		return OrderMapper.INSTANCE.orderCreateResponseToDto(order);
+	}
 
-			validateItemStatus(itemOption);
-			validateStockQuantity(itemOption, orderCount);
+	/**
+	 * 여러 주문을 한 트랜잭션으로 처리한다.
+	 * 배치에 포함된 옵션 행을 한 번만 잠그고, 주문마다 따로 검증해서 실패한 주문만 결과에 실패로 남긴다.
+	 * 실패한 주문은 엔티티를 건드리기 전에 걸러지므로 트랜잭션 전체는 롤백되지 않는다.
+	 */
+	@Transactional
+	public List<OrderBatchResult> createOrderList(final List<OrderCreateCommand> orderCreateCommandList) {
+		final List<OrderItemDto> allOrderItemDtoList = orderCreateCommandList.stream()
+			.flatMap(orderCreateCommand -> orderCreateCommand.orderCreateRequest().orderItemDtoList().stream())
+			.toList();
+		final Map<Long, ItemOption> itemOptionMap = itemOptionRepository.findByItemIdListAndIdListWithLock(
+				allOrderItemDtoList).stream()
+			.collect(Collectors.toMap(ItemOption::getId, Function.identity()));
 
-			orderItemList.add(OrderItem.createOrderItem(itemOption, order, orderCount));
+		final List<Order> orderList = new ArrayList<>();
+		final List<ApplicationException> exceptionList = new ArrayList<>();
+		for (final OrderCreateCommand orderCreateCommand : orderCreateCommandList) {
+			try {
+				orderList.add(createOrderWithLockedItemOption(orderCreateCommand, itemOptionMap));
+				exceptionList.add(null);
+			} catch (ApplicationException e) {
+				orderList.add(null);
+				exceptionList.add(e);
+			}
 		}
 
-		order.createOrder(orderItemList);
-		orderRepository.save(order);
+		final List<Order> createdOrderList = orderList.stream().filter(Objects::nonNull).toList();
+		orderRepository.saveAll(createdOrderList);
+		orderEventService.saveOrderEventList(OrderEventType.CREATED, createdOrderList);
 
-		return OrderMapper.INSTANCE.orderCreateResponseToDto(order);
+		final List<OrderBatchResult> orderBatchResultList = new ArrayList<>();
+		for (int i = 0; i < orderList.size(); i++) {
+			final Order order = orderList.get(i);
+			orderBatchResultList.add(order != null
+				? OrderBatchResult.success(OrderMapper.INSTANCE.orderCreateResponseToDto(order))
+				: OrderBatchResult.fail(exceptionList.get(i)));
+		}
+		return orderBatchResultList;
 	}
 
 	@Transactional
-	public void cancelOrder(final Long memberId, final Long orderId) {
+	public List<OrderItemDto> cancelOrder(final Long memberId, final Long orderId) {
 		final Order order = findOrderByIdAndMemberId(orderId, memberId);
 		validateCancelOrderStatus(order);
 		itemOptionRepository.findByItemIdListAndIdListInOrderItemListWithLock(order.getOrderItemList());
+		final OrderStatus previousStatus = order.getStatus();
 		order.cancelOrder();
+		orderEventService.saveOrderEvent(OrderEventType.CANCELLED, order, previousStatus);
+
+		return OrderMapper.INSTANCE.orderItemListToOrderItemDtoList(order.getOrderItemList());
 	}
 
 	@Transactional
 	public OrderUpdateStatusResponse updateOrderStatus(final OrderUpdateStatusRequest orderUpdateStatusRequest) {
 		final Order order = findOrderById(orderUpdateStatusRequest.orderId());
 		validateUpdateOrderStatus(orderUpdateStatusRequest, order);
+		final OrderStatus previousStatus = order.getStatus();
 		order.updateOrderStatus(orderUpdateStatusRequest.status());
+		orderEventService.saveOrderEvent(OrderEventType.STATUS_CHANGED, order, previousStatus);
 
 		return OrderMapper.INSTANCE.orderToOrderUpdateStatusResponse(order);
 	}
 
+	public List<Long> findOrderIdListToUpdateStatus(final OrderSearchConditions orderSearchConditions,
+		final OrderStatus currentStatus, final OrderStatus status, final Long lastOrderId, final int limit) {
+		return orderRepository.findOrderIdListToUpdateStatus(orderSearchConditions, currentStatus, status, lastOrderId,
+			limit);
+	}
+
+	/**
+	 * 주문 묶음의 상태를 엔티티를 읽지 않고 한 트랜잭션에서 바꾼다.
+	 * 대상 행을 잠가 현재 상태를 읽고, updateOrderStatus 와 같은 규칙으로 이미 같은 상태인 주문은 건너뛴다.
+	 */
+	@Transactional
+	public List<OrderStatusUpdateResult> updateOrderStatusList(final List<Long> orderIdList,
+		final OrderStatus status) {
+		final Map<Long, OrderStatusDto> orderStatusMap = orderRepository.findOrderStatusByIdInWithLock(orderIdList)
+			.stream()
+			.collect(Collectors.toMap(OrderStatusDto::id, Function.identity()));
+		final List<OrderStatusDto> targetList = orderStatusMap.values().stream()
+			.filter(orderStatusDto -> orderStatusDto.status() != status)
+			.toList();
+		if (!targetList.isEmpty()) {
+			final List<Long> targetIdList = targetList.stream().map(OrderStatusDto::id).toList();
+			orderRepository.updateStatusByIdIn(targetIdList, status);
+			orderEventService.saveStatusChangedEventList(targetList, status, findOrderItemDtoMap(targetIdList));
+		}
+
+		return orderIdList.stream()
+			.map(orderId -> new OrderStatusUpdateResult(orderId,
+				toStatusUpdateResult(orderStatusMap.get(orderId), status)))
+			.toList();
+	}
+
+	private OrderStatusUpdateResult.Result toStatusUpdateResult(final OrderStatusDto orderStatusDto,
+		final OrderStatus status) {
+		if (orderStatusDto == null) {
+			return OrderStatusUpdateResult.Result.NOT_FOUND;
+		}
+		if (orderStatusDto.status() == status) {
+			return OrderStatusUpdateResult.Result.ALREADY_UPDATED;
+		}
+		return OrderStatusUpdateResult.Result.UPDATED;
+	}
+
+	private Map<Long, List<OrderItemDto>> findOrderItemDtoMap(final List<Long> orderIdList) {
+		return orderRepository.findOrderItemSummaryByOrderIdIn(orderIdList)
+			.stream()
+			.collect(Collectors.groupingBy(OrderItemSummaryDto::orderId,
+				Collectors.mapping(orderItemSummaryDto -> new OrderItemDto(orderItemSummaryDto.itemId(),
+					orderItemSummaryDto.itemOptionId(), orderItemSummaryDto.orderCount()), Collectors.toList())));
+	}
+
+	private List<OrderItem> createOrderItemListWithLock(final Order order,
+		final List<OrderItemDto> orderItemDtoList) {
+		final List<ItemOption> itemOptionList = itemOptionRepository.findByItemIdListAndIdListWithLock(
+			orderItemDtoList);
+
+		isEqualListSize(orderItemDtoList, itemOptionList);
+
+		final List<OrderItem> orderItemList = new ArrayList<>();
+		for (int i = 0; i < itemOptionList.size(); i++) {
+			final ItemOption itemOption = itemOptionList.get(i);
+			int orderCount = orderItemDtoList.get(i).orderCount();
+
+			validateItemStatus(itemOption);
+			validateStockQuantity(itemOption, orderCount);
+
+			orderItemList.add(OrderItem.createOrderItem(itemOption, order, orderCount));
+		}
+		return orderItemList;
+	}
+
+	/**
+	 * 행 잠금 없이 조건부 UPDATE 한 번으로 재고를 차감한다.
+	 * 영향받은 행이 0이면 재고 부족으로 보고 트랜잭션 전체를 롤백한다.
+	 */
+	private List<OrderItem> createOrderItemListWithConditionalUpdate(final Order order,
+		final List<OrderItemDto> orderItemDtoList) {
+		final Map<Long, ItemOption> itemOptionMap = itemOptionRepository.findAllByItemIdsAndItemOptionIds(
+				orderItemDtoList).stream()
+			.collect(Collectors.toMap(ItemOption::getId, Function.identity()));
+
+		for (final OrderItemDto orderItemDto : orderItemDtoList) {
+			final ItemOption itemOption = itemOptionMap.get(orderItemDto.itemOptionId());
+			if (itemOption == null || !itemOption.getItem().getId().equals(orderItemDto.itemId())) {
+				throw new BadRequestException(INVALID_ITEM_OPTION_NOT_FOUND_EXCEPTION);
+			}
+			validateItemStatus(itemOption);
+		}
+
+		// 데드락을 피하기 위해 항상 옵션 id 순서로 UPDATE 한다
+		orderItemDtoList.stream()
+			.sorted(Comparator.comparing(OrderItemDto::itemOptionId))
+			.forEach(this::decreaseStockQuantity);
+
+		return orderItemDtoList.stream()
+			.map(orderItemDto -> OrderItem.createOrderItemWithoutStockDecrease(
+				itemOptionMap.get(orderItemDto.itemOptionId()), order, orderItemDto.orderCount()))
+			.collect(Collectors.toList());
+	}
+
+	private Order createOrderWithLockedItemOption(final OrderCreateCommand orderCreateCommand,
+		final Map<Long, ItemOption> itemOptionMap) {
+		final List<OrderItemDto> orderItemDtoList = orderCreateCommand.orderCreateRequest().orderItemDtoList();
+
+		// 같은 옵션을 여러 줄로 주문한 경우까지 합산해서 검증한다
+		final Map<Long, Integer> orderCountMap = new HashMap<>();
+		for (final OrderItemDto orderItemDto : orderItemDtoList) {
+			final ItemOption itemOption = itemOptionMap.get(orderItemDto.itemOptionId());
+			if (itemOption == null || !itemOption.getItem().getId().equals(orderItemDto.itemId())) {
+				throw new BadRequestException(INVALID_ITEM_OPTION_NOT_FOUND_EXCEPTION);
+			}
+			validateItemStatus(itemOption);
+			orderCountMap.merge(itemOption.getId(), orderItemDto.orderCount(), Integer::sum);
+		}
+		orderCountMap.forEach((itemOptionId, orderCount) ->
+			validateStockQuantity(itemOptionMap.get(itemOptionId), orderCount));
+
+		final Order order = OrderMapper.INSTANCE.orderCreateRequestToEntity(orderCreateCommand.memberId(),
+			orderCreateCommand.orderCreateRequest());
+		final List<OrderItem> orderItemList = orderItemDtoList.stream()
+			.map(orderItemDto -> OrderItem.createOrderItem(itemOptionMap.get(orderItemDto.itemOptionId()), order,
+				orderItemDto.orderCount()))
+			.collect(Collectors.toList());
+		order.createOrder(orderItemList);
+		return order;
+	}
+
+	private void decreaseStockQuantity(final OrderItemDto orderItemDto) {
+		final int updatedCount = itemOptionRepository.decreaseStockQuantity(orderItemDto.itemId(),
+			orderItemDto.itemOptionId(), orderItemDto.orderCount());
+		if (updatedCount == 0) {
+			throw new ConflictException(ITEM_OPTION_SOLD_OUT_EXCEPTION, orderItemDto.itemOptionId());
+		}
+	}
+
 	private Order findOrderById(final Long orderId) {
 		return orderRepository.findById(orderId)
-			.orElseThrow(() -> new NotFoundException(ORDER_NOT_FOUND_EXCEPTION, orderId));
+			.orElseThrow(() -> orderNotFoundException(orderId, null));
 	}
 
 	private Order findOrderByIdAndMemberId(final Long orderId, final Long memberId) {
 		return orderRepository.findByIdAndMemberId(orderId, memberId)
-			.orElseThrow(() -> new NotFoundException(ORDER_NOT_FOUND_EXCEPTION, orderId));
+			.orElseThrow(() -> orderNotFoundException(orderId, memberId));
+	}
+
+	// 보관된 주문은 바꿀 수 없으므로, 찾지 못했다고 하지 않고 보관된 주문이라고 알려 준다
+	private ApplicationException orderNotFoundException(final Long orderId, final Long memberId) {
+		if (orderRepository.findArchivedOrderSummary(orderId, memberId).isPresent()) {
+			return new ConflictException(ORDER_ARCHIVED_EXCEPTION, orderId);
+		}
+		return new NotFoundException(ORDER_NOT_FOUND_EXCEPTION, orderId);
 	}
 
 	private Order findOrderByIdAndMemberIdWithLock(final Long orderId, final Long memberId) {
@@ -0,0 +1,127 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.request.OrderCreateRequest;
+import com.gabia.bshop.dto.response.OrderCreateResponse;
+import com.gabia.bshop.dto.response.OrderTicketResponse;
+import com.gabia.bshop.entity.OrderTicket;
+import com.gabia.bshop.entity.enumtype.OrderTicketStatus;
+import com.gabia.bshop.exception.InternalServerException;
+import com.gabia.bshop.exception.NotFoundException;
+import com.gabia.bshop.mapper.OrderTicketMapper;
+import com.gabia.bshop.repository.OrderTicketRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class OrderTicketService {
+
+	private final OrderTicketRepository orderTicketRepository;
+	private final OrderService orderService;
+	private final ObjectMapper objectMapper;
+	private final OrderProperties orderProperties;
+
+	public OrderTicketResponse findOrderTicket(final Long memberId, final Long orderTicketId) {
+		final OrderTicket orderTicket = orderTicketRepository.findByIdAndMemberId(orderTicketId, memberId)
+			.orElseThrow(() -> new NotFoundException(ORDER_TICKET_NOT_FOUND_EXCEPTION, orderTicketId));
+		return OrderTicketMapper.INSTANCE.orderTicketToResponse(orderTicket);
+	}
+
+	public List<Long> findWaitingOrderTicketIdList(final int size) {
+		return orderTicketRepository.findIdListByStatus(OrderTicketStatus.WAITING, LocalDateTime.now(),
+			PageRequest.of(0, size));
+	}
+
+	@Transactional
+	public OrderTicketResponse createOrderTicket(final Long memberId, final OrderCreateRequest orderCreateRequest) {
+		final OrderTicket orderTicket = OrderTicket.builder()
+			.memberId(memberId)
+			.payload(writePayload(orderCreateRequest))
+			.build();
+		orderTicketRepository.save(orderTicket);
+
+		return OrderTicketMapper.INSTANCE.orderTicketToResponse(orderTicket);
+	}
+
+	/**
+	 * 티켓의 주문을 만들고 같은 트랜잭션에서 티켓을 완료 처리한다.
+	 * 주문 생성이 실패하면 티켓도 함께 롤백되어 WAITING 으로 남으므로, 호출하는 쪽에서 실패 처리를 따로 해야 한다.
+	 *
+	 * @return 다른 컨슈머가 이미 잡고 있거나 처리가 끝난 티켓이면 false
+	 */
+	@Transactional
+	public boolean completeOrderTicket(final Long orderTicketId) {
+		final Optional<OrderTicket> lockedOrderTicket = orderTicketRepository.findByIdWithSkipLocked(orderTicketId)
+			.filter(OrderTicket::isWaiting);
+		if (lockedOrderTicket.isEmpty()) {
+			return false;
+		}
+
+		final OrderTicket orderTicket = lockedOrderTicket.get();
+		final OrderCreateResponse orderCreateResponse = orderService.createOrder(orderTicket.getMemberId(),
+			readPayload(orderTicket));
+		orderTicket.complete(orderCreateResponse.id());
+		return true;
+	}
+
+	/**
+	 * @return 이번 호출로 실패 처리된 티켓의 주문 요청. 이미 처리가 끝난 티켓이면 비어 있다.
+	 */
+	@Transactional
+	public Optional<OrderCreateRequest> failOrderTicket(final Long orderTicketId, final String failureMessage) {
+		return orderTicketRepository.findByIdWithSkipLocked(orderTicketId)
+			.filter(OrderTicket::isWaiting)
+			.map(orderTicket -> {
+				orderTicket.fail(failureMessage);
+				return readPayload(orderTicket);
+			});
+	}
+
+	/**
+	 * 일시적인 오류로 실패한 티켓을 backoff 뒤에 다시 꺼내도록 미룬다.
+	 *
+	 * @return 최대 시도 횟수에 이르러 이번 호출로 실패 처리된 티켓의 주문 요청. 다시 시도할 티켓이면 비어 있다.
+	 */
+	@Transactional
+	public Optional<OrderCreateRequest> retryOrderTicket(final Long orderTicketId) {
+		final OrderProperties.Ticket ticket = orderProperties.getTicket();
+		return orderTicketRepository.findByIdWithSkipLocked(orderTicketId)
+			.filter(OrderTicket::isWaiting)
+			.flatMap(orderTicket -> {
+				orderTicket.retry(ticket.getMaxAttemptCount(), Duration.ofMillis(ticket.getRetryBackoffMillis()),
+					ORDER_TICKET_RETRY_EXHAUSTED_EXCEPTION.getMessage(), LocalDateTime.now());
+				return orderTicket.isWaiting() ? Optional.empty() : Optional.of(readPayload(orderTicket));
+			});
+	}
+
+	private String writePayload(final OrderCreateRequest orderCreateRequest) {
+		try {
+			return objectMapper.writeValueAsString(orderCreateRequest);
+		} catch (JsonProcessingException e) {
+			throw new InternalServerException(ORDER_TICKET_JSON_PARSING_EXCEPTION);
+		}
+	}
+
+	private OrderCreateRequest readPayload(final OrderTicket orderTicket) {
+		try {
+			return objectMapper.readValue(orderTicket.getPayload(), OrderCreateRequest.class);
+		} catch (JsonProcessingException e) {
+			throw new InternalServerException(ORDER_TICKET_JSON_PARSING_EXCEPTION);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gabia.bshop.dto.response.DailySalesResponse;
+import com.gabia.bshop.dto.response.SalesResponse;
+import com.gabia.bshop.dto.searchConditions.SalesSearchConditions;
+import com.gabia.bshop.event.OrderChangedEvent;
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.repository.SalesDailyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 판매 통계를 주문 테이블 대신 일 단위 집계 테이블(sales_daily)에서 조회한다.
+ * 집계는 주문 이벤트 아웃박스를 통해 주문 생성과 취소를 증분으로 반영하고, 재생성 작업으로 주문 이력과 다시 맞춘다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class SalesRollupService {
+
+	private final SalesDailyRepository salesDailyRepository;
+
+	/**
+	 * 아웃박스 디스패처의 트랜잭션에 참여하므로 집계 반영과 이벤트 발행 완료가 함께 커밋되거나 함께 롤백된다.
+	 */
+	@Transactional
+	public void applyOrderSales(final OrderChangedEvent orderChangedEvent) {
+		final int sign = orderChangedEvent.salesSign();
+		if (sign == 0) {
+			return;
+		}
+		salesDailyRepository.increaseByOrderIdList(List.of(orderChangedEvent.orderId()), sign);
+	}
+
+	@Transactional
+	public int rebuild(final SalesSearchConditions salesSearchConditions) {
+		validateDateRange(salesSearchConditions);
+		return salesDailyRepository.rebuild(salesSearchConditions.startDate(), salesSearchConditions.endDate());
+	}
+
+	public List<SalesResponse> findItemSalesList(final SalesSearchConditions salesSearchConditions) {
+		validateDateRange(salesSearchConditions);
+		return salesDailyRepository.findItemSalesList(salesSearchConditions.startDate(),
+			salesSearchConditions.endDate());
+	}
+
+	public List<SalesResponse> findOptionSalesList(final Long itemId,
+		final SalesSearchConditions salesSearchConditions) {
+		validateDateRange(salesSearchConditions);
+		return salesDailyRepository.findOptionSalesList(itemId, salesSearchConditions.startDate(),
+			salesSearchConditions.endDate());
+	}
+
+	public List<SalesResponse> findCategorySalesList(final SalesSearchConditions salesSearchConditions) {
+		validateDateRange(salesSearchConditions);
+		return salesDailyRepository.findCategorySalesList(salesSearchConditions.startDate(),
+			salesSearchConditions.endDate());
+	}
+
+	public List<DailySalesResponse> findItemDailySalesList(final Long itemId,
+		final SalesSearchConditions salesSearchConditions) {
+		validateDateRange(salesSearchConditions);
+		return salesDailyRepository.findItemDailySalesList(itemId, salesSearchConditions.startDate(),
+			salesSearchConditions.endDate());
+	}
+
+	private void validateDateRange(final SalesSearchConditions salesSearchConditions) {
+		final LocalDate startDate = salesSearchConditions.startDate();
+		final LocalDate endDate = salesSearchConditions.endDate();
+		if (startDate.isAfter(endDate)) {
+			throw new BadRequestException(INVALID_SALES_DATE_RANGE_EXCEPTION, startDate, endDate);
+		}
+	}
+}
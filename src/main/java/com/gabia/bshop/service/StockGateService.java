@@ -0,0 +1,136 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.entity.ItemOption;
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.exception.ConflictException;
+import com.gabia.bshop.repository.ItemOptionRepository;
+import com.gabia.bshop.repository.ItemOptionStockRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 재고 카운터로 DB 트랜잭션 전에 주문을 거른다.
+ * DB의 stockQuantity가 기준 값이며, 카운터가 없으면 DB에서 읽어 채운다.
+ * 재고 게이트가 꺼져 있으면 플래시 세일 중인 상품의 옵션만 카운터로 거르고, 그 카운터는 플래시 세일 표시와 함께 만료된다.
+ * 그래서 카운터가 남아 있는 옵션은 게이트를 거쳐 차감된 옵션이고, 취소할 때는 남아 있는 카운터에만 되돌린다.
+ */
+@RequiredArgsConstructor
+@Service
+public class StockGateService {
+
+	private final ItemOptionStockRepository itemOptionStockRepository;
+	private final ItemOptionRepository itemOptionRepository;
+	private final FlashSaleService flashSaleService;
+	private final OrderProperties orderProperties;
+
+	/**
+	 * 재고 게이트나 플래시 세일 중 하나라도 켜져 있으면 주문이 게이트를 거칠 수 있다.
+	 */
+	public boolean isEnabled() {
+		return orderProperties.isStockGate() || orderProperties.getFlashSale().isEnabled();
+	}
+
+	/**
+	 * 게이트를 거쳐야 하는 줄만 카운터에서 차감하고, 차감한 줄을 돌려준다.
+	 * 주문이 실패하면 돌려받은 줄을 {@link #release(List)}로 되돌린다.
+	 */
+	public List<OrderItemDto> reserve(final List<OrderItemDto> orderItemDtoList) {
+		final Map<Long, Duration> expiredTimeMap = new HashMap<>();
+		final List<OrderItemDto> gatedItemList = findGatedItemList(orderItemDtoList, expiredTimeMap);
+		if (gatedItemList.isEmpty()) {
+			return gatedItemList;
+		}
+
+		final Map<Long, Integer> orderCountMap = sumOrderCountByItemOptionId(gatedItemList);
+		final List<Long> itemOptionIdList = new ArrayList<>(orderCountMap.keySet());
+		final List<Integer> orderCountList = new ArrayList<>(orderCountMap.values());
+
+		long result = itemOptionStockRepository.decreaseAll(itemOptionIdList, orderCountList);
+		if (result < 0) {
+			loadStockQuantity(itemOptionIdList, expiredTimeMap);
+			result = itemOptionStockRepository.decreaseAll(itemOptionIdList, orderCountList);
+		}
+
+		if (result < 0) {
+			throw new BadRequestException(INVALID_ITEM_OPTION_NOT_FOUND_EXCEPTION);
+		}
+		if (result > 0) {
+			throw new ConflictException(ITEM_OPTION_SOLD_OUT_EXCEPTION, itemOptionIdList.get((int)result - 1));
+		}
+		return gatedItemList;
+	}
+
+	public void release(final List<OrderItemDto> orderItemDtoList) {
+		final Map<Long, Integer> orderCountMap = sumOrderCountByItemOptionId(orderItemDtoList);
+		itemOptionStockRepository.increaseAll(new ArrayList<>(orderCountMap.keySet()),
+			new ArrayList<>(orderCountMap.values()));
+	}
+
+	/**
+	 * 취소되었거나 만들지 못한 주문의 재고를 되돌린다.
+	 * 플래시 세일 표시가 그 사이 만료되었어도 남아 있는 카운터에는 되돌리고, 카운터가 없는 옵션은 건너뛴다.
+	 */
+	public void releaseCancelled(final List<OrderItemDto> orderItemDtoList) {
+		if (!isEnabled()) {
+			return;
+		}
+		release(orderItemDtoList);
+	}
+
+	/**
+	 * 관리자가 재고를 바꾸거나 옵션을 지우면 카운터를 버리고 다음 주문 때 DB에서 다시 읽는다.
+	 */
+	public void evict(final Long itemOptionId) {
+		itemOptionStockRepository.delete(itemOptionId);
+	}
+
+	// 재고 게이트가 켜져 있으면 모든 줄을, 아니면 플래시 세일 중인 상품의 줄만 거른다
+	private List<OrderItemDto> findGatedItemList(final List<OrderItemDto> orderItemDtoList,
+		final Map<Long, Duration> expiredTimeMap) {
+		if (orderProperties.isStockGate()) {
+			return orderItemDtoList;
+		}
+
+		final Map<Long, Duration> remainingTimeMap = flashSaleService.findFlashSaleRemainingTimeMap(orderItemDtoList);
+		final List<OrderItemDto> gatedItemList = new ArrayList<>();
+		for (final OrderItemDto orderItemDto : orderItemDtoList) {
+			final Duration remainingTime = remainingTimeMap.get(orderItemDto.itemId());
+			if (remainingTime != null) {
+				gatedItemList.add(orderItemDto);
+				expiredTimeMap.put(orderItemDto.itemOptionId(), remainingTime);
+			}
+		}
+		return gatedItemList;
+	}
+
+	// 플래시 세일 카운터를 다시 채울 때도 표시와 함께 만료되게 한다
+	private void loadStockQuantity(final List<Long> itemOptionIdList, final Map<Long, Duration> expiredTimeMap) {
+		final List<ItemOption> itemOptionList = itemOptionRepository.findAllById(itemOptionIdList);
+		for (final ItemOption itemOption : itemOptionList) {
+			itemOptionStockRepository.saveIfAbsent(itemOption.getId(), itemOption.getStockQuantity(),
+				expiredTimeMap.get(itemOption.getId()));
+		}
+	}
+
+	// 같은 옵션이 여러 줄로 들어와도 한 카운터에서 합계로 차감한다
+	private Map<Long, Integer> sumOrderCountByItemOptionId(final List<OrderItemDto> orderItemDtoList) {
+		final Map<Long, Integer> orderCountMap = new LinkedHashMap<>();
+		for (final OrderItemDto orderItemDto : orderItemDtoList) {
+			orderCountMap.merge(orderItemDto.itemOptionId(), orderItemDto.orderCount(), Integer::sum);
+		}
+		return orderCountMap;
+	}
+}
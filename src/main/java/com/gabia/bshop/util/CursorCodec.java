@@ -0,0 +1,38 @@
+package com.gabia.bshop.util;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.gabia.bshop.exception.BadRequestException;
+
+/**
+ * 커서 페이지네이션의 정렬 키 값들을 클라이언트가 해석할 필요 없는 불투명한 문자열로 바꾼다.
+ */
+public final class CursorCodec {
+
+	private static final String DELIMITER = "|";
+
+	private CursorCodec() {
+	}
+
+	public static String encode(final String... values) {
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString(String.join(DELIMITER, values).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String[] decode(final String cursor, final int valueCount) {
+		final String decoded;
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException(INVALID_CURSOR_EXCEPTION);
+		}
+		final String[] values = decoded.split("\\" + DELIMITER, -1);
+		if (values.length != valueCount) {
+			throw new BadRequestException(INVALID_CURSOR_EXCEPTION);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,60 @@
+package com.gabia.bshop.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 크기와 보관 시간이 모두 제한된 로컬 캐시. 가득 차면 가장 오래 쓰이지 않은 항목부터 버린다.
+ */
+public class ExpiringLruCache<K, V> {
+
+	private final int maxSize;
+	private final long ttlMillis;
+	private final LinkedHashMap<K, Entry<V>> entryMap;
+
+	public ExpiringLruCache(final int maxSize, final long ttlMillis) {
+		this.maxSize = maxSize;
+		this.ttlMillis = ttlMillis;
+		this.entryMap = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+				return size() > ExpiringLruCache.this.maxSize;
+			}
+		};
+	}
+
+	public synchronized V get(final K key) {
+		final Entry<V> entry = entryMap.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiredAt() <= System.currentTimeMillis()) {
+			entryMap.remove(key);
+			return null;
+		}
+		return entry.value();
+	}
+
+	public synchronized void put(final K key, final V value) {
+		entryMap.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+	}
+
+	public synchronized void remove(final K key) {
+		entryMap.remove(key);
+	}
+
+	public synchronized void removeIf(final Predicate<K> keyPredicate) {
+		entryMap.keySet().removeIf(keyPredicate);
+	}
+
+	public synchronized int size() {
+		return entryMap.size();
+	}
+
+	private record Entry<V>(
+		V value,
+		long expiredAt
+	) {
+	}
+}
@@ -0,0 +1,165 @@
+package com.gabia.bshop.util;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목의 2-gram 역색인. 소문자로 맞춘 뒤 색인하므로 "닝 운동" 으로 "러닝 운동화" 를 찾는 것처럼 한국어 부분 검색이 된다.
+ * 2-gram 으로 후보를 좁힌 뒤 제목이 실제로 검색어를 포함하는지 다시 확인하므로,
+ * 결과는 제목에 대한 LIKE '%term%' 검색과 같다. 띄어쓰기도 그대로 비교한다.
+ * 본문은 찾는 데 쓰지 않고, 제목으로 찾은 문서의 순위를 정할 때만 쓴다.
+ */
+public class NgramIndex {
+
+	private static final int GRAM_SIZE = 2;
+
+	private final Map<String, Set<Long>> postingMap = new HashMap<>();
+	private final Map<Long, Document> documentMap = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public void put(final Long id, final String title, final String body) {
+		final Document document = new Document(id, normalize(title), normalize(body));
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+			documentMap.put(id, document);
+			for (final String gram : document.gramSet()) {
+				postingMap.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(final Long id) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 제목에 검색어를 포함하는 문서를 관련도 순으로 돌려준다.
+	 * 제목이 검색어로 시작하거나 같으면 더 앞서고, 본문에도 포함되면 조금 더 앞선다.
+	 */
+	public List<Long> search(final String term, final int limit) {
+		final String normalizedTerm = normalize(term);
+		if (normalizedTerm.isEmpty()) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			return findCandidateIdSet(normalizedTerm).stream()
+				.map(documentMap::get)
+				.map(document -> new ScoredDocument(document, document.score(normalizedTerm)))
+				.filter(scoredDocument -> scoredDocument.score() > 0)
+				.sorted(Comparator.comparingInt(ScoredDocument::score).reversed()
+					.thenComparingInt(scoredDocument -> scoredDocument.document().title().length())
+					.thenComparing(scoredDocument -> scoredDocument.document().id(), Comparator.reverseOrder()))
+				.limit(limit)
+				.map(scoredDocument -> scoredDocument.document().id())
+				.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documentMap.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Set<Long> findCandidateIdSet(final String normalizedTerm) {
+		if (normalizedTerm.length() < GRAM_SIZE) {
+			return documentMap.keySet();
+		}
+
+		// 가장 짧은 posting 목록부터 교집합을 구한다
+		final List<Set<Long>> postingList = toGramSet(normalizedTerm).stream()
+			.map(gram -> postingMap.getOrDefault(gram, Set.of()))
+			.sorted(Comparator.comparingInt(Set::size))
+			.toList();
+		final Set<Long> candidateIdSet = new HashSet<>(postingList.get(0));
+		for (int i = 1; i < postingList.size() && !candidateIdSet.isEmpty(); i++) {
+			candidateIdSet.retainAll(postingList.get(i));
+		}
+		return candidateIdSet;
+	}
+
+	private void removeDocument(final Long id) {
+		final Document document = documentMap.remove(id);
+		if (document == null) {
+			return;
+		}
+		for (final String gram : document.gramSet()) {
+			final Set<Long> idSet = postingMap.get(gram);
+			idSet.remove(id);
+			if (idSet.isEmpty()) {
+				postingMap.remove(gram);
+			}
+		}
+	}
+
+	private static String normalize(final String text) {
+		if (text == null) {
+			return "";
+		}
+		return text.toLowerCase(Locale.ROOT);
+	}
+
+	private static Set<String> toGramSet(final String normalizedText) {
+		final Set<String> gramSet = new HashSet<>();
+		for (int i = 0; i + GRAM_SIZE <= normalizedText.length(); i++) {
+			gramSet.add(normalizedText.substring(i, i + GRAM_SIZE));
+		}
+		return gramSet;
+	}
+
+	private record Document(
+		Long id,
+		String title,
+		String body
+	) {
+
+		private Set<String> gramSet() {
+			return toGramSet(title);
+		}
+
+		private int score(final String normalizedTerm) {
+			if (!title.contains(normalizedTerm)) {
+				return 0;
+			}
+			int score = 10;
+			if (title.startsWith(normalizedTerm)) {
+				score += 5;
+			}
+			if (title.equals(normalizedTerm)) {
+				score += 5;
+			}
+			if (body.contains(normalizedTerm)) {
+				score += 1;
+			}
+			return score;
+		}
+	}
+
+	private record ScoredDocument(
+		Document document,
+		int score
+	) {
+	}
+}
@@ -0,0 +1,119 @@
+package com.gabia.bshop.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.gabia.bshop.config.PageCountProperties;
+import com.gabia.bshop.config.PageCountProperties.CountMode;
+import com.gabia.bshop.dto.CountedPage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 페이지 목록의 전체 개수를 목록별로 설정한 방식(EXACT, CACHED, ESTIMATED)으로 구한다.
+ * 큰 테이블에서는 count 쿼리가 페이지 조회보다 비싸기 때문에, 정확하지 않아도 되는 목록은 캐시나 통계 값을 쓴다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PageCountSupport {
+
+	private static final int MAX_CACHED_COUNT_SIZE = 1_000;
+	private static final String TABLE_ROWS_QUERY =
+		"select table_rows from information_schema.tables where table_schema = database() and table_name = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PageCountProperties pageCountProperties;
+
+	private final Map<CountKey, CachedCount> cachedCountMap = new ConcurrentHashMap<>();
+
+	/**
+	 * @param listName            page-count.modes 에 설정하는 목록 이름
+	 * @param searchConditions    CACHED 방식에서 캐시 키로 쓰는 검색 조건. equals 로 비교하므로 record 같은 값 객체여야 한다
+	 * @param estimatedTableName  검색 조건이 없어 테이블 전체 행 수로 추정할 수 있을 때의 테이블 이름. 아니면 null
+	 * @param countQuery          정확한 개수를 구하는 쿼리
+	 */
+	public <T> Page<T> getPage(final List<T> contents, final Pageable pageable, final String listName,
+		final Object searchConditions, final String estimatedTableName, final LongSupplier countQuery) {
+		// 내용만으로 전체 개수를 알 수 있으면 count 를 생략한다 (PageableExecutionUtils 와 같은 규칙)
+		if (pageable.isUnpaged() || (pageable.getOffset() == 0 && contents.size() < pageable.getPageSize())) {
+			return new CountedPage<>(contents, pageable, contents.size(), false);
+		}
+		if (!contents.isEmpty() && contents.size() < pageable.getPageSize()) {
+			return new CountedPage<>(contents, pageable, pageable.getOffset() + contents.size(), false);
+		}
+
+		final CountMode countMode = pageCountProperties.getMode(listName);
+		if (countMode == CountMode.ESTIMATED && estimatedTableName != null) {
+			final Long tableRows = jdbcTemplate.queryForObject(TABLE_ROWS_QUERY, Long.class, estimatedTableName);
+			if (tableRows != null) {
+				return new CountedPage<>(contents, pageable, atLeastLoaded(tableRows, contents, pageable), true);
+			}
+		}
+		if (countMode == CountMode.EXACT) {
+			return new CountedPage<>(contents, pageable, countQuery.getAsLong(), false);
+		}
+		return new CountedPage<>(contents, pageable,
+			atLeastLoaded(getCachedCount(listName, searchConditions, countQuery), contents, pageable), true);
+	}
+
+	/**
+	 * 목록의 일부(보관 테이블 등)나 커서 목록의 개수를 목록에 설정한 방식으로 구한다.
+	 * EXACT 가 아니면 CACHED 처럼 동작하고, 캐시 키는 목록 전체의 개수와 섞이지 않도록 partName 으로 나눈다.
+	 *
+	 * @param partName 같은 목록 안에서 개수를 구분하는 이름
+	 */
+	public long getCount(final String listName, final String partName, final Object searchConditions,
+		final LongSupplier countQuery) {
+		if (pageCountProperties.getMode(listName) == CountMode.EXACT) {
+			return countQuery.getAsLong();
+		}
+		return getCachedCount(new CountKey(listName + ":" + partName, searchConditions), countQuery);
+	}
+
+	private long getCachedCount(final String listName, final Object searchConditions,
+		final LongSupplier countQuery) {
+		return getCachedCount(new CountKey(listName, searchConditions), countQuery);
+	}
+
+	private long getCachedCount(final CountKey key, final LongSupplier countQuery) {
+		final long now = System.currentTimeMillis();
+		final CachedCount cachedCount = cachedCountMap.get(key);
+		if (cachedCount != null && cachedCount.expiredAt() > now) {
+			return cachedCount.count();
+		}
+
+		final long count = countQuery.getAsLong();
+		if (cachedCountMap.size() >= MAX_CACHED_COUNT_SIZE) {
+			cachedCountMap.values().removeIf(saved -> saved.expiredAt() <= now);
+		}
+		if (cachedCountMap.size() < MAX_CACHED_COUNT_SIZE) {
+			cachedCountMap.put(key, new CachedCount(count, now + pageCountProperties.getCachedTtl().toMillis()));
+		}
+		return count;
+	}
+
+	// 추정치가 이미 읽은 행보다 작으면 현재 페이지가 마지막 페이지로 보이지 않도록 보정한다
+	private long atLeastLoaded(final long count, final List<?> contents, final Pageable pageable) {
+		return Math.max(count, pageable.getOffset() + contents.size());
+	}
+
+	// 해시 값이 같은 다른 검색 조건이 개수를 나눠 쓰지 않도록 검색 조건 자체를 키로 쓴다
+	private record CountKey(
+		String listName,
+		Object searchConditions
+	) {
+	}
+
+	private record CachedCount(
+		long count,
+		long expiredAt
+	) {
+	}
+}
@@ -0,0 +1,78 @@
+package com.gabia.bshop.integration.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gabia.bshop.dto.request.ItemSortKey;
+import com.gabia.bshop.dto.searchConditions.ItemSearchConditions;
+import com.gabia.bshop.entity.Category;
+import com.gabia.bshop.entity.Item;
+import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.fixture.CategoryFixture;
+import com.gabia.bshop.repository.CategoryRepository;
+import com.gabia.bshop.repository.ItemRepository;
+import com.gabia.bshop.service.ItemSearchService;
+
+@Transactional
+@SpringBootTest
+class ItemSearchServiceTest {
+
+	@Autowired
+	private ItemSearchService itemSearchService;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@DisplayName("같은 검색어는 색인으로 찾든 LIKE 검색으로 찾든 같은 상품을 돌려준다")
+	@ParameterizedTest
+	@ValueSource(strings = {"운동화", "운동 화", "닝 운"})
+	void searchSameItemsByIndexAndLike(final String itemName) {
+		//given
+		final Category category = CategoryFixture.CATEGORY_1.getInstance();
+		categoryRepository.save(category);
+		itemRepository.saveAll(List.of(
+			createItem(category, "러닝 운동화", "가벼운 운동화"),
+			createItem(category, "운동 화분", "운동화 모양 화분"),
+			createItem(category, "양말", "운동화와 잘 어울리는 양말"),
+			createItem(category, "운동화 끈", "교체용")));
+		itemSearchService.buildIndex();
+
+		//when
+		final List<Long> indexItemIdList = itemSearchService.searchItemIdList(itemName).orElseThrow();
+		final List<Long> likeItemIdList = itemRepository.findItemListAfterCursor(
+				new ItemSearchConditions(null, itemName, null), null, false, ItemSortKey.ID, Sort.Direction.DESC, null,
+				100)
+			.stream()
+			.map(Item::getId)
+			.toList();
+
+		//then
+		Assertions.assertThat(likeItemIdList).isNotEmpty();
+		Assertions.assertThat(indexItemIdList).containsExactlyInAnyOrderElementsOf(likeItemIdList);
+	}
+
+	private Item createItem(final Category category, final String name, final String description) {
+		return Item.builder()
+			.category(category)
+			.name(name)
+			.description(description)
+			.basePrice(10000)
+			.itemStatus(ItemStatus.PUBLIC)
+			.year(2023)
+			.thumbnail("thumbnail")
+			.openAt(LocalDateTime.now())
+			.build();
+	}
+}
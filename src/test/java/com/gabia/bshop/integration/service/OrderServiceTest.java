@@ -3,10 +3,13 @@ package com.gabia.bshop.integration.service;
 import static com.gabia.bshop.fixture.MemberFixture.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -75,6 +78,74 @@ class OrderServiceTest {
 	@Autowired
 	private ImageDefaultProperties imageDefaultProperties;
 
+	@DisplayName("주문목록 조회의 쿼리 수는 주문 수와 상관없이 고정되어야한다")
+	@Test
+	void findOrderInfoListStatementCount() {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+		Member member1 = BECKER.getInstance();
+		Category category1 = CategoryFixture.CATEGORY_1.getInstance();
+		Item item1 = Item.builder()
+			.category(category1)
+			.name("temp_item_name1")
+			.description("temp_item_1_description " + UUID.randomUUID())
+			.basePrice(11111)
+			.itemStatus(ItemStatus.PUBLIC)
+			.year(2022)
+			.thumbnail(imageDefaultProperties.getItemImageUrl())
+			.openAt(now)
+			.build();
+		ItemOption itemOption1 = ItemOption.builder()
+			.item(item1)
+			.description("temp_itemOption1_description")
+			.optionPrice(0)
+			.stockQuantity(10)
+			.build();
+		List<Order> orderList = new ArrayList<>();
+		List<OrderItem> orderItemList = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			Order order = Order.builder()
+				.member(member1)
+				.status(OrderStatus.ACCEPTED)
+				.totalPrice(22222L)
+				.build();
+			orderList.add(order);
+			for (int j = 0; j < 2; j++) {
+				orderItemList.add(OrderItem.builder()
+					.item(item1)
+					.order(order)
+					.option(itemOption1)
+					.orderCount(1)
+					.price(11111L)
+					.build());
+			}
+		}
+
+		memberRepository.save(member1);
+		categoryRepository.save(category1);
+		itemRepository.save(item1);
+		itemOptionRepository.save(itemOption1);
+		orderRepository.saveAll(orderList);
+		orderItemRepository.saveAll(orderItemList);
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		//when
+		Page<OrderInfoPageResponse> orderInfoList = orderService.findOrderInfoList(PageRequest.of(0, 5),
+			member1.getId(), new OrderSearchConditions(null, null));
+
+		//then
+		Assertions.assertThat(orderInfoList.getContent()).hasSize(5);
+		Assertions.assertThat(orderInfoList.getTotalElements()).isEqualTo(8);
+		Assertions.assertThat(orderInfoList.getContent()).allMatch(response -> response.itemTotalCount() == 2);
+		// 주문 목록, 전체 개수, 주문 상품 목록
+		Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+		Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
 	@DisplayName("주문을_한_회원이_주문목록_조회를_수행하면_주문내역들이_조회되어야한다")
 	@Test
 	void findOrderInfoList() {
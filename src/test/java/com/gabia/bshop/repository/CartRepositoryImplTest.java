@@ -16,6 +16,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.OrderItemDto;
 import com.gabia.bshop.integration.IntegrationTest;
 
 @DisplayName("[Redis] 장바구니 Repository 테스트")
@@ -146,4 +147,43 @@ class CartRepositoryImplTest extends IntegrationTest {
 			() -> assertThat(actual).usingRecursiveComparison().isEqualTo(List.of(differentCartDto))
 		);
 	}
+
+	@Test
+	@DisplayName("예전 JSON 형식으로 저장된 장바구니도 조회되고, 다시 저장하면 수량만 저장한다")
+	void given_legacyJsonCart_when_findAndSave_then_migrateToOrderCount() {
+		// given
+		final String key = "cart:memberId-" + memberId;
+		final String hashKey = itemId + "-" + itemOptionId;
+		final CartDto cartDto = new CartDto(itemId, itemOptionId, orderCount);
+		redisTemplate.opsForHash().put(key, hashKey,
+			"{\"itemId\":" + itemId + ",\"itemOptionId\":" + itemOptionId + ",\"orderCount\":" + orderCount + "}");
+
+		// when
+		final List<CartDto> legacyActual = cartRepository.findAllByMemberId(memberId);
+		cartRepository.save(memberId, cartDto);
+
+		// then
+		assertAll(
+			() -> assertThat(legacyActual).isEqualTo(List.of(cartDto)),
+			() -> assertThat(redisTemplate.opsForHash().get(key, hashKey)).isEqualTo(String.valueOf(orderCount)),
+			() -> assertThat(cartRepository.findAllByMemberId(memberId)).isEqualTo(List.of(cartDto))
+		);
+	}
+
+	@Test
+	@DisplayName("주문한 수량과 장바구니 수량이 같은 줄만 지운다")
+	void given_changedOrderCount_when_deleteAllIfOrderCountEquals_then_keepChangedLine() {
+		// given
+		final CartDto cartDto = new CartDto(itemId, itemOptionId, orderCount);
+		final CartDto changedCartDto = new CartDto(newItemId, newItemOptionId, newOrderCount);
+		cartRepository.saveAll(memberId, List.of(cartDto, changedCartDto));
+
+		// when
+		cartRepository.deleteAllIfOrderCountEquals(memberId, List.of(
+			new OrderItemDto(itemId, itemOptionId, orderCount),
+			new OrderItemDto(newItemId, newItemOptionId, orderCount)));
+
+		// then
+		assertThat(cartRepository.findAllByMemberId(memberId)).isEqualTo(List.of(changedCartDto));
+	}
 }
@@ -0,0 +1,69 @@
+package com.gabia.bshop.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gabia.bshop.config.ItemCacheProperties;
+import com.gabia.bshop.dto.CartItemDisplay;
+import com.gabia.bshop.dto.OrderItemDto;
+
+class CartItemDisplayCacheTest {
+
+	private final CartItemDisplay itemOneDisplay = new CartItemDisplay(1L, 10L, "옵션", "상품1", 1000, 0, "의류", "url");
+	private final CartItemDisplay itemTwoDisplay = new CartItemDisplay(2L, 20L, "옵션", "상품2", 2000, 0, "의류", "url");
+	private final List<OrderItemDto> orderItemDtoList = List.of(new OrderItemDto(1L, 10L, 1),
+		new OrderItemDto(2L, 20L, 1));
+
+	private CartItemDisplayCache cartItemDisplayCache;
+
+	@BeforeEach
+	void setUp() {
+		cartItemDisplayCache = new CartItemDisplayCache(new ItemCacheProperties());
+		cartItemDisplayCache.init();
+	}
+
+	@Test
+	@DisplayName("상품이 무효화되면 그 상품의 옵션만 캐시에서 빠진다")
+	void given_evictedItem_when_findAll_then_returnOnlyOtherItem() {
+		// given
+		cartItemDisplayCache.saveAll(List.of(itemOneDisplay, itemTwoDisplay), cartItemDisplayCache.getEvictionCount());
+
+		// when
+		cartItemDisplayCache.evictItem(1L);
+
+		// then
+		assertThat(cartItemDisplayCache.findAll(orderItemDtoList)).containsOnlyKeys(20L);
+	}
+
+	@Test
+	@DisplayName("DB를 읽는 사이에 무효화된 상품의 옵션은 저장해도 조회되지 않는다")
+	void given_evictedWhileReading_when_saveAll_then_ignoreEvictedItem() {
+		// given
+		final long readEvictionCount = cartItemDisplayCache.getEvictionCount();
+		cartItemDisplayCache.evictItem(1L);
+
+		// when
+		cartItemDisplayCache.saveAll(List.of(itemOneDisplay, itemTwoDisplay), readEvictionCount);
+
+		// then
+		assertThat(cartItemDisplayCache.findAll(orderItemDtoList)).containsOnlyKeys(20L);
+	}
+
+	@Test
+	@DisplayName("무효화된 뒤에 다시 읽은 옵션은 조회된다")
+	void given_readAfterEviction_when_saveAll_then_returnAll() {
+		// given
+		cartItemDisplayCache.evictItem(1L);
+
+		// when
+		cartItemDisplayCache.saveAll(List.of(itemOneDisplay, itemTwoDisplay), cartItemDisplayCache.getEvictionCount());
+
+		// then
+		assertThat(cartItemDisplayCache.findAll(orderItemDtoList)).containsOnlyKeys(10L, 20L);
+	}
+}
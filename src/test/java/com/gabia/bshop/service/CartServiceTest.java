@@ -3,10 +3,13 @@ package com.gabia.bshop.service;
 import static com.gabia.bshop.fixture.ItemOptionFixture.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,8 +17,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.CartItemDisplay;
+import com.gabia.bshop.dto.response.CartCheckoutLineResult;
 import com.gabia.bshop.dto.response.CartResponse;
 import com.gabia.bshop.entity.Category;
 import com.gabia.bshop.entity.Item;
@@ -48,6 +54,9 @@ class CartServiceTest {
 	@Mock
 	private ItemOptionRepository itemOptionRepository;
 
+	@Mock
+	private CartItemDisplayCache cartItemDisplayCache;
+
 	@Test
 	@DisplayName("장바구니를 저장한다")
 	void given_CartDto_when_save_then_return_savedCartDto() {
@@ -118,6 +127,51 @@ class CartServiceTest {
 		);
 	}
 
+	@Test
+	@DisplayName("여러 상품을 한 번에 장바구니에 담는다")
+	void given_CartDtoList_when_createCartList_then_saveAll() {
+		// given
+		final Category category = CategoryFixture.CATEGORY_1.getInstance();
+		final ItemOption itemOption1 = ITEM_OPTION_1.getInstance(itemOptionId,
+			ItemFixture.ITEM_1.getInstance(itemId, category));
+		final ItemOption itemOption2 = ITEM_OPTION_2.getInstance(newItemOptionId,
+			ItemFixture.ITEM_2.getInstance(newItemId, category));
+		final List<CartDto> cartDtoList = List.of(new CartDto(itemId, itemOptionId, orderCount),
+			new CartDto(newItemId, newItemOptionId, newOrderCount));
+		given(itemOptionRepository.findAllByItemIdsAndItemOptionIds(cartDtoList))
+			.willReturn(List.of(itemOption1, itemOption2));
+		given(cartRepository.saveAll(memberId, cartDtoList)).willReturn(cartDtoList);
+
+		// when
+		final List<CartDto> savedCartDtoList = cartService.createCartList(memberId, cartDtoList);
+
+		// then
+		assertAll(
+			() -> verify(itemOptionRepository, never()).existsByItem_IdAndIdAndStockQuantityIsGreaterThanEqual(any(),
+				any(), anyInt()),
+			() -> assertThat(savedCartDtoList).isEqualTo(cartDtoList)
+		);
+	}
+
+	@Test
+	@DisplayName("여러 상품을 담을 때 하나라도 없는 옵션이면 아무것도 담지 않고 예외를 던진다")
+	void given_InvalidItemOptionInList_when_createCartList_then_throw_exception() {
+		// given
+		final Category category = CategoryFixture.CATEGORY_1.getInstance();
+		final ItemOption itemOption1 = ITEM_OPTION_1.getInstance(itemOptionId,
+			ItemFixture.ITEM_1.getInstance(itemId, category));
+		final List<CartDto> cartDtoList = List.of(new CartDto(itemId, itemOptionId, orderCount),
+			new CartDto(newItemId, newItemOptionId, newOrderCount));
+		given(itemOptionRepository.findAllByItemIdsAndItemOptionIds(cartDtoList)).willReturn(List.of(itemOption1));
+
+		// when & then
+		assertAll(
+			() -> assertThatThrownBy(() -> cartService.createCartList(memberId, cartDtoList))
+				.isInstanceOf(NotFoundException.class),
+			() -> verify(cartRepository, never()).saveAll(any(), any())
+		);
+	}
+
 	@Test
 	@DisplayName("빈 장바구니를 조회하면 빈 장바구니를 반환한다")
 	void given_nothing_when_findAll_then_return_List_of_CartResponse() {
@@ -168,6 +222,57 @@ class CartServiceTest {
 		);
 	}
 
+	@Test
+	@DisplayName("캐시에 있는 상품 옵션은 재고만 DB에서 읽어 장바구니 정보를 반환한다")
+	void given_CachedCartItemDisplay_when_findAll_then_read_only_stockQuantity() {
+		// given
+		final CartDto cartDto = new CartDto(itemId, itemOptionId, orderCount);
+		final CartItemDisplay cartItemDisplay = new CartItemDisplay(itemId, itemOptionId, "아이템 옵션 1", "아이템 1",
+			10000, 1000, "카테고리 1", MINIO_PREFIX + "/thumbnail.png");
+		final int stockQuantity = 7;
+
+		given(cartRepository.findAllByMemberId(memberId)).willReturn(List.of(cartDto));
+		given(cartItemDisplayCache.findAll(List.of(cartDto)))
+			.willReturn(new HashMap<>(Map.of(itemOptionId, cartItemDisplay)));
+		given(itemOptionRepository.findStockQuantityMapByItemIdsAndItemOptionIds(List.of(cartDto)))
+			.willReturn(Map.of(itemOptionId, stockQuantity));
+
+		// when
+		final List<CartResponse> actual = cartService.findCartList(memberId);
+
+		// then
+		assertAll(
+			() -> assertThat(actual).containsExactly(new CartResponse(itemId, itemOptionId, orderCount,
+				cartItemDisplay.itemOptionDescription(), cartItemDisplay.itemName(), cartItemDisplay.basePrice(),
+				cartItemDisplay.optionPrice(), stockQuantity, cartItemDisplay.category(),
+				cartItemDisplay.itemThumbnailUrl())),
+			() -> verify(itemOptionRepository, never()).findAllByItemIdsAndItemOptionIds(any())
+		);
+	}
+
+	@Test
+	@DisplayName("장바구니 주문 전 확인에서 삭제된 상품은 없는 옵션으로, 재고가 모자란 줄은 재고 부족으로 표시한다")
+	void given_deletedItemAndShortStock_when_checkCartCheckoutLineList_then_lineResult() {
+		// given
+		final Category category = CategoryFixture.CATEGORY_1.getInstance();
+		final Item deletedItem = ItemFixture.ITEM_1.getInstance(itemId, category);
+		ReflectionTestUtils.setField(deletedItem, "deleted", true);
+		final ItemOption itemOption1 = ITEM_OPTION_1.getInstance(itemOptionId, deletedItem);
+		final ItemOption itemOption2 = ITEM_OPTION_2.getInstance(newItemOptionId,
+			ItemFixture.ITEM_2.getInstance(newItemId, category));
+		final List<CartDto> cartDtoList = List.of(new CartDto(itemId, itemOptionId, orderCount),
+			new CartDto(newItemId, newItemOptionId, itemOption2.getStockQuantity() + 1));
+		given(itemOptionRepository.findAllByItemIdsAndItemOptionIds(cartDtoList))
+			.willReturn(List.of(itemOption1, itemOption2));
+
+		// when
+		final List<CartCheckoutLineResult> actual = cartService.checkCartCheckoutLineList(cartDtoList);
+
+		// then
+		assertThat(actual).extracting(CartCheckoutLineResult::result).containsExactly(
+			CartCheckoutLineResult.Result.ITEM_OPTION_NOT_FOUND, CartCheckoutLineResult.Result.OUT_OF_STOCK);
+	}
+
 	@Test
 	@DisplayName("장바구니에 저장된 정보를 개별로 삭제한다")
 	void given_SavedItems_when_delete_then_return_void() {
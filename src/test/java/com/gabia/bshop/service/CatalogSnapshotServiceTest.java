@@ -0,0 +1,92 @@
+package com.gabia.bshop.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gabia.bshop.dto.CatalogSnapshot;
+import com.gabia.bshop.repository.CatalogVersionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSnapshotServiceTest {
+
+	@Mock
+	private CategoryService categoryService;
+
+	@Mock
+	private ItemService itemService;
+
+	@Mock
+	private CatalogVersionRepository catalogVersionRepository;
+
+	@InjectMocks
+	private CatalogSnapshotService catalogSnapshotService;
+
+	@Test
+	@DisplayName("카탈로그 버전이 그대로면 DB를 다시 읽지 않고 같은 스냅샷을 돌려준다")
+	void given_sameVersion_when_refresh_then_reuseSnapshot() {
+		// given
+		given(catalogVersionRepository.findVersion()).willReturn(1L);
+		given(categoryService.findCategoryNames()).willReturn(List.of("bags", "shoes"));
+		given(itemService.findItemYears()).willReturn(List.of(2023, 2022));
+		final CatalogSnapshot catalogSnapshot = catalogSnapshotService.getCatalogSnapshot();
+
+		// when
+		final CatalogSnapshot refreshedCatalogSnapshot = catalogSnapshotService.refresh();
+
+		// then
+		Assertions.assertThat(refreshedCatalogSnapshot).isSameAs(catalogSnapshot);
+		Assertions.assertThat(refreshedCatalogSnapshot.categoryNameList()).containsExactly("bags", "shoes");
+		verify(categoryService, times(1)).findCategoryNames();
+		verify(itemService, times(1)).findItemYears();
+	}
+
+	@Test
+	@DisplayName("카탈로그 버전이 올라가면 스냅샷을 다시 만들고 ETag 도 바뀐다")
+	void given_newVersion_when_refresh_then_rebuildSnapshot() {
+		// given
+		given(catalogVersionRepository.findVersion()).willReturn(1L, 2L);
+		given(categoryService.findCategoryNames()).willReturn(List.of("shoes"), List.of("bags", "shoes"));
+		given(itemService.findItemYears()).willReturn(List.of(2023));
+		final CatalogSnapshot catalogSnapshot = catalogSnapshotService.getCatalogSnapshot();
+
+		// when
+		final CatalogSnapshot refreshedCatalogSnapshot = catalogSnapshotService.refresh();
+
+		// then
+		Assertions.assertThat(refreshedCatalogSnapshot.version()).isEqualTo(2L);
+		Assertions.assertThat(refreshedCatalogSnapshot.categoryNameList()).containsExactly("bags", "shoes");
+		Assertions.assertThat(refreshedCatalogSnapshot.eTag()).isNotEqualTo(catalogSnapshot.eTag());
+		Assertions.assertThat(catalogSnapshotService.getCatalogSnapshot()).isSameAs(refreshedCatalogSnapshot);
+	}
+
+	@Test
+	@DisplayName("변경 메시지를 놓쳐도 확인 간격이 지나면 조회할 때 버전을 비교해 스냅샷을 다시 만든다")
+	void given_missedChangeMessage_when_getCatalogSnapshotAfterInterval_then_rebuildSnapshot() {
+		// given
+		given(catalogVersionRepository.findVersion()).willReturn(1L, 2L);
+		given(categoryService.findCategoryNames()).willReturn(List.of("shoes"), List.of("bags", "shoes"));
+		given(itemService.findItemYears()).willReturn(List.of(2023));
+		final CatalogSnapshot catalogSnapshot = catalogSnapshotService.getCatalogSnapshot();
+
+		// when
+		final CatalogSnapshot withinIntervalCatalogSnapshot = catalogSnapshotService.getCatalogSnapshot();
+		ReflectionTestUtils.setField(catalogSnapshotService, "versionCheckedAt", new AtomicLong());
+		final CatalogSnapshot afterIntervalCatalogSnapshot = catalogSnapshotService.getCatalogSnapshot();
+
+		// then
+		Assertions.assertThat(withinIntervalCatalogSnapshot).isSameAs(catalogSnapshot);
+		Assertions.assertThat(afterIntervalCatalogSnapshot.version()).isEqualTo(2L);
+		Assertions.assertThat(afterIntervalCatalogSnapshot.categoryNameList()).containsExactly("bags", "shoes");
+	}
+}
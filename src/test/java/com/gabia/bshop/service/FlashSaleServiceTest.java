@@ -0,0 +1,113 @@
+package com.gabia.bshop.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.entity.Category;
+import com.gabia.bshop.entity.Item;
+import com.gabia.bshop.entity.Reservation;
+import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.event.ItemChangedEvent;
+import com.gabia.bshop.fixture.CategoryFixture;
+import com.gabia.bshop.fixture.ItemFixture;
+import com.gabia.bshop.repository.FlashSaleRepository;
+import com.gabia.bshop.repository.ItemOptionRepository;
+import com.gabia.bshop.repository.ItemOptionStockRepository;
+import com.gabia.bshop.repository.ReservationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FlashSaleServiceTest {
+
+	@Mock
+	private ReservationRepository reservationRepository;
+
+	@Mock
+	private ItemOptionRepository itemOptionRepository;
+
+	@Mock
+	private ItemOptionStockRepository itemOptionStockRepository;
+
+	@Mock
+	private FlashSaleRepository flashSaleRepository;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@InjectMocks
+	private FlashSaleService flashSaleService;
+
+	@Test
+	@DisplayName("오픈 시각이 지난 예약 상품을 공개하고 예약을 지운다")
+	void given_openAtPassed_when_openFlashSale_then_updateItemStatus() {
+		// given
+		Item item = createReservedItem();
+		Reservation reservation = createReservation(item);
+		given(reservationRepository.findByItemId(item.getId())).willReturn(Optional.of(reservation));
+
+		// when
+		flashSaleService.openFlashSale(item.getId(), item.getOpenAt());
+
+		// then
+		verify(reservationRepository).updateAllItemStatusAndDeleteReservation(List.of(1L), List.of(item.getId()),
+			ItemStatus.PUBLIC);
+		verify(applicationEventPublisher).publishEvent(ItemChangedEvent.of(item.getId()));
+	}
+
+	@Test
+	@DisplayName("오픈 시각이 뒤로 바뀐 예약 상품은 공개하지 않는다")
+	void given_openAtChanged_when_openFlashSale_then_skip() {
+		// given
+		Item item = createReservedItem();
+		Reservation reservation = createReservation(item);
+		given(reservationRepository.findByItemId(item.getId())).willReturn(Optional.of(reservation));
+
+		// when
+		flashSaleService.openFlashSale(item.getId(), item.getOpenAt().minusSeconds(1));
+
+		// then
+		verify(reservationRepository, never()).updateAllItemStatusAndDeleteReservation(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("플래시 세일이 꺼져 있으면 Redis 를 조회하지 않는다")
+	void given_flashSaleDisabled_when_findFlashSaleRemainingTimeMap_then_empty() {
+		// when
+		Map<Long, Duration> remainingTimeMap = flashSaleService.findFlashSaleRemainingTimeMap(
+			List.of(new OrderItemDto(1L, 1L, 1)));
+
+		// then
+		Assertions.assertThat(remainingTimeMap).isEmpty();
+		verifyNoInteractions(flashSaleRepository);
+	}
+
+	private Item createReservedItem() {
+		Category category = CategoryFixture.CATEGORY_1.getInstance(1L);
+		return ItemFixture.ITEM_5.getInstance(5L, category);
+	}
+
+	private Reservation createReservation(final Item item) {
+		Reservation reservation = Reservation.builder().item(item).build();
+		ReflectionTestUtils.setField(reservation, "id", 1L);
+		return reservation;
+	}
+}
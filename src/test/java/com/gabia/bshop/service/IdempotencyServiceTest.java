@@ -0,0 +1,197 @@
+package com.gabia.bshop.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabia.bshop.config.IdempotencyProperties;
+import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.IdempotencyRecord;
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.exception.ConflictException;
+import com.gabia.bshop.repository.IdempotencyRepository;
+import com.gabia.bshop.util.RedisValueSupport;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+	private static final String SCOPE = "carts";
+	private static final String IDEMPOTENCY_KEY = "retry-key";
+	private static final String KEY = "carts:memberId-1:retry-key";
+
+	private final CartDto cartDto = new CartDto(1L, 1L, 2);
+
+	@Mock
+	private IdempotencyRepository idempotencyRepository;
+
+	@Spy
+	private RedisValueSupport redisValueSupport = new RedisValueSupport(new ObjectMapper());
+
+	@Spy
+	private IdempotencyProperties idempotencyProperties = new IdempotencyProperties();
+
+	@InjectMocks
+	private IdempotencyService idempotencyService;
+
+	@Test
+	@DisplayName("Idempotency-Key가 없으면 매번 요청을 처리한다")
+	void given_noKey_when_execute_then_runAction() {
+		// when
+		CartDto response = idempotencyService.execute(1L, SCOPE, null, cartDto, CartDto.class, () -> cartDto);
+
+		// then
+		assertThat(response).isEqualTo(cartDto);
+		verifyNoInteractions(idempotencyRepository);
+	}
+
+	@Test
+	@DisplayName("처음 들어온 요청은 처리한 뒤 응답을 저장한다")
+	void given_firstRequest_when_execute_then_saveResponse() {
+		// given
+		given(idempotencyRepository.saveIfAbsent(eq(KEY), any(), anyLong())).willReturn(true);
+
+		// when
+		CartDto response = idempotencyService.execute(1L, SCOPE, IDEMPOTENCY_KEY, cartDto, CartDto.class,
+			() -> cartDto);
+
+		// then
+		ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+		verify(idempotencyRepository).save(eq(KEY), captor.capture(), anyLong());
+		assertThat(response).isEqualTo(cartDto);
+		assertThat(redisValueSupport.readValue(captor.getValue().response(), CartDto.class)).isEqualTo(cartDto);
+	}
+
+	@Test
+	@DisplayName("처리 중 표시는 짧게 유지하고 처리가 끝난 응답만 긴 시간 동안 보관한다")
+	void given_firstRequest_when_execute_then_keepProcessingMarkerShorterThanResponse() {
+		// given
+		given(idempotencyRepository.saveIfAbsent(eq(KEY), any(), anyLong())).willReturn(true);
+
+		// when
+		idempotencyService.execute(1L, SCOPE, IDEMPOTENCY_KEY, cartDto, CartDto.class, () -> cartDto);
+
+		// then
+		final long processingExpiredTime = idempotencyProperties.getProcessingExpiredTime();
+		final long expiredTime = idempotencyProperties.getExpiredTime();
+		verify(idempotencyRepository).saveIfAbsent(eq(KEY), any(), eq(processingExpiredTime));
+		verify(idempotencyRepository).save(eq(KEY), any(), eq(expiredTime));
+	}
+
+	@Test
+	@DisplayName("처리하던 노드가 죽어 처리 중 표시가 남아도 표시가 만료되면 재시도가 요청을 처리한다")
+	void given_processingMarkerExpired_when_execute_then_runAction() {
+		// given
+		IdempotencyRecord completed = completedRecord(cartDto);
+		given(idempotencyRepository.saveIfAbsent(eq(KEY), any(), anyLong())).willReturn(false, true);
+		given(idempotencyRepository.findByKey(KEY)).willReturn(
+			Optional.of(new IdempotencyRecord(completed.requestHash(), null)));
+		AtomicInteger executedCount = new AtomicInteger();
+
+		// when
+		CartDto response = idempotencyService.execute(1L, SCOPE, IDEMPOTENCY_KEY, cartDto, CartDto.class, () -> {
+			executedCount.incrementAndGet();
+			return cartDto;
+		});
+
+		// then
+		assertThat(response).isEqualTo(cartDto);
+		assertThat(executedCount).hasValue(1);
+		verify(idempotencyRepository).save(eq(KEY), any(), anyLong());
+	}
+
+	@Test
+	@DisplayName("처리가 끝난 키로 재시도하면 요청을 다시 처리하지 않고 저장된 응답을 돌려준다")
+	void given_completedKey_when_execute_then_replayResponse() {
+		// given
+		IdempotencyRecord completed = completedRecord(cartDto);
+		given(idempotencyRepository.saveIfAbsent(eq(KEY), any(), anyLong())).willReturn(false);
+		given(idempotencyRepository.findByKey(KEY)).willReturn(Optional.of(completed));
+		AtomicInteger executedCount = new AtomicInteger();
+
+		// when
+		CartDto response = idempotencyService.execute(1L, SCOPE, IDEMPOTENCY_KEY, cartDto, CartDto.class, () -> {
+			executedCount.incrementAndGet();
+			return cartDto;
+		});
+
+		// then
+		assertThat(response).isEqualTo(cartDto);
+		assertThat(executedCount).hasValue(0);
+	}
+
+	@Test
+	@DisplayName("처리 중인 키로 재시도하면 먼저 온 요청의 결과를 기다린다")
+	void given_processingKey_when_execute_then_waitResponse() {
+		// given
+		IdempotencyRecord completed = completedRecord(cartDto);
+		given(idempotencyRepository.saveIfAbsent(eq(KEY), any(), anyLong())).willReturn(false);
+		given(idempotencyRepository.findByKey(KEY)).willReturn(
+			Optional.of(new IdempotencyRecord(completed.requestHash(), null)), Optional.of(completed));
+
+		// when
+		CartDto response = idempotencyService.execute(1L, SCOPE, IDEMPOTENCY_KEY, cartDto, CartDto.class,
+			() -> cartDto);
+
+		// then
+		assertThat(response).isEqualTo(cartDto);
+		verify(idempotencyRepository, times(2)).findByKey(KEY);
+	}
+
+	@Test
+	@DisplayName("같은 키로 다른 요청을 보내면 예외가 발생한다")
+	void given_differentRequest_when_execute_then_conflict() {
+		// given
+		IdempotencyRecord completed = completedRecord(new CartDto(1L, 1L, 5));
+		given(idempotencyRepository.saveIfAbsent(eq(KEY), any(), anyLong())).willReturn(false);
+		given(idempotencyRepository.findByKey(KEY)).willReturn(Optional.of(completed));
+
+		// when & then
+		assertThatThrownBy(() -> idempotencyService.execute(1L, SCOPE, IDEMPOTENCY_KEY, cartDto, CartDto.class,
+			() -> cartDto))
+			.isInstanceOf(ConflictException.class);
+	}
+
+	@Test
+	@DisplayName("요청 처리에 실패하면 처리 중 표시를 지워 같은 키로 다시 시도할 수 있게 한다")
+	void given_actionFailed_when_execute_then_deleteKey() {
+		// given
+		given(idempotencyRepository.saveIfAbsent(eq(KEY), any(), anyLong())).willReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> idempotencyService.execute(1L, SCOPE, IDEMPOTENCY_KEY, cartDto, CartDto.class,
+			() -> {
+				throw new IllegalStateException();
+			}))
+			.isInstanceOf(IllegalStateException.class);
+		verify(idempotencyRepository).delete(KEY);
+		verify(idempotencyRepository, never()).save(any(), any(), anyLong());
+	}
+
+	@Test
+	@DisplayName("너무 긴 Idempotency-Key는 허용하지 않는다")
+	void given_tooLongKey_when_execute_then_badRequest() {
+		assertThatThrownBy(() -> idempotencyService.execute(1L, SCOPE, "k".repeat(101), cartDto, CartDto.class,
+			() -> cartDto))
+			.isInstanceOf(BadRequestException.class);
+	}
+
+	private IdempotencyRecord completedRecord(final CartDto request) {
+		String requestHash = DigestUtils.md5DigestAsHex(
+			redisValueSupport.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+		return new IdempotencyRecord(requestHash, redisValueSupport.writeValueAsString(cartDto));
+	}
+}
@@ -0,0 +1,108 @@
+package com.gabia.bshop.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gabia.bshop.config.ItemCacheProperties;
+import com.gabia.bshop.dto.ItemCacheEntry;
+import com.gabia.bshop.dto.ItemOptionDto;
+import com.gabia.bshop.dto.response.ItemResponse;
+import com.gabia.bshop.repository.ItemCacheRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ItemFacadeTest {
+
+	private final Long itemId = 1L;
+	private final ItemResponse itemResponse = ItemResponse.builder()
+		.itemId(itemId)
+		.name("item")
+		.itemOptionDtoList(List.of(new ItemOptionDto(10L, "option", 0, 5)))
+		.build();
+
+	@Mock
+	private ItemService itemService;
+
+	@Mock
+	private ItemOptionService itemOptionService;
+
+	@Mock
+	private ItemListingService itemListingService;
+
+	@Mock
+	private ItemCacheRepository itemCacheRepository;
+
+	@Spy
+	private ItemCacheProperties itemCacheProperties = new ItemCacheProperties();
+
+	@InjectMocks
+	private ItemFacade itemFacade;
+
+	@BeforeEach
+	void setUp() {
+		itemFacade.init();
+	}
+
+	@Test
+	@DisplayName("공유 캐시에 없는 상품은 DB에서 읽어 현재 번호로 저장하고, 다음 조회는 로컬 캐시에서 읽는다")
+	void given_cacheMiss_when_findItem_then_loadAndCache() {
+		// given
+		given(itemCacheRepository.findByItemId(itemId)).willReturn(new ItemCacheEntry(3L, null));
+		given(itemService.findItem(itemId)).willReturn(itemResponse);
+		given(itemOptionService.findStockQuantityMap(itemId)).willReturn(Map.of(10L, 5));
+
+		// when
+		itemFacade.findItem(itemId);
+		itemFacade.findItem(itemId);
+
+		// then
+		verify(itemService, times(1)).findItem(itemId);
+		verify(itemCacheRepository, times(1)).findByItemId(itemId);
+		verify(itemCacheRepository).save(itemId, new ItemCacheEntry(3L, itemResponse), Duration.ofMinutes(10));
+	}
+
+	@Test
+	@DisplayName("캐시된 상품의 재고는 DB 재고로 덮어쓴다")
+	void given_cachedItem_when_findItem_then_overlayStockQuantity() {
+		// given
+		given(itemCacheRepository.findByItemId(itemId)).willReturn(new ItemCacheEntry(0L, itemResponse));
+		given(itemOptionService.findStockQuantityMap(itemId)).willReturn(Map.of(10L, 0));
+
+		// when
+		ItemResponse response = itemFacade.findItem(itemId);
+
+		// then
+		Assertions.assertThat(response.itemOptionDtoList()).extracting(ItemOptionDto::stockQuantity)
+			.containsExactly(0);
+		verify(itemService, never()).findItem(itemId);
+	}
+
+	@Test
+	@DisplayName("무효화된 상품은 로컬 캐시에서도 지워져 다시 공유 캐시를 읽는다")
+	void given_evictedItem_when_findItem_then_readSharedCacheAgain() {
+		// given
+		given(itemCacheRepository.findByItemId(itemId)).willReturn(new ItemCacheEntry(0L, itemResponse));
+		given(itemOptionService.findStockQuantityMap(itemId)).willReturn(Map.of());
+		itemFacade.findItem(itemId);
+
+		// when
+		itemFacade.evictItem(itemId);
+		itemFacade.findItem(itemId);
+
+		// then
+		verify(itemCacheRepository).evict(itemId, Duration.ofMinutes(10));
+		verify(itemCacheRepository, times(2)).findByItemId(itemId);
+	}
+}
@@ -0,0 +1,62 @@
+package com.gabia.bshop.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gabia.bshop.dto.ItemListingSourceDto;
+import com.gabia.bshop.entity.ItemListing;
+import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.repository.ItemListingRepository;
+import com.gabia.bshop.repository.ItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ItemListingServiceTest {
+
+	@Mock
+	private ItemListingRepository itemListingRepository;
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@InjectMocks
+	private ItemListingService itemListingService;
+
+	@Test
+	@DisplayName("이미 있는 상품 목록 행은 원본 값으로 고치고, 없는 행은 새로 저장한다")
+	void given_existingAndNewItem_when_refreshItemListing_then_updateAndSave() {
+		// given
+		final ItemListing savedItemListing = ItemListing.from(createItemListingSourceDto(1L, "old", 10));
+		given(itemListingRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(savedItemListing));
+		given(itemRepository.findItemListingSourceList(List.of(1L, 2L))).willReturn(List.of(
+			createItemListingSourceDto(1L, "new", 0),
+			createItemListingSourceDto(2L, "item2", 3)));
+
+		// when
+		itemListingService.refreshItemListing(List.of(1L, 2L));
+
+		// then
+		final ArgumentCaptor<ItemListing> itemListingCaptor = ArgumentCaptor.forClass(ItemListing.class);
+		verify(itemListingRepository).save(itemListingCaptor.capture());
+		Assertions.assertThat(savedItemListing.getName()).isEqualTo("new");
+		Assertions.assertThat(savedItemListing.isAvailable()).isFalse();
+		Assertions.assertThat(itemListingCaptor.getValue().getItemId()).isEqualTo(2L);
+		Assertions.assertThat(itemListingCaptor.getValue().isAvailable()).isTrue();
+	}
+
+	private ItemListingSourceDto createItemListingSourceDto(final Long itemId, final String name,
+		final int maxStockQuantity) {
+		return new ItemListingSourceDto(itemId, 1L, "category", name, "description", 10000, "thumbnail",
+			ItemStatus.PUBLIC, 2023, LocalDateTime.now(), false, 0, 1000, maxStockQuantity);
+	}
+}
@@ -15,12 +15,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.gabia.bshop.dto.request.ItemOptionRequest;
 import com.gabia.bshop.dto.response.ItemOptionResponse;
 import com.gabia.bshop.entity.Category;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.ItemOption;
+import com.gabia.bshop.event.ItemOptionStockChangedEvent;
 import com.gabia.bshop.exception.NotFoundException;
 import com.gabia.bshop.fixture.CategoryFixture;
 import com.gabia.bshop.fixture.ItemFixture;
@@ -35,6 +37,8 @@ class ItemOptionServiceTest {
 	private ItemRepository itemRepository;
 	@Mock
 	private ItemOptionRepository itemOptionRepository;
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@InjectMocks
 	private ItemOptionService itemOptionService;
@@ -173,7 +177,9 @@ class ItemOptionServiceTest {
 		// then
 		assertAll(
 			() -> assertThat(actual).usingRecursiveComparison().isEqualTo(changeditemOptionResponse),
-			() -> verify(itemOptionRepository).findByIdAndItemIdWithLock(beforeItemOption.getId(), item1.getId())
+			() -> verify(itemOptionRepository).findByIdAndItemIdWithLock(beforeItemOption.getId(), item1.getId()),
+			() -> verify(applicationEventPublisher).publishEvent(
+				new ItemOptionStockChangedEvent(beforeItemOption.getId()))
 		);
 	}
 
@@ -0,0 +1,72 @@
+package com.gabia.bshop.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gabia.bshop.dto.ItemSearchDocument;
+import com.gabia.bshop.repository.ItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchServiceTest {
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@InjectMocks
+	private ItemSearchService itemSearchService;
+
+	@Test
+	@DisplayName("검색어에 맞는 후보가 1000개 이하이면 색인으로 찾은 상품 ID를 모두 돌려준다")
+	void given_candidatesWithinLimit_when_searchItemIdList_then_returnAllCandidates() {
+		// given
+		given(itemRepository.findItemSearchDocumentList()).willReturn(searchDocumentList(1000));
+		itemSearchService.buildIndex();
+
+		// when & then
+		assertThat(itemSearchService.searchItemIdList("노트북")).hasValueSatisfying(
+			itemIdList -> assertThat(itemIdList).hasSize(1000));
+	}
+
+	@Test
+	@DisplayName("검색어에 맞는 후보가 1000개를 넘으면 카테고리, 연도 필터에 맞는 상품이 잘리지 않도록 DB 검색으로 넘긴다")
+	void given_candidatesOverLimit_when_searchItemIdList_then_empty() {
+		// given
+		given(itemRepository.findItemSearchDocumentList()).willReturn(searchDocumentList(1001));
+		itemSearchService.buildIndex();
+
+		// when & then
+		assertThat(itemSearchService.searchItemIdList("노트북")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("색인을 다시 만들면 변경 메시지를 놓쳐 남아 있던 상품이 검색되지 않는다")
+	void given_staleItem_when_buildIndex_then_removeStaleItem() {
+		// given
+		given(itemRepository.findItemSearchDocumentList()).willReturn(
+			List.of(new ItemSearchDocument(1L, "노트북", ""), new ItemSearchDocument(2L, "노트북 가방", "")),
+			List.of(new ItemSearchDocument(1L, "노트북", "")));
+		itemSearchService.buildIndex();
+
+		// when
+		itemSearchService.buildIndex();
+
+		// then
+		assertThat(itemSearchService.searchItemIdList("노트북")).hasValue(List.of(1L));
+	}
+
+	private List<ItemSearchDocument> searchDocumentList(final int size) {
+		return LongStream.rangeClosed(1, size)
+			.mapToObj(id -> new ItemSearchDocument(id, "노트북 " + id, "가벼운 노트북"))
+			.toList();
+	}
+}
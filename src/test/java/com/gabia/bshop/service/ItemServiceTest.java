@@ -8,8 +8,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -18,26 +20,41 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import com.gabia.bshop.config.ImageDefaultProperties;
+import com.gabia.bshop.dto.ItemCursor;
+import com.gabia.bshop.dto.ItemFacetCountDto;
 import com.gabia.bshop.dto.ItemImageDto;
+import com.gabia.bshop.dto.ItemListingSourceDto;
 import com.gabia.bshop.dto.ItemOptionDto;
+import com.gabia.bshop.dto.request.CursorPageRequest;
 import com.gabia.bshop.dto.request.ItemCreateRequest;
+import com.gabia.bshop.dto.request.ItemSortKey;
 import com.gabia.bshop.dto.request.ItemUpdateRequest;
+import com.gabia.bshop.dto.response.CategoryFacetResponse;
+import com.gabia.bshop.dto.response.CursorPageResponse;
+import com.gabia.bshop.dto.response.ItemFacetSearchResponse;
 import com.gabia.bshop.dto.response.ItemPageResponse;
 import com.gabia.bshop.dto.response.ItemResponse;
+import com.gabia.bshop.dto.response.YearFacetResponse;
 import com.gabia.bshop.dto.searchConditions.ItemSearchConditions;
 import com.gabia.bshop.entity.Category;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.ItemImage;
+import com.gabia.bshop.entity.ItemListing;
 import com.gabia.bshop.entity.ItemOption;
+import com.gabia.bshop.entity.enumtype.ItemStatus;
+import com.gabia.bshop.exception.BadRequestException;
 import com.gabia.bshop.exception.NotFoundException;
 import com.gabia.bshop.mapper.ItemMapper;
 import com.gabia.bshop.repository.CategoryRepository;
+import com.gabia.bshop.repository.ItemListingRepository;
 import com.gabia.bshop.repository.ItemRepository;
 import com.gabia.bshop.util.ImageValidator;
 
@@ -52,6 +69,12 @@ class ItemServiceTest {
 	private ImageDefaultProperties imageDefaultProperties;
 	@Mock
 	private ImageValidator imageValidator;
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+	@Mock
+	private ItemSearchService itemSearchService;
+	@Mock
+	private ItemListingRepository itemListingRepository;
 
 	@InjectMocks
 	private ItemService itemService;
@@ -74,7 +97,7 @@ class ItemServiceTest {
 	}
 
 	@Test
-	@DisplayName("검색 조건 없이 게시글을 검색하면 게시글 페이지를 반환한다")
+	@DisplayName("검색 조건 없이 게시글을 검색하면 상품 목록 읽기 모델에서 게시글 페이지를 반환한다")
 	void findItemListWithoutSearchConditions() {
 		// given
 		Category category = CATEGORY_1.getInstance(1L);
@@ -84,14 +107,18 @@ class ItemServiceTest {
 		Item item4 = ITEM_4.getInstance(4L, category);
 		Item item5 = ITEM_5.getInstance(5L, category);
 
-		List<Item> expectedItemList = List.of(item1, item2, item3, item4, item5);
-		List<ItemPageResponse> expected = expectedItemList.stream()
-			.map(ItemMapper.INSTANCE::itemToItemPageResponse)
+		List<ItemListing> expectedItemListingList = Stream.of(item1, item2, item3, item4, item5)
+			.map(item -> ItemListing.from(new ItemListingSourceDto(item.getId(), category.getId(), category.getName(),
+				item.getName(), item.getDescription(), item.getBasePrice(), item.getThumbnail(), item.getItemStatus(),
+				item.getYear(), item.getOpenAt(), false, 0, 1000, 10)))
+			.toList();
+		List<ItemPageResponse> expected = expectedItemListingList.stream()
+			.map(ItemMapper.INSTANCE::itemListingToItemPageResponse)
 			.toList();
 
 		Pageable pageable = PageRequest.ofSize(12);
-		when(itemRepository.findItemListByItemSearchConditions(pageable, null))
-			.thenReturn(new PageImpl<>(expectedItemList, pageable, 5));
+		when(itemListingRepository.findItemListingListByItemSearchConditions(pageable, null))
+			.thenReturn(new PageImpl<>(expectedItemListingList, pageable, 5));
 
 		// when
 		Page<ItemPageResponse> itemPageResponsePage = itemService.findItemListByItemSearchConditions(pageable,
@@ -99,6 +126,162 @@ class ItemServiceTest {
 
 		// then
 		assertThat(itemPageResponsePage.getContent()).usingRecursiveComparison().isEqualTo(expected);
+		assertThat(itemPageResponsePage.getContent()).extracting(ItemPageResponse::available).containsOnly(true);
+		verify(itemRepository, never()).findItemContentListByItemSearchConditions(any(), any());
+	}
+
+	@Test
+	@DisplayName("상품명으로 검색하면 검색 색인이 고른 상품을 관련도 순으로 반환한다")
+	void findItemListWithItemName() {
+		// given
+		Category category = CATEGORY_1.getInstance(1L);
+		ItemListing itemListing1 = ItemListing.from(new ItemListingSourceDto(1L, category.getId(),
+			category.getName(), "item1", "description", 10000, "thumbnail", ItemStatus.PUBLIC, 2023,
+			LocalDateTime.now(), false, null, null, null));
+		ItemListing itemListing2 = ItemListing.from(new ItemListingSourceDto(2L, category.getId(),
+			category.getName(), "item2", "description", 20000, "thumbnail", ItemStatus.PUBLIC, 2023,
+			LocalDateTime.now(), false, null, null, null));
+
+		Pageable pageable = PageRequest.ofSize(12);
+		ItemSearchConditions itemSearchConditions = new ItemSearchConditions(null, "item", null);
+		when(itemSearchService.searchItemIdList("item")).thenReturn(Optional.of(List.of(2L, 1L)));
+		when(itemListingRepository.findItemListingListByRankedItemIdList(pageable, itemSearchConditions,
+			List.of(2L, 1L))).thenReturn(new PageImpl<>(List.of(itemListing2, itemListing1), pageable, 2));
+
+		// when
+		Page<ItemPageResponse> itemPageResponsePage = itemService.findItemListByItemSearchConditions(pageable,
+			itemSearchConditions);
+
+		// then
+		assertThat(itemPageResponsePage.getContent()).extracting(ItemPageResponse::itemId).containsExactly(2L, 1L);
+		verify(itemListingRepository, never()).findItemListingListByItemSearchConditions(any(), any());
+	}
+
+	@Test
+	@DisplayName("검색 후보가 너무 많은 상품명과 카테고리로 검색하면 후보를 자르지 않고 DB에서 모든 조건을 함께 적용한다")
+	void findItemListWithBroadItemNameAndCategory() {
+		// given
+		Category category = CATEGORY_1.getInstance(1L);
+		ItemListing itemListing = ItemListing.from(new ItemListingSourceDto(1500L, category.getId(),
+			category.getName(), "item1500", "description", 10000, "thumbnail", ItemStatus.PUBLIC, 2023,
+			LocalDateTime.now(), false, null, null, null));
+
+		Pageable pageable = PageRequest.ofSize(12);
+		ItemSearchConditions itemSearchConditions = new ItemSearchConditions(category.getName(), "item", null);
+		when(itemSearchService.searchItemIdList("item")).thenReturn(Optional.empty());
+		when(itemListingRepository.findItemListingListByItemSearchConditions(pageable, itemSearchConditions))
+			.thenReturn(new PageImpl<>(List.of(itemListing), pageable, 1));
+
+		// when
+		Page<ItemPageResponse> itemPageResponsePage = itemService.findItemListByItemSearchConditions(pageable,
+			itemSearchConditions);
+
+		// then
+		assertThat(itemPageResponsePage.getContent()).extracting(ItemPageResponse::itemId).containsExactly(1500L);
+		verify(itemListingRepository, never()).findItemListingListByRankedItemIdList(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("가격순 커서 조회는 한 건 더 읽어 다음 페이지를 판단하고 마지막 상품의 (가격, id) 로 다음 커서를 만든다")
+	void findItemCursorList() {
+		// given
+		Category category = CATEGORY_1.getInstance(1L);
+		Item item1 = ITEM_1.getInstance(1L, category);
+		Item item2 = ITEM_2.getInstance(2L, category);
+		Item item3 = ITEM_3.getInstance(3L, category);
+
+		ItemSearchConditions itemSearchConditions = new ItemSearchConditions(null, null, null);
+		CursorPageRequest cursorPageRequest = new CursorPageRequest(null, 2, null);
+		when(itemRepository.findItemListAfterCursor(itemSearchConditions, null, false, ItemSortKey.BASE_PRICE,
+			Sort.Direction.ASC, null, 3)).thenReturn(List.of(item1, item2, item3));
+
+		// when
+		CursorPageResponse<ItemPageResponse> cursorPageResponse = itemService.findItemCursorList(
+			itemSearchConditions, ItemSortKey.BASE_PRICE, Sort.Direction.ASC, cursorPageRequest);
+
+		// then
+		ItemCursor nextCursor = ItemCursor.decode(cursorPageResponse.nextCursor(), ItemSortKey.BASE_PRICE,
+			Sort.Direction.ASC);
+		assertAll(
+			() -> assertThat(cursorPageResponse.contents()).extracting(ItemPageResponse::itemId).containsExactly(1L, 2L),
+			() -> assertThat(cursorPageResponse.hasNext()).isTrue(),
+			() -> assertThat(cursorPageResponse.totalCount()).isNull(),
+			() -> assertThat(nextCursor.basePrice()).isEqualTo(item2.getBasePrice()),
+			() -> assertThat(nextCursor.id()).isEqualTo(2L));
+		verify(itemRepository, never()).countByItemSearchConditions(any(), any(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("다른 정렬로 받은 커서로 조회하면 예외가 발생한다")
+	void findItemCursorListWithOtherSortCursor() {
+		// given
+		String cursor = new ItemCursor(ItemSortKey.ID, Sort.Direction.ASC, null, null, 1L).encode();
+		CursorPageRequest cursorPageRequest = new CursorPageRequest(cursor, 2, null);
+
+		// when & then
+		assertThatThrownBy(() -> itemService.findItemCursorList(new ItemSearchConditions(null, null, null),
+			ItemSortKey.OPEN_AT, Sort.Direction.ASC, cursorPageRequest))
+			.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	@DisplayName("필터 검색을 하면 카테고리 상품 수는 연도 필터만, 연도별 상품 수는 카테고리 필터만 적용해 반환한다")
+	void findItemFacetSearch() {
+		// given
+		Category category = CATEGORY_1.getInstance(1L);
+		Item item1 = ITEM_1.getInstance(1L, category);
+		Item item2 = ITEM_2.getInstance(2L, category);
+
+		Pageable pageable = PageRequest.ofSize(2);
+		ItemSearchConditions itemSearchConditions = new ItemSearchConditions("shoes", null, 2023);
+		when(itemRepository.findItemFacetCountList(null, null)).thenReturn(List.of(
+			new ItemFacetCountDto(1L, "shoes", 2023, 3),
+			new ItemFacetCountDto(1L, "shoes", 2022, 2),
+			new ItemFacetCountDto(2L, "bags", 2023, 4)));
+		when(itemRepository.findItemContentListByItemSearchConditions(pageable, itemSearchConditions))
+			.thenReturn(List.of(item1, item2));
+
+		// when
+		ItemFacetSearchResponse itemFacetSearchResponse = itemService.findItemFacetSearch(pageable,
+			itemSearchConditions);
+
+		// then
+		assertThat(itemFacetSearchResponse.itemPage().getTotalElements()).isEqualTo(3);
+		assertThat(itemFacetSearchResponse.categoryFacetList()).containsExactly(
+			new CategoryFacetResponse(2L, "bags", 4),
+			new CategoryFacetResponse(1L, "shoes", 3));
+		assertThat(itemFacetSearchResponse.yearFacetList()).containsExactly(
+			new YearFacetResponse(2023, 3),
+			new YearFacetResponse(2022, 2));
+		verify(itemRepository, never()).findItemListByRankedItemIdList(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("빈 카테고리 이름으로 필터 검색을 하면 상품 조회처럼 카테고리 조건이 없는 것으로 보고 상품 수를 센다")
+	void findItemFacetSearchWithBlankCategoryName() {
+		// given
+		Category category = CATEGORY_1.getInstance(1L);
+		Item item1 = ITEM_1.getInstance(1L, category);
+		Item item2 = ITEM_2.getInstance(2L, category);
+
+		Pageable pageable = PageRequest.ofSize(2);
+		ItemSearchConditions itemSearchConditions = new ItemSearchConditions("", null, null);
+		when(itemRepository.findItemFacetCountList(null, null)).thenReturn(List.of(
+			new ItemFacetCountDto(1L, "shoes", 2023, 3),
+			new ItemFacetCountDto(1L, "shoes", 2022, 2),
+			new ItemFacetCountDto(2L, "bags", 2023, 4)));
+		when(itemRepository.findItemContentListByItemSearchConditions(pageable, itemSearchConditions))
+			.thenReturn(List.of(item1, item2));
+
+		// when
+		ItemFacetSearchResponse itemFacetSearchResponse = itemService.findItemFacetSearch(pageable,
+			itemSearchConditions);
+
+		// then
+		assertThat(itemFacetSearchResponse.itemPage().getTotalElements()).isEqualTo(9);
+		assertThat(itemFacetSearchResponse.yearFacetList()).containsExactly(
+			new YearFacetResponse(2023, 7),
+			new YearFacetResponse(2022, 2));
 	}
 
 	@Test
@@ -0,0 +1,52 @@
+package com.gabia.bshop.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.repository.OrderArchiveRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiveServiceTest {
+
+	@Mock
+	private OrderArchiveRepository orderArchiveRepository;
+
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@InjectMocks
+	private OrderArchiveService orderArchiveService;
+
+	@Test
+	@DisplayName("보관 기간이 지난 주문을 chunk-size 만큼 찾아서 보관 테이블로 옮긴다")
+	void given_oldOrders_when_archiveOrderChunk_then_moveChunk() {
+		// given
+		orderProperties.getArchive().setChunkSize(2);
+		orderProperties.getArchive().setHorizon(Duration.ofDays(30));
+		LocalDateTime now = LocalDateTime.of(2023, 3, 31, 4, 0);
+		LocalDateTime archiveBefore = orderArchiveService.getArchiveBefore(now);
+		given(orderArchiveRepository.findOrderIdListCreatedBefore(archiveBefore, 2)).willReturn(List.of(1L, 2L));
+		given(orderArchiveRepository.moveToArchive(List.of(1L, 2L))).willReturn(2);
+
+		// when
+		int movedCount = orderArchiveService.archiveOrderChunk(archiveBefore);
+
+		// then
+		Assertions.assertThat(archiveBefore).isEqualTo(LocalDateTime.of(2023, 3, 1, 4, 0));
+		Assertions.assertThat(movedCount).isEqualTo(2);
+		verify(orderArchiveRepository).moveToArchive(List.of(1L, 2L));
+	}
+}
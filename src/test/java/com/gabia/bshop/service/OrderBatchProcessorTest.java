@@ -0,0 +1,145 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderBatchResult;
+import com.gabia.bshop.dto.OrderCreateCommand;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.request.OrderCreateRequest;
+import com.gabia.bshop.dto.response.OrderCreateResponse;
+import com.gabia.bshop.exception.ConflictException;
+import com.gabia.bshop.exception.InternalServerException;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBatchProcessorTest {
+
+	private final OrderCreateRequest orderCreateRequest = new OrderCreateRequest(
+		List.of(new OrderItemDto(1L, 1L, 1)));
+
+	@Mock
+	private OrderService orderService;
+
+	@Mock
+	private StockGateService stockGateService;
+
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@InjectMocks
+	private OrderBatchProcessor orderBatchProcessor;
+
+	@AfterEach
+	void tearDown() {
+		orderBatchProcessor.stop();
+	}
+
+	@Test
+	@DisplayName("결과를 기다리다 시간이 지난 주문은 배치에 넣지 않는다")
+	void given_timedOutOrder_when_process_then_skipOrder() {
+		// given
+		final OrderCreateCommand timedOutCommand = new OrderCreateCommand(1L, orderCreateRequest);
+		final OrderCreateCommand waitingCommand = new OrderCreateCommand(2L, orderCreateRequest);
+		final CompletableFuture<OrderCreateResponse> timedOutFuture = new CompletableFuture<>();
+		timedOutFuture.completeExceptionally(new InternalServerException(ORDER_BATCH_TIMEOUT_EXCEPTION));
+		final CompletableFuture<OrderCreateResponse> waitingFuture = new CompletableFuture<>();
+		final OrderCreateResponse orderCreateResponse = OrderCreateResponse.builder().id(1L).memberId(2L).build();
+		given(orderService.createOrderList(List.of(waitingCommand)))
+			.willReturn(List.of(OrderBatchResult.success(orderCreateResponse)));
+
+		// when
+		orderBatchProcessor.process(List.of(
+			new OrderBatchProcessor.PendingOrder(timedOutCommand, timedOutFuture, List.of()),
+			new OrderBatchProcessor.PendingOrder(waitingCommand, waitingFuture, List.of())));
+
+		// then
+		assertThat(waitingFuture.join()).isEqualTo(orderCreateResponse);
+	}
+
+	@Test
+	@DisplayName("기다리다 시간이 지나 배치에 넣지 않은 주문의 게이트 재고는 배치가 되돌린다")
+	void given_timedOutOrder_when_process_then_releaseReservedStock() {
+		// given
+		final List<OrderItemDto> reservedItemList = orderCreateRequest.orderItemDtoList();
+		final CompletableFuture<OrderCreateResponse> timedOutFuture = new CompletableFuture<>();
+		timedOutFuture.completeExceptionally(new InternalServerException(ORDER_BATCH_TIMEOUT_EXCEPTION));
+
+		// when
+		orderBatchProcessor.process(List.of(new OrderBatchProcessor.PendingOrder(
+			new OrderCreateCommand(1L, orderCreateRequest), timedOutFuture, reservedItemList)));
+
+		// then
+		verify(stockGateService).release(reservedItemList);
+		verifyNoInteractions(orderService);
+	}
+
+	@Test
+	@DisplayName("처리 중에 요청자가 시간이 지나 떠난 주문이 실패하면 배치가 게이트 재고를 되돌리고, 성공하면 그대로 둔다")
+	void given_orderTimedOutWhileProcessing_when_process_then_releaseOnlyFailedOrder() {
+		// given
+		final List<OrderItemDto> reservedItemList = orderCreateRequest.orderItemDtoList();
+		final OrderCreateCommand failedCommand = new OrderCreateCommand(1L, orderCreateRequest);
+		final OrderCreateCommand succeededCommand = new OrderCreateCommand(2L, orderCreateRequest);
+		final CompletableFuture<OrderCreateResponse> failedFuture = new CompletableFuture<>();
+		final CompletableFuture<OrderCreateResponse> succeededFuture = new CompletableFuture<>();
+		final OrderCreateResponse orderCreateResponse = OrderCreateResponse.builder().id(1L).memberId(2L).build();
+		given(orderService.createOrderList(List.of(failedCommand, succeededCommand))).willAnswer(invocation -> {
+			failedFuture.completeExceptionally(new InternalServerException(ORDER_BATCH_TIMEOUT_EXCEPTION));
+			succeededFuture.completeExceptionally(new InternalServerException(ORDER_BATCH_TIMEOUT_EXCEPTION));
+			return List.of(OrderBatchResult.fail(new ConflictException(ITEM_OPTION_OUT_OF_STOCK_EXCEPTION, 1L, 0)),
+				OrderBatchResult.success(orderCreateResponse));
+		});
+
+		// when
+		orderBatchProcessor.process(List.of(
+			new OrderBatchProcessor.PendingOrder(failedCommand, failedFuture, reservedItemList),
+			new OrderBatchProcessor.PendingOrder(succeededCommand, succeededFuture, reservedItemList)));
+
+		// then
+		verify(stockGateService, times(1)).release(reservedItemList);
+	}
+
+	@Test
+	@DisplayName("한 배치의 결과를 전달하다 예외가 나도 그 배치만 실패하고 다음 주문은 처리한다")
+	void given_brokenBatch_when_submit_then_nextBatchIsProcessed() {
+		// given
+		orderProperties.getBatch().setEnabled(true);
+		final OrderCreateResponse orderCreateResponse = OrderCreateResponse.builder().id(1L).memberId(1L).build();
+		given(orderService.createOrderList(anyList()))
+			.willReturn(List.of())
+			.willReturn(List.of(OrderBatchResult.success(orderCreateResponse)));
+		orderBatchProcessor.start();
+
+		// when & then
+		assertThatThrownBy(() -> orderBatchProcessor.submit(1L, orderCreateRequest, List.of()).join())
+			.isInstanceOf(CompletionException.class);
+		assertThat(orderBatchProcessor.submit(1L, orderCreateRequest, List.of()).join()).isEqualTo(orderCreateResponse);
+	}
+
+	@Test
+	@DisplayName("조건부 UPDATE 재고 차감과 주문 배치는 함께 켤 수 없다")
+	void given_conditionalUpdate_when_start_then_reject() {
+		// given
+		orderProperties.getBatch().setEnabled(true);
+		orderProperties.setStockStrategy(OrderProperties.StockStrategy.CONDITIONAL_UPDATE);
+
+		// when & then
+		assertThatThrownBy(() -> orderBatchProcessor.start())
+			.isInstanceOf(IllegalStateException.class);
+	}
+}
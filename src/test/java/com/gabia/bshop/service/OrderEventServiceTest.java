@@ -0,0 +1,106 @@
+package com.gabia.bshop.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.entity.OrderEvent;
+import com.gabia.bshop.entity.enumtype.OrderEventStatus;
+import com.gabia.bshop.entity.enumtype.OrderEventType;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+import com.gabia.bshop.event.OrderChangedEvent;
+import com.gabia.bshop.repository.OrderEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventServiceTest {
+
+	@Mock
+	private OrderEventRepository orderEventRepository;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@InjectMocks
+	private OrderEventService orderEventService;
+
+	@Test
+	@DisplayName("대기 중인 주문 이벤트를 리스너로 발행하고 발행 완료로 바꾼다")
+	void given_pendingOrderEvent_when_publishOrderEvent_then_publishAndMarkPublished() {
+		// given
+		OrderEvent orderEvent = OrderEvent.builder()
+			.id(1L)
+			.orderId(10L)
+			.memberId(100L)
+			.eventType(OrderEventType.CREATED)
+			.orderStatus(OrderStatus.ACCEPTED)
+			.payload("[{\"itemId\":1,\"itemOptionId\":2,\"orderCount\":3}]")
+			.build();
+		given(orderEventRepository.findByIdWithSkipLocked(1L)).willReturn(Optional.of(orderEvent));
+
+		// when
+		boolean published = orderEventService.publishOrderEvent(1L);
+
+		// then
+		Assertions.assertThat(published).isTrue();
+		Assertions.assertThat(orderEvent.getStatus()).isEqualTo(OrderEventStatus.PUBLISHED);
+		verify(applicationEventPublisher).publishEvent(new OrderChangedEvent(1L, 10L, 100L, OrderEventType.CREATED,
+			null, OrderStatus.ACCEPTED, List.of(new OrderItemDto(1L, 2L, 3))));
+	}
+
+	@Test
+	@DisplayName("다른 디스패처가 잡고 있는 주문 이벤트는 발행하지 않는다")
+	void given_lockedOrderEvent_when_publishOrderEvent_then_skip() {
+		// given
+		given(orderEventRepository.findByIdWithSkipLocked(1L)).willReturn(Optional.empty());
+
+		// when
+		boolean published = orderEventService.publishOrderEvent(1L);
+
+		// then
+		Assertions.assertThat(published).isFalse();
+		verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	@DisplayName("리스너가 최대 시도 횟수만큼 실패한 주문 이벤트는 FAILED 로 바꾼다")
+	void given_maxAttemptCount_when_failOrderEvent_then_markFailed() {
+		// given
+		orderProperties.getEvent().setMaxAttemptCount(1);
+		OrderEvent orderEvent = OrderEvent.builder()
+			.id(1L)
+			.orderId(10L)
+			.memberId(100L)
+			.eventType(OrderEventType.CANCELLED)
+			.orderStatus(OrderStatus.CANCELLED)
+			.payload("[]")
+			.build();
+		given(orderEventRepository.findById(1L)).willReturn(Optional.of(orderEvent));
+
+		// when
+		orderEventService.failOrderEvent(1L);
+
+		// then
+		Assertions.assertThat(orderEvent.getStatus()).isEqualTo(OrderEventStatus.FAILED);
+		Assertions.assertThat(orderEvent.getAttemptCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,91 @@
+package com.gabia.bshop.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderExportRow;
+import com.gabia.bshop.dto.request.OrderExportFormat;
+import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+import com.gabia.bshop.repository.OrderExportRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceTest {
+
+	private static final OrderExportRow ORDER_EXPORT_ROW = new OrderExportRow(1L, 2L, OrderStatus.ACCEPTED, 20000L,
+		LocalDateTime.of(2023, 3, 1, 12, 0, 30), 3L, 4L, 2, 10000L);
+
+	@Mock
+	private OrderExportRepository orderExportRepository;
+
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@InjectMocks
+	private OrderExportService orderExportService;
+
+	@Test
+	@DisplayName("CSV 로 내보내면 헤더 다음에 주문 상품이 한 줄씩 쓰인다")
+	void given_csv_when_export_then_writeHeaderAndRows() {
+		// given
+		OrderSearchConditions orderSearchConditions = new OrderSearchConditions(null, null);
+		willAnswer(invocation -> {
+			Consumer<OrderExportRow> rowConsumer = invocation.getArgument(2);
+			rowConsumer.accept(ORDER_EXPORT_ROW);
+			return null;
+		}).given(orderExportRepository).streamOrderExportRows(eq(orderSearchConditions), eq(false), any());
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		orderExportService.export(orderSearchConditions, OrderExportFormat.CSV, outputStream);
+
+		// then
+		Assertions.assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+			"orderId,memberId,status,totalPrice,createdAt,itemId,optionId,orderCount,price\n"
+				+ "1,2,ACCEPTED,20000,2023-03-01T12:00:30,3,4,2,10000\n");
+		verify(orderExportRepository, never()).streamOrderExportRows(any(), eq(true), any());
+	}
+
+	@Test
+	@DisplayName("NDJSON 으로 내보내면 보관된 주문부터 한 줄에 하나의 JSON 으로 쓰인다")
+	void given_ndjsonWithArchive_when_export_then_writeJsonLines() {
+		// given
+		orderProperties.getArchive().setEnabled(true);
+		OrderSearchConditions orderSearchConditions = new OrderSearchConditions(null, null);
+		willAnswer(invocation -> {
+			Consumer<OrderExportRow> rowConsumer = invocation.getArgument(2);
+			rowConsumer.accept(ORDER_EXPORT_ROW);
+			return null;
+		}).given(orderExportRepository).streamOrderExportRows(eq(orderSearchConditions), anyBoolean(), any());
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		// when
+		orderExportService.export(orderSearchConditions, OrderExportFormat.NDJSON, outputStream);
+
+		// then
+		String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		Assertions.assertThat(lines).hasSize(2);
+		Assertions.assertThat(lines[0]).startsWith("{\"orderId\":1,").contains("\"createdAt\":\"2023-03-01T12:00:30\"");
+	}
+}
@@ -0,0 +1,377 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.CartDto;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.request.OrderBulkUpdateStatusRequest;
+import com.gabia.bshop.dto.request.OrderCreateRequest;
+import com.gabia.bshop.dto.response.CartCheckoutLineResult;
+import com.gabia.bshop.dto.response.CartCheckoutResponse;
+import com.gabia.bshop.dto.response.OrderBulkUpdateStatusResponse;
+import com.gabia.bshop.dto.response.OrderCreateResponse;
+import com.gabia.bshop.dto.response.OrderStatusUpdateResult;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.exception.ConflictException;
+import com.gabia.bshop.exception.InternalServerException;
+
+@ExtendWith(MockitoExtension.class)
+class OrderFacadeTest {
+
+	private final Long memberId = 1L;
+	private final List<OrderItemDto> orderItemDtoList = List.of(
+		new OrderItemDto(1L, 1L, 2),
+		new OrderItemDto(2L, 2L, 1));
+	private final OrderCreateRequest orderCreateRequest = new OrderCreateRequest(orderItemDtoList);
+
+	@Mock
+	private OrderService orderService;
+
+	@Mock
+	private StockGateService stockGateService;
+
+	@Mock
+	private OrderBatchProcessor orderBatchProcessor;
+
+	@Mock
+	private OrderTicketService orderTicketService;
+
+	@Mock
+	private CartService cartService;
+
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@InjectMocks
+	private OrderFacade orderFacade;
+
+	@Test
+	@DisplayName("재고 게이트가 꺼져 있으면 Redis 재고를 건드리지 않는다")
+	void given_stockGateDisabled_when_createOrder_then_skipStockGate() {
+		// when
+		orderFacade.createOrder(memberId, orderCreateRequest);
+
+		// then
+		verify(orderService).createOrder(memberId, orderCreateRequest);
+		verify(stockGateService, never()).reserve(any());
+	}
+
+	@Test
+	@DisplayName("재고 게이트에서 거절되면 DB 트랜잭션을 열지 않는다")
+	void given_soldOut_when_createOrder_then_rejectBeforeTransaction() {
+		// given
+		given(stockGateService.isEnabled()).willReturn(true);
+		willThrow(new ConflictException(ITEM_OPTION_SOLD_OUT_EXCEPTION, 1L))
+			.given(stockGateService).reserve(orderItemDtoList);
+
+		// when & then
+		assertThatThrownBy(() -> orderFacade.createOrder(memberId, orderCreateRequest))
+			.isInstanceOf(ConflictException.class);
+		verifyNoInteractions(orderService);
+	}
+
+	@Test
+	@DisplayName("주문이 롤백되면 차감한 Redis 재고를 되돌린다")
+	void given_orderRollback_when_createOrder_then_releaseStock() {
+		// given
+		given(stockGateService.isEnabled()).willReturn(true);
+		given(stockGateService.reserve(orderItemDtoList)).willReturn(orderItemDtoList);
+		given(orderService.createOrder(memberId, orderCreateRequest))
+			.willThrow(new ConflictException(ITEM_STATUS_NOT_PUBLIC_EXCEPTION));
+
+		// when & then
+		assertThatThrownBy(() -> orderFacade.createOrder(memberId, orderCreateRequest))
+			.isInstanceOf(ConflictException.class);
+		verify(stockGateService).reserve(orderItemDtoList);
+		verify(stockGateService).release(orderItemDtoList);
+	}
+
+	@Test
+	@DisplayName("주문 배치가 켜져 있으면 배치 처리 결과를 기다려 돌려준다")
+	void given_batchEnabled_when_createOrder_then_waitBatchResult() {
+		// given
+		orderProperties.getBatch().setEnabled(true);
+		OrderCreateResponse orderCreateResponse = OrderCreateResponse.builder()
+			.id(1L)
+			.memberId(memberId)
+			.orderItemDtoList(orderItemDtoList)
+			.build();
+		given(orderBatchProcessor.submit(memberId, orderCreateRequest, List.of()))
+			.willReturn(CompletableFuture.completedFuture(orderCreateResponse));
+
+		// when
+		OrderCreateResponse response = orderFacade.createOrder(memberId, orderCreateRequest);
+
+		// then
+		assertThat(response).isEqualTo(orderCreateResponse);
+		verify(orderService, never()).createOrder(any(), any());
+	}
+
+	@Test
+	@DisplayName("배치에서 주문이 실패하면 원래 예외를 그대로 던지고 Redis 재고를 되돌린다")
+	void given_batchOrderFailed_when_createOrder_then_throwCauseAndReleaseStock() {
+		// given
+		given(stockGateService.isEnabled()).willReturn(true);
+		given(stockGateService.reserve(orderItemDtoList)).willReturn(orderItemDtoList);
+		orderProperties.getBatch().setEnabled(true);
+		given(orderBatchProcessor.submit(memberId, orderCreateRequest, orderItemDtoList))
+			.willReturn(CompletableFuture.failedFuture(new ConflictException(ITEM_OPTION_OUT_OF_STOCK_EXCEPTION, 1L, 0)));
+
+		// when & then
+		assertThatThrownBy(() -> orderFacade.createOrder(memberId, orderCreateRequest))
+			.isInstanceOf(ConflictException.class);
+		verify(stockGateService).release(orderItemDtoList);
+	}
+
+	@Test
+	@DisplayName("장바구니를 주문하면 주문할 수 있는 줄만 주문하고 그 줄만 장바구니에서 지운다")
+	void given_partiallyOrderableCart_when_checkoutCart_then_orderAndDeleteOrderedLines() {
+		// given
+		final List<CartDto> cartDtoList = List.of(new CartDto(1L, 1L, 2), new CartDto(2L, 2L, 1));
+		final List<OrderItemDto> orderedItemDtoList = List.of(new OrderItemDto(1L, 1L, 2));
+		final OrderCreateRequest orderedRequest = new OrderCreateRequest(orderedItemDtoList);
+		final OrderCreateResponse orderCreateResponse = OrderCreateResponse.builder()
+			.id(1L)
+			.memberId(memberId)
+			.orderItemDtoList(orderedItemDtoList)
+			.build();
+		given(cartService.findCartDtoList(memberId)).willReturn(cartDtoList);
+		given(cartService.checkCartCheckoutLineList(cartDtoList)).willReturn(List.of(
+			CartCheckoutLineResult.of(cartDtoList.get(0), CartCheckoutLineResult.Result.ORDERED),
+			CartCheckoutLineResult.of(cartDtoList.get(1), CartCheckoutLineResult.Result.OUT_OF_STOCK)));
+		given(orderService.createOrder(memberId, orderedRequest)).willReturn(orderCreateResponse);
+
+		// when
+		CartCheckoutResponse response = orderFacade.checkoutCart(memberId);
+
+		// then
+		assertThat(response.order()).isEqualTo(orderCreateResponse);
+		assertThat(response.lineResultList()).extracting(CartCheckoutLineResult::result)
+			.containsExactly(CartCheckoutLineResult.Result.ORDERED, CartCheckoutLineResult.Result.OUT_OF_STOCK);
+		verify(cartService).deleteOrderedCartList(memberId, orderedItemDtoList);
+	}
+
+	@Test
+	@DisplayName("다시 확인해도 빠지는 줄이 없는 거절은 되풀이하지 않고, 장바구니를 지우지 않는다")
+	void given_orderFailed_when_checkoutCart_then_keepCart() {
+		// given
+		final List<CartDto> cartDtoList = List.of(new CartDto(1L, 1L, 2), new CartDto(2L, 2L, 1));
+		given(cartService.findCartDtoList(memberId)).willReturn(cartDtoList);
+		given(cartService.checkCartCheckoutLineList(cartDtoList)).willReturn(cartDtoList.stream()
+			.map(cartDto -> CartCheckoutLineResult.of(cartDto, CartCheckoutLineResult.Result.ORDERED))
+			.toList());
+		given(orderService.createOrder(memberId, orderCreateRequest))
+			.willThrow(new ConflictException(ITEM_STATUS_NOT_PUBLIC_EXCEPTION));
+
+		// when & then
+		assertThatThrownBy(() -> orderFacade.checkoutCart(memberId))
+			.isInstanceOf(ConflictException.class);
+		verify(orderService, times(1)).createOrder(memberId, orderCreateRequest);
+		verify(cartService, times(2)).checkCartCheckoutLineList(cartDtoList);
+		verify(cartService, never()).deleteOrderedCartList(any(), any());
+	}
+
+	@Test
+	@DisplayName("확인한 뒤 재고가 바뀌어 주문이 거절되면 다시 확인해서 재고가 부족한 줄만 빼고 주문한다")
+	void given_stockChangedAfterCheck_when_checkoutCart_then_reportOutOfStockLine() {
+		// given
+		final List<CartDto> cartDtoList = List.of(new CartDto(1L, 1L, 2), new CartDto(2L, 2L, 1));
+		final List<OrderItemDto> orderedItemDtoList = List.of(new OrderItemDto(1L, 1L, 2));
+		final OrderCreateResponse orderCreateResponse = OrderCreateResponse.builder()
+			.id(1L)
+			.memberId(memberId)
+			.orderItemDtoList(orderedItemDtoList)
+			.build();
+		given(cartService.findCartDtoList(memberId)).willReturn(cartDtoList);
+		given(cartService.checkCartCheckoutLineList(cartDtoList)).willReturn(
+			cartDtoList.stream()
+				.map(cartDto -> CartCheckoutLineResult.of(cartDto, CartCheckoutLineResult.Result.ORDERED))
+				.toList(),
+			List.of(CartCheckoutLineResult.of(cartDtoList.get(0), CartCheckoutLineResult.Result.ORDERED),
+				CartCheckoutLineResult.of(cartDtoList.get(1), CartCheckoutLineResult.Result.OUT_OF_STOCK)));
+		given(orderService.createOrder(memberId, orderCreateRequest))
+			.willThrow(new ConflictException(ITEM_OPTION_OUT_OF_STOCK_EXCEPTION, 2L, 0));
+		given(orderService.createOrder(memberId, new OrderCreateRequest(orderedItemDtoList)))
+			.willReturn(orderCreateResponse);
+
+		// when
+		CartCheckoutResponse response = orderFacade.checkoutCart(memberId);
+
+		// then
+		assertThat(response.order()).isEqualTo(orderCreateResponse);
+		assertThat(response.lineResultList()).extracting(CartCheckoutLineResult::result)
+			.containsExactly(CartCheckoutLineResult.Result.ORDERED, CartCheckoutLineResult.Result.OUT_OF_STOCK);
+		verify(cartService).deleteOrderedCartList(memberId, orderedItemDtoList);
+	}
+
+	@Test
+	@DisplayName("배치 결과를 기다리는 시간이 지나면 무한정 기다리지 않고 예외를 던진다")
+	void given_batchTimeout_when_createOrder_then_throwTimeoutException() {
+		// given
+		orderProperties.getBatch().setEnabled(true);
+		given(orderBatchProcessor.submit(memberId, orderCreateRequest, List.of()))
+			.willReturn(new CompletableFuture<OrderCreateResponse>().orTimeout(1, TimeUnit.MILLISECONDS));
+
+		// when & then
+		assertThatThrownBy(() -> orderFacade.createOrder(memberId, orderCreateRequest))
+			.isInstanceOf(InternalServerException.class);
+	}
+
+	@Test
+	@DisplayName("배치 결과를 기다리다 시간이 지나면 배치가 주문을 커밋할 수 있으므로 Redis 재고를 되돌리지 않는다")
+	void given_batchTimeout_when_createOrder_then_keepReservedStock() {
+		// given
+		given(stockGateService.isEnabled()).willReturn(true);
+		given(stockGateService.reserve(orderItemDtoList)).willReturn(orderItemDtoList);
+		orderProperties.getBatch().setEnabled(true);
+		given(orderBatchProcessor.submit(memberId, orderCreateRequest, orderItemDtoList))
+			.willReturn(new CompletableFuture<OrderCreateResponse>().orTimeout(1, TimeUnit.MILLISECONDS));
+
+		// when & then
+		assertThatThrownBy(() -> orderFacade.createOrder(memberId, orderCreateRequest))
+			.isInstanceOf(InternalServerException.class);
+		verify(stockGateService, never()).release(any());
+	}
+
+	@Test
+	@DisplayName("비동기 접수가 꺼져 있으면 티켓을 만들지 않는다")
+	void given_ticketDisabled_when_createOrderTicket_then_reject() {
+		// when & then
+		assertThatThrownBy(() -> orderFacade.createOrderTicket(memberId, orderCreateRequest))
+			.isInstanceOf(InternalServerException.class);
+		verifyNoInteractions(orderTicketService);
+	}
+
+	@Test
+	@DisplayName("비동기 접수에서도 재고 게이트에서 거절되면 티켓을 만들지 않는다")
+	void given_soldOut_when_createOrderTicket_then_rejectBeforeTicket() {
+		// given
+		given(stockGateService.isEnabled()).willReturn(true);
+		orderProperties.getTicket().setEnabled(true);
+		willThrow(new ConflictException(ITEM_OPTION_SOLD_OUT_EXCEPTION, 1L))
+			.given(stockGateService).reserve(orderItemDtoList);
+
+		// when & then
+		assertThatThrownBy(() -> orderFacade.createOrderTicket(memberId, orderCreateRequest))
+			.isInstanceOf(ConflictException.class);
+		verifyNoInteractions(orderTicketService);
+	}
+
+	@Test
+	@DisplayName("주문을 취소하면 취소된 수량만큼 Redis 재고를 되돌린다")
+	void given_stockGateEnabled_when_cancelOrder_then_releaseStock() {
+		// given
+		given(orderService.cancelOrder(memberId, 1L)).willReturn(orderItemDtoList);
+
+		// when
+		orderFacade.cancelOrder(memberId, 1L);
+
+		// then
+		verify(stockGateService).releaseCancelled(orderItemDtoList);
+	}
+
+	@Test
+	@DisplayName("주문 상태 일괄 변경은 중복을 제거한 주문 ID를 chunk-size 만큼 나눠 변경한다")
+	void given_orderIdList_when_updateOrderStatusList_then_updateByChunk() {
+		// given
+		orderProperties.getStatusUpdate().setChunkSize(2);
+		OrderBulkUpdateStatusRequest orderBulkUpdateStatusRequest = OrderBulkUpdateStatusRequest.builder()
+			.orderIdList(List.of(1L, 2L, 2L, 3L))
+			.status(OrderStatus.COMPLETED)
+			.build();
+		given(orderService.updateOrderStatusList(List.of(1L, 2L), OrderStatus.COMPLETED)).willReturn(List.of(
+			new OrderStatusUpdateResult(1L, OrderStatusUpdateResult.Result.UPDATED),
+			new OrderStatusUpdateResult(2L, OrderStatusUpdateResult.Result.ALREADY_UPDATED)));
+		given(orderService.updateOrderStatusList(List.of(3L), OrderStatus.COMPLETED)).willReturn(List.of(
+			new OrderStatusUpdateResult(3L, OrderStatusUpdateResult.Result.UPDATED)));
+
+		// when
+		OrderBulkUpdateStatusResponse response = orderFacade.updateOrderStatusList(orderBulkUpdateStatusRequest);
+
+		// then
+		assertThat(response.updatedCount()).isEqualTo(2);
+		assertThat(response.resultList()).extracting(OrderStatusUpdateResult::orderId).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("주문 기간으로 고른 주문은 최대 개수까지만 변경하고 이어서 변경할 마지막 주문 ID를 돌려준다")
+	void given_dateRange_when_updateOrderStatusList_then_stopAtMaxOrderCount() {
+		// given
+		orderProperties.getStatusUpdate().setChunkSize(OrderBulkUpdateStatusRequest.MAX_ORDER_COUNT / 2);
+		OrderBulkUpdateStatusRequest orderBulkUpdateStatusRequest = createDateRangeRequest(null);
+		List<Long> firstOrderIdList = LongStream.rangeClosed(1, 5000).boxed().toList();
+		List<Long> secondOrderIdList = LongStream.rangeClosed(5001, 10000).boxed().toList();
+		given(orderService.findOrderIdListToUpdateStatus(any(), eq(null), eq(OrderStatus.COMPLETED), eq(null),
+			eq(5000))).willReturn(firstOrderIdList);
+		given(orderService.findOrderIdListToUpdateStatus(any(), eq(null), eq(OrderStatus.COMPLETED), eq(5000L),
+			eq(5000))).willReturn(secondOrderIdList);
+
+		// when
+		OrderBulkUpdateStatusResponse response = orderFacade.updateOrderStatusList(orderBulkUpdateStatusRequest);
+
+		// then
+		assertThat(response.nextLastOrderId()).isEqualTo(10000L);
+		verify(orderService, times(2)).findOrderIdListToUpdateStatus(any(), any(), any(), any(), anyInt());
+		verify(orderService, times(2)).updateOrderStatusList(any(), eq(OrderStatus.COMPLETED));
+	}
+
+	@Test
+	@DisplayName("주문 기간으로 고른 주문이 더 없으면 이어서 변경할 주문 ID를 돌려주지 않는다")
+	void given_lastOrderId_when_updateOrderStatusList_then_resumeAndFinish() {
+		// given
+		orderProperties.getStatusUpdate().setChunkSize(2);
+		OrderBulkUpdateStatusRequest orderBulkUpdateStatusRequest = createDateRangeRequest(10L);
+		given(orderService.findOrderIdListToUpdateStatus(any(), eq(null), eq(OrderStatus.COMPLETED), eq(10L),
+			eq(2))).willReturn(List.of(11L));
+		given(orderService.updateOrderStatusList(List.of(11L), OrderStatus.COMPLETED)).willReturn(List.of(
+			new OrderStatusUpdateResult(11L, OrderStatusUpdateResult.Result.UPDATED)));
+
+		// when
+		OrderBulkUpdateStatusResponse response = orderFacade.updateOrderStatusList(orderBulkUpdateStatusRequest);
+
+		// then
+		assertThat(response.updatedCount()).isEqualTo(1);
+		assertThat(response.nextLastOrderId()).isNull();
+	}
+
+	@Test
+	@DisplayName("주문 ID 목록도 주문 기간도 없으면 주문 상태 일괄 변경에 실패한다")
+	void given_noTarget_when_updateOrderStatusList_then_fail() {
+		// given
+		OrderBulkUpdateStatusRequest orderBulkUpdateStatusRequest = OrderBulkUpdateStatusRequest.builder()
+			.status(OrderStatus.COMPLETED)
+			.build();
+
+		// when & then
+		assertThatThrownBy(() -> orderFacade.updateOrderStatusList(orderBulkUpdateStatusRequest))
+			.isInstanceOf(BadRequestException.class);
+		verifyNoInteractions(orderService);
+	}
+
+	private OrderBulkUpdateStatusRequest createDateRangeRequest(final Long lastOrderId) {
+		return OrderBulkUpdateStatusRequest.builder()
+			.startDate(LocalDateTime.of(2023, 1, 1, 0, 0))
+			.endDate(LocalDateTime.of(2023, 1, 31, 0, 0))
+			.lastOrderId(lastOrderId)
+			.status(OrderStatus.COMPLETED)
+			.build();
+	}
+}
@@ -5,7 +5,9 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -13,14 +15,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderBatchResult;
+import com.gabia.bshop.dto.OrderCreateCommand;
+import com.gabia.bshop.dto.OrderCursor;
+import com.gabia.bshop.dto.OrderItemArchiveDto;
 import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.OrderItemSummaryDto;
+import com.gabia.bshop.dto.OrderStatusDto;
+import com.gabia.bshop.dto.OrderSummaryDto;
+import com.gabia.bshop.dto.request.CursorPageRequest;
 import com.gabia.bshop.dto.request.OrderCreateRequest;
 import com.gabia.bshop.dto.request.OrderUpdateStatusRequest;
+import com.gabia.bshop.dto.response.CursorPageResponse;
 import com.gabia.bshop.dto.response.OrderCreateResponse;
+import com.gabia.bshop.dto.response.OrderInfoPageResponse;
 import com.gabia.bshop.dto.response.OrderInfoResponse;
+import com.gabia.bshop.dto.response.OrderStatusUpdateResult;
 import com.gabia.bshop.dto.response.OrderUpdateStatusResponse;
+import com.gabia.bshop.dto.searchConditions.OrderSearchConditions;
 import com.gabia.bshop.entity.Category;
 import com.gabia.bshop.entity.Item;
 import com.gabia.bshop.entity.ItemOption;
@@ -30,8 +46,10 @@ import com.gabia.bshop.entity.OrderItem;
 import com.gabia.bshop.entity.enumtype.ItemStatus;
 import com.gabia.bshop.entity.enumtype.MemberGrade;
 import com.gabia.bshop.entity.enumtype.MemberRole;
+import com.gabia.bshop.entity.enumtype.OrderEventType;
 import com.gabia.bshop.entity.enumtype.OrderStatus;
 import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.exception.ConflictException;
 import com.gabia.bshop.fixture.CategoryFixture;
 import com.gabia.bshop.fixture.ItemFixture;
 import com.gabia.bshop.fixture.ItemOptionFixture;
@@ -62,6 +80,12 @@ class OrderServiceTest {
 	@Mock
 	private ItemOptionRepository itemOptionRepository;
 
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@Mock
+	private OrderEventService orderEventService;
+
 	@InjectMocks
 	private OrderService orderService;
 
@@ -223,6 +247,96 @@ class OrderServiceTest {
 			.isInstanceOf(BadRequestException.class);
 	}
 
+	@DisplayName("조건부_UPDATE_방식으로_주문을_생성한다.")
+	@Test
+	void createOrderWithConditionalUpdate() {
+		//given
+		orderProperties.setStockStrategy(OrderProperties.StockStrategy.CONDITIONAL_UPDATE);
+		Member member = MemberFixture.JENNA.getInstance(1L);
+		Category category = CategoryFixture.CATEGORY_1.getInstance(1L);
+		Item item1 = ItemFixture.ITEM_1.getInstance(1L, category);
+		ItemOption itemOption1 = ItemOptionFixture.ITEM_OPTION_1.getInstance(1L, item1);
+		int stockOrigin = itemOption1.getStockQuantity();
+
+		List<OrderItemDto> orderItemDtoList = List.of(new OrderItemDto(item1.getId(), itemOption1.getId(), 2));
+		OrderCreateRequest orderCreateRequest = OrderCreateRequest.builder()
+			.orderItemDtoList(orderItemDtoList)
+			.build();
+
+		when(itemOptionRepository.findAllByItemIdsAndItemOptionIds(orderItemDtoList)).thenReturn(
+			List.of(itemOption1));
+		when(itemOptionRepository.decreaseStockQuantity(item1.getId(), itemOption1.getId(), 2)).thenReturn(1);
+
+		//when
+		OrderCreateResponse returnDto = orderService.createOrder(member.getId(), orderCreateRequest);
+
+		//then
+		assertAll(
+			() -> assertEquals(orderItemDtoList, returnDto.orderItemDtoList()),
+			() -> assertEquals((item1.getBasePrice() + itemOption1.getOptionPrice()) * 2L, returnDto.totalPrice()),
+			() -> assertEquals(stockOrigin, itemOption1.getStockQuantity(), "재고는 UPDATE 문으로만 차감되어야 한다."),
+			() -> verify(itemOptionRepository, never()).findByItemIdListAndIdListWithLock(any())
+		);
+	}
+
+	@DisplayName("조건부_UPDATE로_차감된_행이_없으면_주문_생성에_실패한다.")
+	@Test
+	void createOrderWithConditionalUpdateFail() {
+		//given
+		orderProperties.setStockStrategy(OrderProperties.StockStrategy.CONDITIONAL_UPDATE);
+		Member member = MemberFixture.JENNA.getInstance(1L);
+		Category category = CategoryFixture.CATEGORY_1.getInstance(1L);
+		Item item1 = ItemFixture.ITEM_1.getInstance(1L, category);
+		ItemOption itemOption1 = ItemOptionFixture.ITEM_OPTION_1.getInstance(1L, item1);
+
+		List<OrderItemDto> orderItemDtoList = List.of(new OrderItemDto(item1.getId(), itemOption1.getId(), 2));
+		OrderCreateRequest orderCreateRequest = OrderCreateRequest.builder()
+			.orderItemDtoList(orderItemDtoList)
+			.build();
+
+		when(itemOptionRepository.findAllByItemIdsAndItemOptionIds(orderItemDtoList)).thenReturn(
+			List.of(itemOption1));
+		when(itemOptionRepository.decreaseStockQuantity(item1.getId(), itemOption1.getId(), 2)).thenReturn(0);
+
+		//when & then
+		Assertions.assertThatThrownBy(() -> orderService.createOrder(member.getId(), orderCreateRequest))
+			.isInstanceOf(ConflictException.class);
+		verify(orderRepository, never()).save(any());
+	}
+
+	@DisplayName("주문_배치에서_재고가_부족한_주문만_실패하고_나머지는_생성된다.")
+	@Test
+	void createOrderList() {
+		//given
+		Member member = MemberFixture.JENNA.getInstance(1L);
+		Category category = CategoryFixture.CATEGORY_1.getInstance(1L);
+		Item item1 = ItemFixture.ITEM_1.getInstance(1L, category);
+		ItemOption itemOption1 = ItemOptionFixture.ITEM_OPTION_1.getInstance(1L, item1);
+		int stockOrigin = itemOption1.getStockQuantity();
+
+		List<OrderCreateCommand> orderCreateCommandList = List.of(
+			new OrderCreateCommand(member.getId(), new OrderCreateRequest(
+				List.of(new OrderItemDto(item1.getId(), itemOption1.getId(), stockOrigin - 1)))),
+			new OrderCreateCommand(member.getId(), new OrderCreateRequest(
+				List.of(new OrderItemDto(item1.getId(), itemOption1.getId(), 2)))),
+			new OrderCreateCommand(member.getId(), new OrderCreateRequest(
+				List.of(new OrderItemDto(item1.getId(), itemOption1.getId(), 1)))));
+
+		when(itemOptionRepository.findByItemIdListAndIdListWithLock(any())).thenReturn(List.of(itemOption1));
+
+		//when
+		List<OrderBatchResult> orderBatchResultList = orderService.createOrderList(orderCreateCommandList);
+
+		//then
+		assertAll(
+			() -> assertTrue(orderBatchResultList.get(0).isSuccess()),
+			() -> assertInstanceOf(ConflictException.class, orderBatchResultList.get(1).exception()),
+			() -> assertTrue(orderBatchResultList.get(2).isSuccess()),
+			() -> assertEquals(0, itemOption1.getStockQuantity()),
+			() -> verify(itemOptionRepository, times(1)).findByItemIdListAndIdListWithLock(any())
+		);
+	}
+
 	@DisplayName("주문을_취소한다.")
 	@Test
 	void cancelOrder() {
@@ -286,7 +400,8 @@ class OrderServiceTest {
 		assertAll(
 			() -> assertEquals(15, itemOption1.getStockQuantity(), "주문을 취소하면 재고가 다시 추가되어야 한다."),
 			() -> assertEquals(OrderStatus.CANCELLED, order.getStatus(),
-				"주문을 취소하면 주문상태가 CANCELLED로 변경되어야 한다.")
+				"주문을 취소하면 주문상태가 CANCELLED로 변경되어야 한다."),
+			() -> verify(orderEventService).saveOrderEvent(OrderEventType.CANCELLED, order, OrderStatus.ACCEPTED)
 		);
 	}
 
@@ -314,6 +429,34 @@ class OrderServiceTest {
 		assertEquals(reqDto.status(), returnDto.status(), "주문 상태 변경에 성공한다.");
 	}
 
+	@DisplayName("주문_상태를_일괄_변경하면_이미_같은_상태인_주문과_없는_주문은_건너뛴다.")
+	@Test
+	void changeOrderStatusList() {
+		//given
+		List<Long> orderIdList = List.of(1L, 2L, 3L);
+		OrderStatusDto acceptedOrder = new OrderStatusDto(1L, 1L, OrderStatus.ACCEPTED);
+		OrderStatusDto completedOrder = new OrderStatusDto(2L, 1L, OrderStatus.COMPLETED);
+		when(orderRepository.findOrderStatusByIdInWithLock(orderIdList)).thenReturn(
+			List.of(acceptedOrder, completedOrder));
+		when(orderRepository.findOrderItemSummaryByOrderIdIn(List.of(1L))).thenReturn(
+			List.of(new OrderItemSummaryDto(1L, 1L, 1L, 2, "item", "thumbnail")));
+
+		//when
+		List<OrderStatusUpdateResult> resultList = orderService.updateOrderStatusList(orderIdList,
+			OrderStatus.COMPLETED);
+
+		//then
+		assertAll(
+			() -> Assertions.assertThat(resultList).containsExactly(
+				new OrderStatusUpdateResult(1L, OrderStatusUpdateResult.Result.UPDATED),
+				new OrderStatusUpdateResult(2L, OrderStatusUpdateResult.Result.ALREADY_UPDATED),
+				new OrderStatusUpdateResult(3L, OrderStatusUpdateResult.Result.NOT_FOUND)),
+			() -> verify(orderRepository).updateStatusByIdIn(List.of(1L), OrderStatus.COMPLETED),
+			() -> verify(orderEventService).saveStatusChangedEventList(List.of(acceptedOrder), OrderStatus.COMPLETED,
+				Map.of(1L, List.of(new OrderItemDto(1L, 1L, 2))))
+		);
+	}
+
 	@DisplayName("사용자는_본인의_주문이_아닐_경우_주문_단건_조회에_실패한다.")
 	@Test
 	void userFindSingleOrderFail() {
@@ -465,4 +608,97 @@ class OrderServiceTest {
 		//then
 		assertEquals(order.getId(), returnDto.orderId(), "관리자는 자신의 주문이 아니여도 단건 주문 조회에 성공한다.");
 	}
+
+	@DisplayName("보관된_주문도_주문_단건_조회에_성공한다.")
+	@Test
+	void userFindArchivedSingleOrder() {
+		//given
+		MemberPayload memberPayload = MemberPayload.builder()
+			.id(1L)
+			.role(MemberRole.NORMAL)
+			.build();
+		OrderSummaryDto orderSummaryDto = new OrderSummaryDto(1L, OrderStatus.COMPLETED, 10000,
+			LocalDateTime.of(2021, 1, 1, 0, 0));
+		OrderItemArchiveDto orderItemArchiveDto = new OrderItemArchiveDto(1L, 1L, 1L, "item", "description", 1,
+			10000, "thumbnail");
+
+		when(orderRepository.findByIdAndMemberId(1L, 1L)).thenReturn(Optional.empty());
+		when(orderRepository.findArchivedOrderSummary(1L, 1L)).thenReturn(Optional.of(orderSummaryDto));
+		when(orderRepository.findArchivedOrderItemList(1L)).thenReturn(List.of(orderItemArchiveDto));
+
+		//when
+		OrderInfoResponse returnDto = orderService.findOrderInfo(memberPayload, 1L);
+
+		//then
+		assertEquals(OrderStatus.COMPLETED, returnDto.orderStatus());
+		assertEquals(1, returnDto.orderItemList().size());
+		verify(orderItemRepository, never()).findWithOrderAndItemByOrderId(any());
+	}
+
+	@DisplayName("보관된_주문은_취소할_수_없다.")
+	@Test
+	void cancelArchivedOrderFail() {
+		//given
+		OrderSummaryDto orderSummaryDto = new OrderSummaryDto(1L, OrderStatus.ACCEPTED, 10000,
+			LocalDateTime.of(2021, 1, 1, 0, 0));
+
+		when(orderRepository.findByIdAndMemberId(1L, 1L)).thenReturn(Optional.empty());
+		when(orderRepository.findArchivedOrderSummary(1L, 1L)).thenReturn(Optional.of(orderSummaryDto));
+
+		//when & then
+		Assertions.assertThatThrownBy(() -> orderService.cancelOrder(1L, 1L))
+			.isInstanceOf(ConflictException.class);
+		verifyNoInteractions(orderEventService);
+	}
+
+	@DisplayName("커서_조회에서_페이지_크기만큼만_남아_있으면_다음_페이지가_없다.")
+	@Test
+	void findOrderInfoCursorListLastPage() {
+		//given
+		OrderSearchConditions orderSearchConditions = new OrderSearchConditions(null, null);
+		List<OrderSummaryDto> orderSummaryList = createOrderSummaryList(2);
+
+		when(orderRepository.findOrderSummaryBySearchConditionsAfterCursor(orderSearchConditions, 1L, null, 3))
+			.thenReturn(orderSummaryList);
+		when(orderRepository.findOrderItemSummaryByOrderIdIn(List.of(2L, 1L))).thenReturn(List.of());
+
+		//when
+		CursorPageResponse<OrderInfoPageResponse> returnDto = orderService.findOrderInfoCursorList(1L,
+			orderSearchConditions, new CursorPageRequest(null, 2, null));
+
+		//then
+		assertEquals(2, returnDto.contents().size());
+		assertFalse(returnDto.hasNext());
+		assertNull(returnDto.nextCursor());
+		assertNull(returnDto.totalCount());
+	}
+
+	@DisplayName("커서_조회에서_페이지_크기보다_한_건_더_있으면_마지막_주문을_다음_커서로_준다.")
+	@Test
+	void findOrderInfoCursorListHasNext() {
+		//given
+		OrderSearchConditions orderSearchConditions = new OrderSearchConditions(null, null);
+		List<OrderSummaryDto> orderSummaryList = createOrderSummaryList(3);
+
+		when(orderRepository.findOrderSummaryBySearchConditionsAfterCursor(orderSearchConditions, 1L, null, 3))
+			.thenReturn(orderSummaryList);
+		when(orderRepository.findOrderItemSummaryByOrderIdIn(List.of(3L, 2L))).thenReturn(List.of());
+
+		//when
+		CursorPageResponse<OrderInfoPageResponse> returnDto = orderService.findOrderInfoCursorList(1L,
+			orderSearchConditions, new CursorPageRequest(null, 2, null));
+
+		//then
+		assertEquals(2, returnDto.contents().size());
+		assertTrue(returnDto.hasNext());
+		assertEquals(OrderCursor.from(orderSummaryList.get(1)).encode(), returnDto.nextCursor());
+	}
+
+	// createdAt desc, id desc 순서로 정렬된 주문 목록
+	private List<OrderSummaryDto> createOrderSummaryList(final int count) {
+		LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 0, 0);
+		return LongStream.iterate(count, id -> id > 0, id -> id - 1)
+			.mapToObj(id -> new OrderSummaryDto(id, OrderStatus.ACCEPTED, 10000, createdAt.plusMinutes(id)))
+			.toList();
+	}
 }
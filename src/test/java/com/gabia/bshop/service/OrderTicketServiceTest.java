@@ -0,0 +1,161 @@
+package com.gabia.bshop.service;
+
+import static com.gabia.bshop.exception.ErrorCode.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.dto.request.OrderCreateRequest;
+import com.gabia.bshop.dto.response.OrderCreateResponse;
+import com.gabia.bshop.entity.OrderTicket;
+import com.gabia.bshop.entity.enumtype.OrderTicketStatus;
+import com.gabia.bshop.exception.ConflictException;
+import com.gabia.bshop.repository.OrderTicketRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OrderTicketServiceTest {
+
+	private final Long memberId = 1L;
+	private final OrderCreateRequest orderCreateRequest = new OrderCreateRequest(
+		List.of(new OrderItemDto(1L, 1L, 2)));
+
+	@Mock
+	private OrderTicketRepository orderTicketRepository;
+
+	@Mock
+	private OrderService orderService;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@InjectMocks
+	private OrderTicketService orderTicketService;
+
+	@Test
+	@DisplayName("접수된 티켓으로 주문을 만들고 티켓을 완료 처리한다")
+	void given_waitingTicket_when_completeOrderTicket_then_createOrder() throws Exception {
+		// given
+		OrderTicket orderTicket = createOrderTicket();
+		given(orderTicketRepository.findByIdWithSkipLocked(1L)).willReturn(Optional.of(orderTicket));
+		given(orderService.createOrder(memberId, orderCreateRequest))
+			.willReturn(OrderCreateResponse.builder().id(10L).build());
+
+		// when
+		boolean completed = orderTicketService.completeOrderTicket(1L);
+
+		// then
+		assertThat(completed).isTrue();
+		assertThat(orderTicket.getStatus()).isEqualTo(OrderTicketStatus.COMPLETED);
+		assertThat(orderTicket.getOrderId()).isEqualTo(10L);
+	}
+
+	@Test
+	@DisplayName("다른 컨슈머가 잡고 있는 티켓은 건너뛴다")
+	void given_lockedTicket_when_completeOrderTicket_then_skip() {
+		// given
+		given(orderTicketRepository.findByIdWithSkipLocked(1L)).willReturn(Optional.empty());
+
+		// when
+		boolean completed = orderTicketService.completeOrderTicket(1L);
+
+		// then
+		assertThat(completed).isFalse();
+		verifyNoInteractions(orderService);
+	}
+
+	@Test
+	@DisplayName("주문 생성에 실패하면 예외를 그대로 던지고 티켓은 대기 상태로 남는다")
+	void given_soldOut_when_completeOrderTicket_then_throw() throws Exception {
+		// given
+		OrderTicket orderTicket = createOrderTicket();
+		given(orderTicketRepository.findByIdWithSkipLocked(1L)).willReturn(Optional.of(orderTicket));
+		given(orderService.createOrder(memberId, orderCreateRequest))
+			.willThrow(new ConflictException(ITEM_OPTION_SOLD_OUT_EXCEPTION, 1L));
+
+		// when & then
+		assertThatThrownBy(() -> orderTicketService.completeOrderTicket(1L))
+			.isInstanceOf(ConflictException.class);
+		assertThat(orderTicket.isWaiting()).isTrue();
+	}
+
+	@Test
+	@DisplayName("실패 처리한 티켓의 주문 요청을 돌려준다")
+	void given_waitingTicket_when_failOrderTicket_then_returnRequest() throws Exception {
+		// given
+		OrderTicket orderTicket = createOrderTicket();
+		given(orderTicketRepository.findByIdWithSkipLocked(1L)).willReturn(Optional.of(orderTicket));
+
+		// when
+		Optional<OrderCreateRequest> failedRequest = orderTicketService.failOrderTicket(1L, "재고 부족");
+
+		// then
+		assertThat(failedRequest).contains(orderCreateRequest);
+		assertThat(orderTicket.getStatus()).isEqualTo(OrderTicketStatus.FAILED);
+		assertThat(orderTicket.getFailureMessage()).isEqualTo("재고 부족");
+	}
+
+	@Test
+	@DisplayName("일시적인 오류로 실패한 티켓은 최대 시도 횟수까지 미뤄서 다시 시도하고, 그 뒤에는 실패 처리한다")
+	void given_transientFailure_when_retryOrderTicket_then_stopAtMaxAttemptCount() throws Exception {
+		// given
+		orderProperties.getTicket().setMaxAttemptCount(2);
+		OrderTicket orderTicket = createOrderTicket();
+		given(orderTicketRepository.findByIdWithSkipLocked(1L)).willReturn(Optional.of(orderTicket));
+
+		// when
+		Optional<OrderCreateRequest> firstResult = orderTicketService.retryOrderTicket(1L);
+		Optional<OrderCreateRequest> secondResult = orderTicketService.retryOrderTicket(1L);
+
+		// then
+		assertThat(firstResult).isEmpty();
+		assertThat(secondResult).contains(orderCreateRequest);
+		assertThat(orderTicket.getAttemptCount()).isEqualTo(2);
+		assertThat(orderTicket.getStatus()).isEqualTo(OrderTicketStatus.FAILED);
+		assertThat(orderTicket.getFailureMessage()).isEqualTo(ORDER_TICKET_RETRY_EXHAUSTED_EXCEPTION.getMessage());
+	}
+
+	@Test
+	@DisplayName("일시적인 오류로 실패할 때마다 다음 시도까지 기다리는 시간을 두 배로 늘린다")
+	void given_transientFailure_when_retry_then_doubleBackoff() {
+		// given
+		OrderTicket orderTicket = OrderTicket.builder().id(1L).memberId(memberId).payload("{}").build();
+		LocalDateTime now = LocalDateTime.of(2023, 1, 1, 0, 0);
+		Duration backoff = Duration.ofSeconds(1);
+
+		// when
+		orderTicket.retry(5, backoff, "오류", now);
+		LocalDateTime firstNextAttemptAt = orderTicket.getNextAttemptAt();
+		orderTicket.retry(5, backoff, "오류", now);
+
+		// then
+		assertThat(firstNextAttemptAt).isEqualTo(now.plusSeconds(1));
+		assertThat(orderTicket.getNextAttemptAt()).isEqualTo(now.plusSeconds(2));
+		assertThat(orderTicket.isWaiting()).isTrue();
+	}
+
+	private OrderTicket createOrderTicket() throws Exception {
+		return OrderTicket.builder()
+			.id(1L)
+			.memberId(memberId)
+			.payload(objectMapper.writeValueAsString(orderCreateRequest))
+			.build();
+	}
+}
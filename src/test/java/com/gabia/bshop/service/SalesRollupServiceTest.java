@@ -0,0 +1,68 @@
+package com.gabia.bshop.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gabia.bshop.dto.response.SalesResponse;
+import com.gabia.bshop.dto.searchConditions.SalesSearchConditions;
+import com.gabia.bshop.entity.enumtype.OrderEventType;
+import com.gabia.bshop.entity.enumtype.OrderStatus;
+import com.gabia.bshop.event.OrderChangedEvent;
+import com.gabia.bshop.exception.BadRequestException;
+import com.gabia.bshop.repository.SalesDailyRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupServiceTest {
+
+	@Mock
+	private SalesDailyRepository salesDailyRepository;
+
+	@InjectMocks
+	private SalesRollupService salesRollupService;
+
+	@Test
+	@DisplayName("취소된 주문은 판매 수량과 금액을 빼도록 -1 을 곱해 반영한다")
+	void given_cancelledOrder_when_applyOrderSales_then_decrease() {
+		// when
+		salesRollupService.applyOrderSales(new OrderChangedEvent(1L, 1L, 1L, OrderEventType.CANCELLED,
+			OrderStatus.ACCEPTED, OrderStatus.CANCELLED, List.of()));
+
+		// then
+		verify(salesDailyRepository).increaseByOrderIdList(List.of(1L), -1);
+	}
+
+	@Test
+	@DisplayName("기간별 상품 판매 집계를 조회한다")
+	void given_dateRange_when_findItemSalesList_then_return_rollup() {
+		// given
+		LocalDate startDate = LocalDate.of(2023, 3, 1);
+		LocalDate endDate = LocalDate.of(2023, 3, 7);
+		List<SalesResponse> salesResponseList = List.of(new SalesResponse(1L, 3L, 30000L));
+		given(salesDailyRepository.findItemSalesList(startDate, endDate)).willReturn(salesResponseList);
+
+		// when
+		List<SalesResponse> result = salesRollupService.findItemSalesList(
+			new SalesSearchConditions(startDate, endDate));
+
+		// then
+		Assertions.assertThat(result).isEqualTo(salesResponseList);
+	}
+
+	@Test
+	@DisplayName("시작일이 종료일보다 늦으면 예외가 발생한다")
+	void given_invalidDateRange_when_findItemSalesList_then_throw_exception() {
+		Assertions.assertThatThrownBy(() -> salesRollupService.findItemSalesList(
+				new SalesSearchConditions(LocalDate.of(2023, 3, 7), LocalDate.of(2023, 3, 1))))
+			.isExactlyInstanceOf(BadRequestException.class);
+	}
+}
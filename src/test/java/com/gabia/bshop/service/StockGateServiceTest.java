@@ -0,0 +1,89 @@
+package com.gabia.bshop.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gabia.bshop.config.OrderProperties;
+import com.gabia.bshop.dto.OrderItemDto;
+import com.gabia.bshop.repository.ItemOptionRepository;
+import com.gabia.bshop.repository.ItemOptionStockRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StockGateServiceTest {
+
+	private final OrderItemDto flashSaleItem = new OrderItemDto(1L, 10L, 2);
+	private final OrderItemDto normalItem = new OrderItemDto(2L, 20L, 1);
+	private final List<OrderItemDto> orderItemDtoList = List.of(flashSaleItem, normalItem);
+
+	@Mock
+	private ItemOptionStockRepository itemOptionStockRepository;
+
+	@Mock
+	private ItemOptionRepository itemOptionRepository;
+
+	@Mock
+	private FlashSaleService flashSaleService;
+
+	@Spy
+	private OrderProperties orderProperties = new OrderProperties();
+
+	@InjectMocks
+	private StockGateService stockGateService;
+
+	@Test
+	@DisplayName("재고 게이트가 꺼져 있으면 플래시 세일 중인 상품의 옵션만 카운터에서 차감한다")
+	void given_mixedOrder_when_reserve_then_decreaseOnlyFlashSaleOption() {
+		// given
+		orderProperties.getFlashSale().setEnabled(true);
+		given(flashSaleService.findFlashSaleRemainingTimeMap(orderItemDtoList))
+			.willReturn(Map.of(1L, Duration.ofMinutes(10)));
+
+		// when
+		List<OrderItemDto> reservedItemList = stockGateService.reserve(orderItemDtoList);
+
+		// then
+		assertThat(reservedItemList).containsExactly(flashSaleItem);
+		verify(itemOptionStockRepository).decreaseAll(List.of(10L), List.of(2));
+	}
+
+	@Test
+	@DisplayName("플래시 세일 중인 상품이 없으면 카운터를 건드리지 않는다")
+	void given_noFlashSaleItem_when_reserve_then_skip() {
+		// given
+		orderProperties.getFlashSale().setEnabled(true);
+		given(flashSaleService.findFlashSaleRemainingTimeMap(orderItemDtoList)).willReturn(Map.of());
+
+		// when
+		List<OrderItemDto> reservedItemList = stockGateService.reserve(orderItemDtoList);
+
+		// then
+		assertThat(reservedItemList).isEmpty();
+		verifyNoInteractions(itemOptionStockRepository);
+	}
+
+	@Test
+	@DisplayName("주문을 취소하면 플래시 세일 표시와 관계없이 남아 있는 카운터에 되돌린다")
+	void given_flashSaleExpired_when_releaseCancelled_then_increaseRemainingCounter() {
+		// given
+		orderProperties.getFlashSale().setEnabled(true);
+
+		// when
+		stockGateService.releaseCancelled(orderItemDtoList);
+
+		// then
+		verify(itemOptionStockRepository).increaseAll(List.of(10L, 20L), List.of(2, 1));
+		verifyNoInteractions(flashSaleService);
+	}
+}
@@ -0,0 +1,43 @@
+package com.gabia.bshop.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.gabia.bshop.dto.OrderCursor;
+import com.gabia.bshop.exception.BadRequestException;
+
+class CursorCodecTest {
+
+	@Test
+	@DisplayName("인코딩한 커서를 다시 디코딩하면 같은 정렬 키가 나온다")
+	void given_orderCursor_when_encodeAndDecode_then_sameCursor() {
+		// given
+		OrderCursor orderCursor = new OrderCursor(LocalDateTime.of(2023, 2, 1, 12, 30, 15, 123_000_000), 42L);
+
+		// when
+		OrderCursor decoded = OrderCursor.decode(orderCursor.encode());
+
+		// then
+		assertThat(decoded).isEqualTo(orderCursor);
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 첫 페이지로 본다")
+	void given_emptyCursor_when_decode_then_null() {
+		assertThat(OrderCursor.decode(null)).isNull();
+		assertThat(OrderCursor.decode("")).isNull();
+	}
+
+	@Test
+	@DisplayName("형식이 맞지 않는 커서는 예외가 발생한다")
+	void given_invalidCursor_when_decode_then_throw_exception() {
+		assertThatThrownBy(() -> OrderCursor.decode("not-a-cursor!"))
+			.isExactlyInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> OrderCursor.decode(CursorCodec.encode("2023-02-01T12:30:15", "abc")))
+			.isExactlyInstanceOf(BadRequestException.class);
+	}
+}
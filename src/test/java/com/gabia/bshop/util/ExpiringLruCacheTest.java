@@ -0,0 +1,38 @@
+package com.gabia.bshop.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+
+	@Test
+	@DisplayName("가득 차면 가장 오래 쓰이지 않은 항목부터 버린다")
+	void given_fullCache_when_put_then_removeLeastRecentlyUsed() {
+		// given
+		ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(2, 60_000L);
+		cache.put(1L, "first");
+		cache.put(2L, "second");
+		cache.get(1L);
+
+		// when
+		cache.put(3L, "third");
+
+		// then
+		Assertions.assertThat(cache.get(1L)).isEqualTo("first");
+		Assertions.assertThat(cache.get(2L)).isNull();
+		Assertions.assertThat(cache.get(3L)).isEqualTo("third");
+	}
+
+	@Test
+	@DisplayName("보관 시간이 지난 항목은 조회되지 않는다")
+	void given_expiredEntry_when_get_then_null() {
+		// given
+		ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(2, 0L);
+		cache.put(1L, "first");
+
+		// when & then
+		Assertions.assertThat(cache.get(1L)).isNull();
+		Assertions.assertThat(cache.size()).isZero();
+	}
+}
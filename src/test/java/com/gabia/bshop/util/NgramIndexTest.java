@@ -0,0 +1,68 @@
+package com.gabia.bshop.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NgramIndexTest {
+
+	@Test
+	@DisplayName("단어 중간의 한글 부분 문자열로도 찾고, 띄어쓰기는 LIKE 검색처럼 그대로 비교한다")
+	void given_koreanName_when_searchPartialTerm_then_found() {
+		// given
+		NgramIndex ngramIndex = new NgramIndex();
+		ngramIndex.put(1L, "가벼운 러닝 운동화", "매일 신기 좋은 신발");
+		ngramIndex.put(2L, "겨울 패딩", "따뜻한 외투");
+
+		// when & then
+		assertThat(ngramIndex.search("닝 운동", 10)).containsExactly(1L);
+		assertThat(ngramIndex.search("러닝 운동화", 10)).containsExactly(1L);
+		assertThat(ngramIndex.search("러닝운동화", 10)).isEmpty();
+		assertThat(ngramIndex.search("운동복", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("설명에만 포함된 상품은 찾지 않고, 이름이 검색어로 시작하는 상품이 더 앞선다")
+	void given_matchedDocuments_when_search_then_rankByRelevance() {
+		// given
+		NgramIndex ngramIndex = new NgramIndex();
+		ngramIndex.put(1L, "양말", "운동화와 잘 어울리는 양말");
+		ngramIndex.put(2L, "러닝 운동화", "가벼운 신발");
+		ngramIndex.put(3L, "운동화 끈", "교체용");
+
+		// when & then
+		assertThat(ngramIndex.search("운동화", 10)).containsExactly(3L, 2L);
+	}
+
+	@Test
+	@DisplayName("이름이 같은 정도로 맞으면 설명에도 포함된 상품이 더 앞선다")
+	void given_sameNameMatch_when_search_then_rankByDescription() {
+		// given
+		NgramIndex ngramIndex = new NgramIndex();
+		ngramIndex.put(1L, "러닝 운동화", "가벼운 신발");
+		ngramIndex.put(2L, "워킹 운동화", "편한 운동화");
+
+		// when & then
+		assertThat(ngramIndex.search("운동화", 10)).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("지우거나 다시 넣은 문서는 예전 내용으로 검색되지 않는다")
+	void given_updatedDocument_when_search_then_useLatest() {
+		// given
+		NgramIndex ngramIndex = new NgramIndex();
+		ngramIndex.put(1L, "겨울 패딩", "");
+		ngramIndex.put(2L, "여름 반팔", "");
+
+		// when
+		ngramIndex.put(1L, "봄 자켓", "");
+		ngramIndex.remove(2L);
+
+		// then
+		assertThat(ngramIndex.search("패딩", 10)).isEmpty();
+		assertThat(ngramIndex.search("자켓", 10)).containsExactly(1L);
+		assertThat(ngramIndex.search("반팔", 10)).isEmpty();
+		assertThat(ngramIndex.size()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,151 @@
+package com.gabia.bshop.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gabia.bshop.config.PageCountProperties;
+import com.gabia.bshop.config.PageCountProperties.CountMode;
+import com.gabia.bshop.dto.CountedPage;
+
+@ExtendWith(MockitoExtension.class)
+class PageCountSupportTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private PageCountProperties pageCountProperties;
+	private PageCountSupport pageCountSupport;
+
+	private final AtomicLong countQueryCount = new AtomicLong();
+	private final LongSupplier countQuery = () -> {
+		countQueryCount.incrementAndGet();
+		return 100L;
+	};
+
+	@BeforeEach
+	void setUp() {
+		pageCountProperties = new PageCountProperties();
+		pageCountSupport = new PageCountSupport(jdbcTemplate, pageCountProperties);
+	}
+
+	@Test
+	@DisplayName("EXACT 방식은 매번 count 쿼리로 정확한 개수를 구한다")
+	void given_exactMode_when_getPage_then_countEveryTime() {
+		// when
+		Page<Integer> page = getPage("items", "conditions");
+		getPage("items", "conditions");
+
+		// then
+		assertThat(page.getTotalElements()).isEqualTo(100L);
+		assertThat(((CountedPage<Integer>)page).isApproximateTotal()).isFalse();
+		assertThat(countQueryCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("CACHED 방식은 같은 검색 조건의 개수를 TTL 동안 재사용하고 조건이 다르면 다시 센다")
+	void given_cachedMode_when_getPage_then_reuseCountBySearchConditions() {
+		// given
+		pageCountProperties.setModes(Map.of("items", CountMode.CACHED));
+
+		// when
+		Page<Integer> page = getPage("items", "conditions");
+		getPage("items", "conditions");
+		getPage("items", "other-conditions");
+
+		// then
+		assertThat(page.getTotalElements()).isEqualTo(100L);
+		assertThat(((CountedPage<Integer>)page).isApproximateTotal()).isTrue();
+		assertThat(countQueryCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("CACHED 방식은 해시 값이 같아도 검색 조건이 다르면 개수를 따로 센다")
+	void given_cachedModeAndSameHashCode_when_getPage_then_countSeparately() {
+		// given
+		pageCountProperties.setModes(Map.of("items", CountMode.CACHED));
+		assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+		// when
+		getPage("items", "Aa");
+		getPage("items", "BB");
+
+		// then
+		assertThat(countQueryCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("ESTIMATED 방식은 조건이 없으면 테이블 통계를 쓰고, 조건이 있으면 count 쿼리를 캐시해서 쓴다")
+	void given_estimatedMode_when_getPage_then_useTableStatistics() {
+		// given
+		pageCountProperties.setModes(Map.of("admin-items", CountMode.ESTIMATED));
+		given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("item"))).willReturn(9_000L);
+
+		// when
+		Page<Integer> estimatedPage = pageCountSupport.getPage(List.of(1, 2), PageRequest.of(0, 2), "admin-items",
+			null, "item", countQuery);
+		Page<Integer> filteredPage = pageCountSupport.getPage(List.of(1, 2), PageRequest.of(0, 2), "admin-items",
+			"conditions", null, countQuery);
+
+		// then
+		assertThat(estimatedPage.getTotalElements()).isEqualTo(9_000L);
+		assertThat(((CountedPage<Integer>)estimatedPage).isApproximateTotal()).isTrue();
+		assertThat(filteredPage.getTotalElements()).isEqualTo(100L);
+		assertThat(countQueryCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("목록 일부의 개수도 목록에 설정한 방식을 따르고, 캐시는 목록 전체의 개수와 따로 둔다")
+	void given_cachedMode_when_getCount_then_reuseCountByPartName() {
+		// given
+		pageCountProperties.setModes(Map.of("admin-orders", CountMode.CACHED, "orders", CountMode.EXACT));
+
+		// when
+		long archiveCount = pageCountSupport.getCount("admin-orders", "archive", "conditions", countQuery);
+		pageCountSupport.getCount("admin-orders", "archive", "conditions", countQuery);
+		pageCountSupport.getCount("admin-orders", "live", "conditions", countQuery);
+		pageCountSupport.getCount("orders", "archive", "conditions", countQuery);
+		pageCountSupport.getCount("orders", "archive", "conditions", countQuery);
+
+		// then
+		assertThat(archiveCount).isEqualTo(100L);
+		assertThat(countQueryCount.get()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("첫 페이지가 페이지 크기보다 작으면 count 없이 정확한 개수를 돌려주고, map 후에도 표시가 유지된다")
+	void given_lastPage_when_getPage_then_skipCount() {
+		// given
+		pageCountProperties.setModes(Map.of("items", CountMode.CACHED));
+
+		// when
+		Page<String> page = pageCountSupport.getPage(List.of(1, 2), PageRequest.of(0, 10), "items",
+			"conditions", null, countQuery).map(String::valueOf);
+
+		// then
+		assertThat(page).isInstanceOf(CountedPage.class);
+		assertThat(page.getTotalElements()).isEqualTo(2L);
+		assertThat(((CountedPage<String>)page).isApproximateTotal()).isFalse();
+		assertThat(countQueryCount.get()).isZero();
+	}
+
+	private Page<Integer> getPage(final String listName, final Object searchConditions) {
+		return pageCountSupport.getPage(List.of(1, 2), PageRequest.of(0, 2), listName, searchConditions, null,
+			countQuery);
+	}
+}